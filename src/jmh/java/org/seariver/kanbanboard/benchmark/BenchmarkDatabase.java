@@ -0,0 +1,52 @@
+package org.seariver.kanbanboard.benchmark;
+
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.flywaydb.core.Flyway;
+
+import javax.sql.DataSource;
+import java.util.Optional;
+
+/**
+ * The database repository benchmarks run against: a private in-memory H2 in PostgreSQL mode by default, or the
+ * database at {@code BENCHMARK_JDBC_URL} with {@code BENCHMARK_JDBC_USERNAME} and {@code BENCHMARK_JDBC_PASSWORD}.
+ * <p>
+ * Environment variables rather than system properties, so they reach the JVMs JMH forks. A configured database is
+ * migrated with Flyway and its buckets and cards are replaced by the seeded board, so it must be a throwaway one.
+ */
+public final class BenchmarkDatabase {
+
+    private static final String H2_URL = "jdbc:h2:mem:REPOSITORY_BENCHMARK;" +
+            "MODE=PostgreSQL;" +
+            "DB_CLOSE_DELAY=-1;" +
+            "INIT=RUNSCRIPT FROM 'src/main/resources/db/migration/V001__Initial_setup.sql'\\;" +
+            "RUNSCRIPT FROM 'src/main/resources/db/migration/V003__Archived_card.sql'\\;";
+
+    private BenchmarkDatabase() {
+    }
+
+    public static DataSource create(int poolSize) {
+
+        var url = Optional.ofNullable(System.getenv("BENCHMARK_JDBC_URL"));
+
+        var dataSource = new BasicDataSource();
+        dataSource.setUrl(url.orElse(H2_URL));
+        dataSource.setUsername(System.getenv("BENCHMARK_JDBC_USERNAME"));
+        dataSource.setPassword(System.getenv("BENCHMARK_JDBC_PASSWORD"));
+        dataSource.setMaxTotal(poolSize);
+        dataSource.setMaxIdle(poolSize);
+
+        if (url.isPresent()) {
+            Flyway.configure()
+                    .dataSource(dataSource)
+                    .locations("classpath:db/migration")
+                    .load()
+                    .migrate();
+        }
+
+        return dataSource;
+    }
+
+    public static boolean isH2(DataSource dataSource) {
+        return ((BasicDataSource) dataSource).getUrl().startsWith("jdbc:h2:");
+    }
+}
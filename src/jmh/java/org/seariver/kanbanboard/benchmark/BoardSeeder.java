@@ -0,0 +1,121 @@
+package org.seariver.kanbanboard.benchmark;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Fills {@code bucket} and {@code card} with a board of a given size using plain JDBC batches.
+ * <p>
+ * Every value is derived from the row index, so a million cards load in seconds and benchmarks can address any
+ * card by index through {@link #cardExternalId(long)} without keeping the ids around. Card positions run from
+ * {@code 1} to {@code cards}, new cards must be placed above that.
+ */
+public class BoardSeeder {
+
+    public static final int BUCKETS = 10;
+
+    private static final long BUCKET_ID_PREFIX = 0x6275636b6574L;
+    private static final long CARD_ID_PREFIX = 0x63617264L;
+    private static final int BATCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean h2;
+
+    public BoardSeeder(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.h2 = BenchmarkDatabase.isH2(dataSource);
+    }
+
+    public static UUID bucketExternalId(long index) {
+        return new UUID(BUCKET_ID_PREFIX, index);
+    }
+
+    public static UUID cardExternalId(long index) {
+        return new UUID(CARD_ID_PREFIX, index);
+    }
+
+    /**
+     * Replaces the board unless one with exactly this many cards is already there, which saves reseeding a
+     * configured database between runs.
+     */
+    public void seed(int cards) {
+
+        var existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM card", Long.class);
+
+        if (existing == cards && findBucketIds().size() == BUCKETS) {
+            return;
+        }
+
+        if (h2) {
+            jdbcTemplate.execute("DELETE FROM card");
+            jdbcTemplate.execute("DELETE FROM bucket");
+        } else {
+            jdbcTemplate.execute("TRUNCATE card, bucket CASCADE");
+        }
+
+        jdbcTemplate.batchUpdate("INSERT INTO bucket (external_id, position, name) VALUES (?, ?, ?)",
+                new Rows(BUCKETS) {
+                    @Override
+                    void set(PreparedStatement statement, long index) throws SQLException {
+                        statement.setObject(1, bucketExternalId(index));
+                        statement.setDouble(2, index + 1);
+                        statement.setString(3, "BUCKET-" + index);
+                    }
+                });
+
+        var bucketIds = findBucketIds();
+
+        for (var offset = 0; offset < cards; offset += BATCH_SIZE) {
+
+            var first = offset;
+
+            jdbcTemplate.batchUpdate("INSERT INTO card (bucket_id, external_id, position, name) VALUES (?, ?, ?, ?)",
+                    new Rows(Math.min(BATCH_SIZE, cards - first)) {
+                        @Override
+                        void set(PreparedStatement statement, long batchIndex) throws SQLException {
+                            var index = first + batchIndex;
+                            statement.setLong(1, bucketIds.get((int) (index % BUCKETS)));
+                            statement.setObject(2, cardExternalId(index));
+                            statement.setDouble(3, index + 1);
+                            statement.setString(4, "CARD-" + index);
+                        }
+                    });
+        }
+
+        if (!h2) {
+            jdbcTemplate.execute("ANALYZE bucket");
+            jdbcTemplate.execute("ANALYZE card");
+        }
+    }
+
+    public List<Long> findBucketIds() {
+        return jdbcTemplate.queryForList("SELECT id FROM bucket ORDER BY position", Long.class);
+    }
+
+    private abstract static class Rows implements BatchPreparedStatementSetter {
+
+        private final int size;
+
+        Rows(int size) {
+            this.size = size;
+        }
+
+        abstract void set(PreparedStatement statement, long index) throws SQLException;
+
+        @Override
+        public void setValues(PreparedStatement statement, int index) throws SQLException {
+            set(statement, index);
+        }
+
+        @Override
+        public int getBatchSize() {
+            return size;
+        }
+    }
+}
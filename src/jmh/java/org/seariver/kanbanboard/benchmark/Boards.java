@@ -0,0 +1,39 @@
+package org.seariver.kanbanboard.benchmark;
+
+import org.seariver.kanbanboard.read.application.domain.BucketDto;
+import org.seariver.kanbanboard.read.application.domain.CardDto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic board shapes for benchmarks, seeded so every run and release measures the same data.
+ */
+public final class Boards {
+
+    private Boards() {
+    }
+
+    public static List<BucketDto> of(int buckets, int cardsPerBucket) {
+
+        var random = new Random(buckets * 31L + cardsPerBucket);
+        List<BucketDto> board = new ArrayList<>(buckets);
+
+        for (var bucketIndex = 0; bucketIndex < buckets; bucketIndex++) {
+
+            var bucketId = new UUID(random.nextLong(), random.nextLong());
+            var bucket = new BucketDto(bucketId, bucketIndex + 1, "BUCKET-" + bucketIndex);
+
+            for (var cardIndex = 0; cardIndex < cardsPerBucket; cardIndex++) {
+                bucket.addCard(new CardDto(new UUID(random.nextLong(), random.nextLong()), cardIndex + 1,
+                        "CARD-" + bucketIndex + "-" + cardIndex));
+            }
+
+            board.add(bucket);
+        }
+
+        return board;
+    }
+}
@@ -0,0 +1,101 @@
+package org.seariver.kanbanboard.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.seariver.kanbanboard.read.application.service.ListArchivedCardQuery;
+import org.seariver.kanbanboard.write.application.service.CreateBucketCommand;
+import org.seariver.kanbanboard.write.application.service.CreateCardCommand;
+import org.seariver.kanbanboard.write.application.service.DeleteBucketCommand;
+import org.seariver.kanbanboard.write.application.service.DeleteCardCommand;
+import org.seariver.kanbanboard.write.application.service.MoveBucketCommand;
+import org.seariver.kanbanboard.write.application.service.ReorderBucketCommand;
+import org.seariver.kanbanboard.write.application.service.ReorderCardCommand;
+import org.seariver.kanbanboard.write.application.service.UpdateBucketCommand;
+import org.seariver.kanbanboard.write.application.service.UpdateCardCommand;
+
+import javax.validation.ConstraintViolationException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construction of every {@code SelfValidating} command and query, which runs Bean Validation in the constructor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CommandValidationBenchmark {
+
+    private final String bucketId = UUID.randomUUID().toString();
+    private final String cardId = UUID.randomUUID().toString();
+    private final List<String> ids = List.of(bucketId, cardId, UUID.randomUUID().toString());
+
+    @Benchmark
+    public Object createBucket() {
+        return new CreateBucketCommand(bucketId, 1.5, "TODO");
+    }
+
+    @Benchmark
+    public Object updateBucket() {
+        return new UpdateBucketCommand(bucketId, "DOING");
+    }
+
+    @Benchmark
+    public Object moveBucket() {
+        return new MoveBucketCommand(bucketId, 2.5);
+    }
+
+    @Benchmark
+    public Object reorderBucket() {
+        return new ReorderBucketCommand(ids);
+    }
+
+    @Benchmark
+    public Object deleteBucket() {
+        return new DeleteBucketCommand(bucketId, true);
+    }
+
+    @Benchmark
+    public Object createCard() {
+        return new CreateCardCommand(bucketId, cardId, 1.5, "Write benchmarks");
+    }
+
+    @Benchmark
+    public Object updateCard() {
+        return new UpdateCardCommand(cardId, "Write benchmarks", "With JMH");
+    }
+
+    @Benchmark
+    public Object reorderCard() {
+        return new ReorderCardCommand(bucketId, ids);
+    }
+
+    @Benchmark
+    public Object deleteCard() {
+        return new DeleteCardCommand(cardId, false);
+    }
+
+    @Benchmark
+    public Object listArchivedCard() {
+        return new ListArchivedCardQuery(bucketId, null, 50);
+    }
+
+    @Benchmark
+    public Object invalidCreateBucket() {
+        try {
+            return new CreateBucketCommand("not-an-uuid", -1, "");
+        } catch (ConstraintViolationException exception) {
+            return exception;
+        }
+    }
+}
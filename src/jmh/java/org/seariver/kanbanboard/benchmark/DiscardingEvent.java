@@ -0,0 +1,45 @@
+package org.seariver.kanbanboard.benchmark;
+
+import javax.enterprise.event.Event;
+import javax.enterprise.event.NotificationOptions;
+import javax.enterprise.util.TypeLiteral;
+import java.lang.annotation.Annotation;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Stands in for the CDI event bus outside the container, so no listener cost is measured.
+ */
+public class DiscardingEvent<T> implements Event<T> {
+
+    @Override
+    public void fire(T event) {
+    }
+
+    @Override
+    public <U extends T> CompletionStage<U> fireAsync(U event) {
+        return CompletableFuture.completedFuture(event);
+    }
+
+    @Override
+    public <U extends T> CompletionStage<U> fireAsync(U event, NotificationOptions options) {
+        return CompletableFuture.completedFuture(event);
+    }
+
+    @Override
+    public Event<T> select(Annotation... qualifiers) {
+        return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <U extends T> Event<U> select(Class<U> subtype, Annotation... qualifiers) {
+        return (Event<U>) this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <U extends T> Event<U> select(TypeLiteral<U> subtype, Annotation... qualifiers) {
+        return (Event<U>) this;
+    }
+}
@@ -0,0 +1,68 @@
+package org.seariver.kanbanboard.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.seariver.kanbanboard.read.application.domain.BucketDto;
+import org.seariver.kanbanboard.write.application.service.CreateCardCommand;
+import org.seariver.kanbanboard.write.observable.CommandEvent;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON rendering of a {@link CommandEvent} log record and of {@link BucketDto} boards of growing size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventSerializationBenchmark {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private CommandEvent event;
+
+    @Setup
+    public void setUp() {
+        event = new CommandEvent(new CreateCardCommand(
+                UUID.randomUUID().toString(), UUID.randomUUID().toString(), 1.5, "Write benchmarks"));
+        event.stopTimer();
+    }
+
+    @Benchmark
+    public String commandEventToJson() {
+        return event.toJson();
+    }
+
+    @Benchmark
+    public byte[] bucketDtoBoard(Board board) throws JsonProcessingException {
+        return mapper.writeValueAsBytes(board.buckets);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Board {
+
+        @Param({"1", "10", "100", "1000"})
+        private int cardsPerBucket;
+
+        private List<BucketDto> buckets;
+
+        @Setup
+        public void setUp() {
+            buckets = Boards.of(5, cardsPerBucket);
+        }
+    }
+}
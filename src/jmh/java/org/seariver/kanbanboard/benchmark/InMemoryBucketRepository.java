@@ -0,0 +1,60 @@
+package org.seariver.kanbanboard.benchmark;
+
+import org.seariver.kanbanboard.write.application.domain.Bucket;
+import org.seariver.kanbanboard.write.application.domain.WriteBucketRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps buckets in a map so benchmarks measure the pipeline around the repository, not the database.
+ */
+public class InMemoryBucketRepository implements WriteBucketRepository {
+
+    private final Map<UUID, Bucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong ids = new AtomicLong();
+
+    @Override
+    public void create(Bucket bucket) {
+        bucket.setId(ids.incrementAndGet());
+        buckets.put(bucket.getBucketExternalId(), bucket);
+    }
+
+    @Override
+    public void update(Bucket bucket) {
+        buckets.put(bucket.getBucketExternalId(), bucket);
+    }
+
+    @Override
+    public Optional<Bucket> findByExternalId(UUID externalId) {
+        return Optional.ofNullable(buckets.get(externalId));
+    }
+
+    @Override
+    public List<Bucket> findByExternalIdOrPosition(UUID externalId, double position) {
+        return buckets.values().stream()
+                .filter(bucket -> bucket.getBucketExternalId().equals(externalId) || bucket.getPosition() == position)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Bucket> findAll() {
+        return new ArrayList<>(buckets.values());
+    }
+
+    @Override
+    public void updatePositions(List<Bucket> buckets) {
+        buckets.forEach(this::update);
+    }
+
+    @Override
+    public void delete(Long id) {
+        buckets.values().removeIf(bucket -> bucket.getId().equals(id));
+    }
+}
@@ -0,0 +1,98 @@
+package org.seariver.kanbanboard.benchmark;
+
+import org.seariver.kanbanboard.write.application.domain.Card;
+import org.seariver.kanbanboard.write.application.domain.WriteCardRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps cards in a map so benchmarks measure the pipeline around the repository, not the database.
+ */
+public class InMemoryCardRepository implements WriteCardRepository {
+
+    private final Map<UUID, Card> cards = new ConcurrentHashMap<>();
+    private final AtomicLong ids = new AtomicLong();
+
+    @Override
+    public void create(Card card) {
+        card.setId(ids.incrementAndGet());
+        cards.put(card.getCardExternalId(), card);
+    }
+
+    @Override
+    public Optional<Card> findByExternalId(UUID externalId) {
+        return Optional.ofNullable(cards.get(externalId));
+    }
+
+    @Override
+    public void update(Card card) {
+        cards.put(card.getCardExternalId(), card);
+    }
+
+    @Override
+    public void updateContent(List<Card> cards) {
+        cards.forEach(this::update);
+    }
+
+    @Override
+    public List<Card> findByBucketId(Long bucketId) {
+        return cards.values().stream()
+                .filter(card -> card.getBucketId().equals(bucketId))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Card> updatePositions(List<Card> cards) {
+
+        List<Card> held = new ArrayList<>();
+
+        for (var card : cards) {
+            var taken = this.cards.values().stream().anyMatch(other -> other.getPosition() == card.getPosition()
+                    && !other.getCardExternalId().equals(card.getCardExternalId()));
+            if (taken) {
+                held.add(card);
+            } else {
+                update(card);
+            }
+        }
+
+        return held;
+    }
+
+    @Override
+    public boolean delete(UUID cardExternalId) {
+        return cards.remove(cardExternalId) != null;
+    }
+
+    @Override
+    public boolean archive(UUID cardExternalId) {
+        return delete(cardExternalId);
+    }
+
+    @Override
+    public int deleteByBucketId(Long bucketId, int limit, Consumer<List<UUID>> beforeRemoval) {
+
+        var batch = findByBucketId(bucketId).stream()
+                .limit(limit)
+                .map(Card::getCardExternalId)
+                .collect(Collectors.toList());
+
+        beforeRemoval.accept(batch);
+        batch.forEach(cards::remove);
+
+        return batch.size();
+    }
+
+    @Override
+    public int archiveByBucketId(Long bucketId, int limit, Consumer<List<UUID>> beforeRemoval) {
+        return deleteByBucketId(bucketId, limit, beforeRemoval);
+    }
+}
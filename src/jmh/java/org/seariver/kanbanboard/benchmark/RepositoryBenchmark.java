@@ -0,0 +1,131 @@
+package org.seariver.kanbanboard.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.seariver.kanbanboard.read.adapter.out.ReadBucketRepositoryImpl;
+import org.seariver.kanbanboard.read.application.domain.BucketDto;
+import org.seariver.kanbanboard.write.adapter.out.WriteCardRepositoryImpl;
+import org.seariver.kanbanboard.write.application.domain.Card;
+import org.seariver.kanbanboard.write.application.exception.DuplicatedDataException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Card and bucket repositories against a seeded board, see {@link BenchmarkDatabase} to run them on PostgreSQL.
+ * <p>
+ * Reports throughput and sampled latency percentiles. Cards created while measuring are removed after each trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RepositoryBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    private int cards;
+
+    private DataSource dataSource;
+    private ReadBucketRepositoryImpl readRepository;
+    private WriteCardRepositoryImpl cardRepository;
+    private List<Long> bucketIds;
+    private final AtomicLong createdPositions = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        dataSource = BenchmarkDatabase.create(16);
+
+        var seeder = new BoardSeeder(dataSource);
+        seeder.seed(cards);
+        bucketIds = seeder.findBucketIds();
+
+        cardRepository = new WriteCardRepositoryImpl(dataSource);
+        readRepository = new ReadBucketRepositoryImpl(dataSource, cardExternalId -> Optional.empty());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        new JdbcTemplate(dataSource).update("DELETE FROM card WHERE position > ?", cards);
+    }
+
+    @Benchmark
+    public List<BucketDto> findAll() {
+        return readRepository.findAll();
+    }
+
+    @Benchmark
+    public Optional<Card> findByExternalId() {
+        return cardRepository.findByExternalId(randomCardExternalId());
+    }
+
+    @Benchmark
+    public Card create() {
+
+        var card = new Card()
+                .setBucketId(bucketIds.get(ThreadLocalRandom.current().nextInt(bucketIds.size())))
+                .setCardExternalId(UUID.randomUUID())
+                .setPosition(cards + createdPositions.incrementAndGet())
+                .setName("CREATED");
+
+        cardRepository.create(card);
+
+        return card;
+    }
+
+    @Benchmark
+    public Card update() {
+
+        var index = ThreadLocalRandom.current().nextLong(cards);
+        var card = new Card()
+                .setBucketId(bucketIds.get((int) (index % bucketIds.size())))
+                .setCardExternalId(BoardSeeder.cardExternalId(index))
+                .setPosition(index + 1)
+                .setName("UPDATED-" + index);
+
+        cardRepository.update(card);
+
+        return card;
+    }
+
+    @Benchmark
+    public DuplicatedDataException createDuplicated() {
+
+        var index = ThreadLocalRandom.current().nextLong(cards);
+        var card = new Card()
+                .setBucketId(bucketIds.get(0))
+                .setCardExternalId(BoardSeeder.cardExternalId(index))
+                .setPosition(index + 1)
+                .setName("DUPLICATED");
+
+        try {
+            cardRepository.create(card);
+            throw new IllegalStateException("Card " + index + " was expected to exist");
+        } catch (DuplicatedDataException exception) {
+            return exception;
+        }
+    }
+
+    private UUID randomCardExternalId() {
+        return BoardSeeder.cardExternalId(ThreadLocalRandom.current().nextLong(cards));
+    }
+}
@@ -0,0 +1,96 @@
+package org.seariver.kanbanboard.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.seariver.kanbanboard.commom.observable.ServiceBus;
+import org.seariver.kanbanboard.read.application.domain.BucketDto;
+import org.seariver.kanbanboard.read.application.service.ListAllBucketQuery;
+import org.seariver.kanbanboard.write.application.domain.Bucket;
+import org.seariver.kanbanboard.write.application.domain.Card;
+import org.seariver.kanbanboard.write.application.service.MoveCardCommand;
+import org.seariver.kanbanboard.write.application.service.UpdateBucketCommand;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ServiceBus#execute} end to end, dispatch, listeners and transaction included, over in-memory repositories.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceBusBenchmark {
+
+    @Param({"false", "true"})
+    private boolean queryCache;
+
+    private ServiceBus serviceBus;
+    private String bucketId;
+    private String cardId;
+
+    @Setup
+    public void setUp() {
+
+        var buckets = new InMemoryBucketRepository();
+        var cards = new InMemoryCardRepository();
+        List<BucketDto> board = Boards.of(5, 20);
+
+        var bucket = new Bucket()
+                .setBucketExternalId(UUID.randomUUID())
+                .setPosition(1)
+                .setName("BENCHMARK");
+        buckets.create(bucket);
+
+        var card = new Card()
+                .setBucketId(bucket.getId())
+                .setCardExternalId(UUID.randomUUID())
+                .setPosition(1)
+                .setName("BENCHMARK");
+        cards.create(card);
+
+        serviceBus = ServiceBusFixture.create(queryCache, () -> board, buckets, cards);
+        bucketId = bucket.getBucketExternalId().toString();
+        cardId = card.getCardExternalId().toString();
+    }
+
+    @Benchmark
+    public List<BucketDto> listAllBuckets() {
+
+        var query = new ListAllBucketQuery();
+        serviceBus.execute(query);
+
+        return query.getResult();
+    }
+
+    @Benchmark
+    public UpdateBucketCommand updateBucket() {
+
+        var command = new UpdateBucketCommand(bucketId, "BENCHMARK");
+        serviceBus.execute(command);
+
+        return command;
+    }
+
+    @Benchmark
+    public MoveCardCommand moveCard() {
+
+        var command = new MoveCardCommand(bucketId, cardId, ThreadLocalRandom.current().nextDouble(1, 1000));
+        serviceBus.execute(command);
+
+        return command;
+    }
+}
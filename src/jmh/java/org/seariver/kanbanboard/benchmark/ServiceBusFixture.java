@@ -0,0 +1,85 @@
+package org.seariver.kanbanboard.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.seariver.kanbanboard.commom.cache.QueryCache;
+import org.seariver.kanbanboard.commom.idempotency.IdempotencyRepository;
+import org.seariver.kanbanboard.commom.idempotency.IdempotencyStore;
+import org.seariver.kanbanboard.commom.limit.ConcurrencyLimits;
+import org.seariver.kanbanboard.commom.notification.BoardChangeNotifier;
+import org.seariver.kanbanboard.commom.observable.DispatchRegistry;
+import org.seariver.kanbanboard.commom.observable.InternalEvent;
+import org.seariver.kanbanboard.commom.observable.ServiceBus;
+import org.seariver.kanbanboard.commom.observable.SlowLogListener;
+import org.seariver.kanbanboard.commom.outbox.OutboxRepository;
+import org.seariver.kanbanboard.read.application.domain.ReadBucketRepository;
+import org.seariver.kanbanboard.read.application.service.ListAllBucketResolver;
+import org.seariver.kanbanboard.write.application.domain.WriteBucketRepository;
+import org.seariver.kanbanboard.write.application.domain.WriteCardRepository;
+import org.seariver.kanbanboard.write.application.service.MoveCardHandler;
+import org.seariver.kanbanboard.write.application.service.UpdateBucketHandler;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Builds a {@link ServiceBus} outside the container, wired with the production collaborators at their default
+ * settings and handlers backed by the given repositories.
+ * <p>
+ * Commands still run in a real transaction, against an empty in-memory H2 database, while the outbox append is
+ * replaced by a counter.
+ */
+public final class ServiceBusFixture {
+
+    private ServiceBusFixture() {
+    }
+
+    public static ServiceBus create(boolean queryCache,
+                                    ReadBucketRepository readRepository,
+                                    WriteBucketRepository bucketRepository,
+                                    WriteCardRepository cardRepository) {
+
+        var mapper = new ObjectMapper();
+        var dataSource = dataSource();
+
+        Map<Class<?>, Object> targets = Map.of(
+                ListAllBucketResolver.class, new ListAllBucketResolver(readRepository),
+                UpdateBucketHandler.class, new UpdateBucketHandler(bucketRepository),
+                MoveCardHandler.class, new MoveCardHandler(bucketRepository, cardRepository));
+
+        return new ServiceBus(
+                new DiscardingEvent<InternalEvent>(),
+                new CountingOutboxRepository(dataSource, mapper),
+                new BoardChangeNotifier(dataSource, mapper, false, "board_changed"),
+                new SlowLogListener(false, 500, 1.0, 50, 1000),
+                new ConcurrencyLimits(false, 20, 2, 200, 2.0, 1),
+                new IdempotencyStore(new IdempotencyRepository(dataSource), mapper, 86400, 30, 10000, false),
+                new QueryCache(queryCache, 1000),
+                new DispatchRegistry(targets::get),
+                dataSource,
+                10);
+    }
+
+    private static DataSource dataSource() {
+
+        var dataSource = new BasicDataSource();
+        dataSource.setUrl("jdbc:h2:mem:SERVICE_BUS_BENCHMARK;DB_CLOSE_DELAY=-1");
+
+        return dataSource;
+    }
+
+    private static class CountingOutboxRepository extends OutboxRepository {
+
+        private final AtomicLong version = new AtomicLong();
+
+        CountingOutboxRepository(DataSource dataSource, ObjectMapper mapper) {
+            super(dataSource, mapper);
+        }
+
+        @Override
+        public long append(String eventType, Object content) {
+            return version.incrementAndGet();
+        }
+    }
+}
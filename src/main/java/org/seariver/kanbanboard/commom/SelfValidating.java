@@ -1,5 +1,7 @@
 package org.seariver.kanbanboard.commom;
 
+import org.seariver.kanbanboard.commom.tracing.Tracer;
+
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
 import javax.validation.Validation;
@@ -19,9 +21,12 @@ public abstract class SelfValidating<T> {
     }
 
     protected void validateSelf() {
-        Set<ConstraintViolation<T>> violations = validator.validate((T) this);
-        if (!violations.isEmpty()) {
-            throw new ConstraintViolationException(violations);
+        try (var span = Tracer.span("validate")) {
+            span.attribute("type", getClass().getSimpleName());
+            Set<ConstraintViolation<T>> violations = validator.validate((T) this);
+            if (!violations.isEmpty()) {
+                throw new ConstraintViolationException(violations);
+            }
         }
     }
 }
\ No newline at end of file
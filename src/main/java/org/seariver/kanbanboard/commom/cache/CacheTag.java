@@ -0,0 +1,10 @@
+package org.seariver.kanbanboard.commom.cache;
+
+public final class CacheTag {
+
+    public static final String BUCKET = "bucket";
+    public static final String CARD = "card";
+
+    private CacheTag() {
+    }
+}
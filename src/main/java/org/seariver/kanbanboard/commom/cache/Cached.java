@@ -0,0 +1,19 @@
+package org.seariver.kanbanboard.commom.cache;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Lets {@link QueryCache} memoize the result of a {@code CacheableQuery} for {@link #ttlSeconds()}, until a command
+ * invalidating one of its {@link #tags()} commits.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Cached {
+
+    String[] tags();
+
+    long ttlSeconds() default 30;
+}
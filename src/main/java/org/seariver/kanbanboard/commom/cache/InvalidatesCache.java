@@ -0,0 +1,16 @@
+package org.seariver.kanbanboard.commom.cache;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Tags of the cached queries a command may change. A command without this annotation drops every cached result.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface InvalidatesCache {
+
+    String[] value();
+}
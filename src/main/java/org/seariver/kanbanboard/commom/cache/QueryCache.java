@@ -0,0 +1,356 @@
+package org.seariver.kanbanboard.commom.cache;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import org.seariver.kanbanboard.commom.datasource.ReadConsistency;
+import org.seariver.kanbanboard.commom.datasource.ReadDataSourceProducer;
+import org.seariver.kanbanboard.commom.metrics.PrometheusText;
+import org.seariver.kanbanboard.commom.notification.BoardChangedEvent;
+import org.seariver.kanbanboard.commom.tracing.Tracer;
+import org.seariver.kanbanboard.read.application.service.CacheableQuery;
+import org.seariver.kanbanboard.read.application.service.Query;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Memoizes the results of queries annotated with {@link Cached} in a bounded map, keyed by query class and
+ * {@link CacheableQuery#cacheKey()}. Reads never lock; once the map grows past its capacity the least recently used
+ * tenth of it is evicted.
+ * <p>
+ * Entries expire after the query TTL and are dropped as soon as a command invalidating one of their tags commits on
+ * this node, or when a {@link BoardChangedEvent} reports it from another one. Every tag carries a generation that
+ * invalidation bumps; a result is only kept when the generations of its tags did not move while it was resolved,
+ * so a read racing a write never caches the value from before the write.
+ * <p>
+ * Only requests with eventual {@link ReadConsistency} are answered from the cache; a request asking for the primary
+ * or a minimum LSN always resolves. With a replica configured, a miss resolves with the primary WAL position read
+ * after the latest invalidation as minimum LSN, so the replica only serves it once it has replayed every invalidated
+ * write and the primary does otherwise; either way the result is fresh and is stored. Unless set explicitly the cache
+ * follows {@code kanbanboard.board-changed.enabled}, since without the notifier writes on other nodes would not
+ * invalidate it.
+ */
+@ApplicationScoped
+public class QueryCache {
+
+    final static Logger logger = Logger.getLogger(QueryCache.class);
+
+    static final String REQUESTS_METRIC = "kanbanboard_query_cache_requests_total";
+    static final String EVICTIONS_METRIC = "kanbanboard_query_cache_evictions_total";
+    static final String ENTRIES_METRIC = "kanbanboard_query_cache_entries";
+
+    private static final String[] EVERY_TAG = new String[0];
+
+    private static final ClassValue<Cached> POLICIES = new ClassValue<>() {
+        @Override
+        protected Cached computeValue(Class<?> type) {
+            return CacheableQuery.class.isAssignableFrom(type) ? type.getAnnotation(Cached.class) : null;
+        }
+    };
+
+    private static final ClassValue<String[]> INVALIDATED_TAGS = new ClassValue<>() {
+        @Override
+        protected String[] computeValue(Class<?> type) {
+            var annotation = type.getAnnotation(InvalidatesCache.class);
+            return annotation == null ? EVERY_TAG : annotation.value();
+        }
+    };
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final Supplier<Optional<String>> primaryLsn;
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final AtomicLong everythingGeneration = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder bypasses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private volatile Freshness freshness;
+
+    @Inject
+    public QueryCache(
+            @ConfigProperty(name = "kanbanboard.query-cache.enabled") Optional<Boolean> enabled,
+            @ConfigProperty(name = "kanbanboard.board-changed.enabled", defaultValue = "false") boolean boardChanged,
+            @ConfigProperty(name = "kanbanboard.query-cache.max-entries", defaultValue = "1000") int maxEntries,
+            ReadDataSourceProducer readDataSource) {
+        this(enabled.orElse(boardChanged), maxEntries,
+                readDataSource.isReplicaConfigured() ? readDataSource::currentWriteLsn : null);
+    }
+
+    public QueryCache(boolean enabled, int maxEntries) {
+        this(enabled, maxEntries, null);
+    }
+
+    /**
+     * @param primaryLsn current WAL position of the primary, {@code null} when reads are not served by a replica
+     */
+    public QueryCache(boolean enabled, int maxEntries, Supplier<Optional<String>> primaryLsn) {
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.primaryLsn = primaryLsn;
+    }
+
+    /**
+     * Fills the query from the cache, or runs the resolution and keeps its result when the query is cacheable.
+     *
+     * @return whether the result came from the cache
+     */
+    @SuppressWarnings("unchecked")
+    public boolean resolve(Query query, Runnable resolution) {
+
+        var policy = enabled ? POLICIES.get(query.getClass()) : null;
+
+        if (policy == null) {
+            resolution.run();
+            return false;
+        }
+
+        var consistency = ReadConsistency.current();
+        var cacheable = (CacheableQuery<Object>) query;
+        var key = query.getClass().getName() + '|' + cacheable.cacheKey();
+
+        if (consistency.isEventual()) {
+
+            var entry = entries.get(key);
+
+            if (entry != null && System.nanoTime() - entry.expiresInNano < 0) {
+                hits.increment();
+                entry.lastAccessInNano = System.nanoTime();
+                cacheable.setResult(entry.result);
+                Tracer.current().attribute("cache.hit", true);
+                return true;
+            }
+
+            if (entry != null) {
+                entries.remove(key, entry);
+            }
+
+            misses.increment();
+        } else {
+            bypasses.increment();
+        }
+
+        var stamp = stamp(policy.tags());
+
+        if (!resolveFresh(consistency, resolution)) {
+            return false;
+        }
+
+        var entry = new Entry(cacheable.getResult(), policy.tags(), policy.ttlSeconds());
+        entries.put(key, entry);
+
+        // an invalidation bumps the generations before dropping entries, so either it sees this entry or we see it
+        if (stamp != stamp(policy.tags())) {
+            entries.remove(key, entry);
+        }
+
+        if (entries.size() > maxEntries) {
+            evict();
+        }
+
+        return false;
+    }
+
+    /**
+     * Drops the cached results the committed command may have changed.
+     */
+    public void invalidate(Object command) {
+        if (enabled) {
+            invalidate(INVALIDATED_TAGS.get(command.getClass()));
+        }
+    }
+
+    void onBoardChanged(@Observes BoardChangedEvent event) {
+
+        if (!enabled) {
+            return;
+        }
+
+        if (event.isEverything() || event.getEventType() == null) {
+            invalidate(EVERY_TAG);
+            return;
+        }
+
+        try {
+            invalidate(INVALIDATED_TAGS.get(Class.forName(event.getEventType())));
+        } catch (ClassNotFoundException exception) {
+            logger.debugv("Unknown event type {0}, invalidating every cached query", event.getEventType());
+            invalidate(EVERY_TAG);
+        }
+    }
+
+    public String scrape() {
+
+        if (!enabled) {
+            return "";
+        }
+
+        var output = new StringBuilder();
+
+        PrometheusText.header(output, REQUESTS_METRIC, "counter", "Cacheable queries by outcome.");
+        PrometheusText.sample(output, REQUESTS_METRIC, "result=\"hit\"", hits.sum());
+        PrometheusText.sample(output, REQUESTS_METRIC, "result=\"miss\"", misses.sum());
+        PrometheusText.sample(output, REQUESTS_METRIC, "result=\"bypass\"", bypasses.sum());
+
+        PrometheusText.header(output, EVICTIONS_METRIC, "counter", "Entries evicted by size.");
+        PrometheusText.sample(output, EVICTIONS_METRIC, null, evictions.sum());
+
+        PrometheusText.header(output, ENTRIES_METRIC, "gauge", "Cached query results.");
+        PrometheusText.sample(output, ENTRIES_METRIC, null, size());
+
+        return output.toString();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Runs the resolution so that its result reflects every invalidation seen so far.
+     *
+     * @return whether the result may be stored
+     */
+    private boolean resolveFresh(ReadConsistency consistency, Runnable resolution) {
+
+        if (primaryLsn == null || consistency.isPrimary()) {
+            resolution.run();
+            return true;
+        }
+
+        var minimumLsn = consistency.isEventual() ? freshLsn() : Optional.<String>empty();
+
+        if (minimumLsn.isEmpty()) {
+            resolution.run();
+            return false;
+        }
+
+        ReadConsistency.requireLsn(minimumLsn.get());
+
+        try {
+            resolution.run();
+        } finally {
+            ReadConsistency.clear();
+        }
+
+        return true;
+    }
+
+    // a position read after an invalidation covers the write behind it, so one read serves until the next one
+    private Optional<String> freshLsn() {
+
+        var invalidated = invalidations.get();
+        var current = freshness;
+
+        if (current != null && current.invalidations == invalidated) {
+            return Optional.of(current.lsn);
+        }
+
+        var lsn = primaryLsn.get();
+        lsn.ifPresent(value -> freshness = new Freshness(value, invalidated));
+
+        return lsn;
+    }
+
+    private void invalidate(String[] tags) {
+
+        invalidations.incrementAndGet();
+
+        if (tags.length == 0) {
+            everythingGeneration.incrementAndGet();
+            entries.clear();
+            return;
+        }
+
+        for (var tag : tags) {
+            generations.computeIfAbsent(tag, ignored -> new AtomicLong()).incrementAndGet();
+        }
+
+        entries.values().removeIf(entry -> entry.hasAnyOf(tags));
+    }
+
+    private void evict() {
+
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            var excess = entries.size() - maxEntries + maxEntries / 10;
+
+            entries.entrySet().stream()
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().lastAccessInNano))
+                    .limit(Math.max(excess, 0))
+                    .forEach(entry -> {
+                        if (entries.remove(entry.getKey(), entry.getValue())) {
+                            evictions.increment();
+                        }
+                    });
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    // generations only grow, so the sum moves whenever any of them does
+    private long stamp(String[] tags) {
+
+        var stamp = everythingGeneration.get();
+
+        for (var tag : tags) {
+            var generation = generations.get(tag);
+            stamp += generation == null ? 0 : generation.get();
+        }
+
+        return stamp;
+    }
+
+    private static class Entry {
+
+        private final Object result;
+        private final String[] tags;
+        private final long expiresInNano;
+        private volatile long lastAccessInNano;
+
+        Entry(Object result, String[] tags, long ttlSeconds) {
+            this.result = result;
+            this.tags = tags;
+            this.lastAccessInNano = System.nanoTime();
+            this.expiresInNano = lastAccessInNano + ttlSeconds * 1_000_000_000L;
+        }
+
+        boolean hasAnyOf(String[] invalidated) {
+
+            for (var tag : tags) {
+                for (var candidate : invalidated) {
+                    if (tag.equals(candidate)) {
+                        return true;
+                    }
+                }
+            }
+
+            return false;
+        }
+    }
+
+    private static class Freshness {
+
+        private final String lsn;
+        private final long invalidations;
+
+        Freshness(String lsn, long invalidations) {
+            this.lsn = lsn;
+            this.invalidations = invalidations;
+        }
+    }
+}
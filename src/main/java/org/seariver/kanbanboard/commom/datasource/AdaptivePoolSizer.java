@@ -0,0 +1,110 @@
+package org.seariver.kanbanboard.commom.datasource;
+
+/**
+ * Decides the next maximum size of a connection pool from one observation window.
+ * <p>
+ * By Little's law the connections in use equal the acquisition rate times the lease time, so the average of
+ * active plus waiting requests is the demand; the pool is sized to that demand times {@code headroom}. It grows
+ * faster when requests queue longer than {@code waitTarget}, but not when the lease time climbed in the window right
+ * after a growth, since a slower database is not fixed by sending it more concurrent work. It shrinks one connection
+ * per window.
+ */
+public class AdaptivePoolSizer {
+
+    // lease time this much above the one of the window that grew the pool means the database is the bottleneck
+    static final double DATABASE_SLOWDOWN = 1.5;
+
+    private final int minSize;
+    private final int maxSize;
+    private final double headroom;
+    private final long waitTargetInNano;
+    private double leaseAtLastGrowthInNano;
+
+    public AdaptivePoolSizer(int minSize, int maxSize, double headroom, long waitTargetInNano) {
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.headroom = headroom;
+        this.waitTargetInNano = waitTargetInNano;
+    }
+
+    public int next(int currentSize, Window window) {
+
+        // the growth marker only judges the window right after the growth, later windows start from a clean slate
+        var leaseAtGrowthInNano = leaseAtLastGrowthInNano;
+        leaseAtLastGrowthInNano = 0;
+
+        if (window.getAcquisitions() == 0) {
+            return clamp(currentSize - 1);
+        }
+
+        var demand = window.getAverageActive() + window.getAverageWaiting();
+        var target = (int) Math.ceil(demand * headroom);
+        var queueing = window.getAverageWaiting() > 0 && window.getMeanWaitInNano() > waitTargetInNano;
+
+        if (queueing) {
+            target = Math.max(target, currentSize + Math.max(1, currentSize / 4));
+        }
+
+        if (target > currentSize) {
+
+            var databaseSlowingDown = leaseAtGrowthInNano > 0
+                    && window.getMeanLeaseInNano() > leaseAtGrowthInNano * DATABASE_SLOWDOWN;
+
+            if (databaseSlowingDown) {
+                return clamp(currentSize);
+            }
+
+            leaseAtLastGrowthInNano = window.getMeanLeaseInNano();
+            return clamp(target);
+        }
+
+        return clamp(Math.max(target, currentSize - 1));
+    }
+
+    private int clamp(int size) {
+        return Math.max(minSize, Math.min(maxSize, size));
+    }
+
+    /**
+     * Pool activity between two decisions.
+     */
+    public static class Window {
+
+        private final double averageActive;
+        private final double averageWaiting;
+        private final long acquisitions;
+        private final long waitInNano;
+        private final double seconds;
+
+        public Window(double averageActive, double averageWaiting, long acquisitions, long waitInNano, double seconds) {
+            this.averageActive = averageActive;
+            this.averageWaiting = averageWaiting;
+            this.acquisitions = acquisitions;
+            this.waitInNano = waitInNano;
+            this.seconds = seconds;
+        }
+
+        public double getAverageActive() {
+            return averageActive;
+        }
+
+        public double getAverageWaiting() {
+            return averageWaiting;
+        }
+
+        public long getAcquisitions() {
+            return acquisitions;
+        }
+
+        public long getMeanWaitInNano() {
+            return acquisitions == 0 ? 0 : waitInNano / acquisitions;
+        }
+
+        /**
+         * Mean time a connection stays leased, from Little's law: in use divided by acquisition rate.
+         */
+        public double getMeanLeaseInNano() {
+            return acquisitions == 0 ? 0 : averageActive / (acquisitions / seconds) * 1_000_000_000.0;
+        }
+    }
+}
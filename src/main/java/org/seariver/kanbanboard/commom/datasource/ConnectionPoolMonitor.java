@@ -0,0 +1,196 @@
+package org.seariver.kanbanboard.commom.datasource;
+
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.configuration.AgroalConnectionPoolConfiguration;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import org.seariver.kanbanboard.commom.jdbc.ConnectionTimingDataSource;
+import org.seariver.kanbanboard.commom.metrics.PrometheusText;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Exposes connection pool saturation and, when enabled, resizes the primary pool with an {@link AdaptivePoolSizer}.
+ * <p>
+ * Agroal only keeps counters once metrics are switched on, which happens here at startup. Active and waiting
+ * connections are sampled every second and averaged over {@code interval-seconds} before each sizing decision.
+ */
+@ApplicationScoped
+public class ConnectionPoolMonitor {
+
+    final static Logger logger = Logger.getLogger(ConnectionPoolMonitor.class);
+
+    public static final String ACQUIRE_METRIC = "kanbanboard_connection_acquire_seconds";
+    public static final String POOL_METRIC = "kanbanboard_pool_connections";
+
+    private final Map<String, AgroalDataSource> pools = new LinkedHashMap<>();
+    private final boolean adaptive;
+    private final int intervalInSeconds;
+    private final AdaptivePoolSizer sizer;
+    private ScheduledExecutorService scheduler;
+    private int configuredMinSize;
+    private double activeSum;
+    private double waitingSum;
+    private int samples;
+    private long lastAcquisitions;
+    private long lastWaitInNano;
+    private long lastDecisionInNano;
+
+    public ConnectionPoolMonitor(
+            DataSource primary,
+            ReadDataSourceProducer readDataSource,
+            @ConfigProperty(name = "kanbanboard.pool.adaptive.enabled", defaultValue = "false") boolean adaptive,
+            @ConfigProperty(name = "kanbanboard.pool.adaptive.min-size", defaultValue = "4") int minSize,
+            @ConfigProperty(name = "kanbanboard.pool.adaptive.max-size", defaultValue = "32") int maxSize,
+            @ConfigProperty(name = "kanbanboard.pool.adaptive.headroom", defaultValue = "1.5") double headroom,
+            @ConfigProperty(name = "kanbanboard.pool.adaptive.wait-target-ms", defaultValue = "5") long waitTargetInMilli,
+            @ConfigProperty(name = "kanbanboard.pool.adaptive.interval-seconds", defaultValue = "10") int intervalInSeconds) {
+
+        if (primary instanceof AgroalDataSource) {
+            pools.put("primary", (AgroalDataSource) primary);
+        }
+        readDataSource.replica().ifPresent(replica -> pools.put("replica", replica));
+
+        this.adaptive = adaptive;
+        this.intervalInSeconds = intervalInSeconds;
+        this.sizer = new AdaptivePoolSizer(minSize, maxSize, headroom, waitTargetInMilli * 1_000_000L);
+    }
+
+    void onStart(@Observes StartupEvent event) {
+
+        pools.values().forEach(pool -> pool.getConfiguration().setMetricsEnabled(true));
+
+        var primary = pools.get("primary");
+
+        if (!adaptive || primary == null) {
+            return;
+        }
+
+        configuredMinSize = primary.getConfiguration().connectionPoolConfiguration().minSize();
+        lastDecisionInNano = System.nanoTime();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "connection-pool-sizer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(() -> sample(primary), 1, 1, SECONDS);
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    public String scrape() {
+
+        var output = new StringBuilder();
+
+        PrometheusText.header(output, ACQUIRE_METRIC, "summary", "Time waiting for a pooled connection.");
+        PrometheusText.summary(output, ACQUIRE_METRIC, "", ConnectionTimingDataSource.acquisitionTime());
+
+        if (pools.isEmpty()) {
+            return output.toString();
+        }
+
+        PrometheusText.header(output, POOL_METRIC, "gauge", "Pooled connections by state.");
+        pools.forEach((name, pool) -> {
+            var metrics = pool.getMetrics();
+            PrometheusText.sample(output, POOL_METRIC, labels(name, "active"), metrics.activeCount());
+            PrometheusText.sample(output, POOL_METRIC, labels(name, "idle"), metrics.availableCount());
+            PrometheusText.sample(output, POOL_METRIC, labels(name, "waiting"), metrics.awaitingCount());
+            PrometheusText.sample(output, POOL_METRIC, labels(name, "max"),
+                    pool.getConfiguration().connectionPoolConfiguration().maxSize());
+        });
+
+        PrometheusText.header(output, "kanbanboard_pool_acquire_total", "counter", "Connections handed out.");
+        pools.forEach((name, pool) -> PrometheusText.sample(output, "kanbanboard_pool_acquire_total",
+                "pool=\"" + name + "\"", pool.getMetrics().acquireCount()));
+
+        PrometheusText.header(output, "kanbanboard_pool_blocking_seconds_total", "counter",
+                "Time callers spent blocked on the pool.");
+        pools.forEach((name, pool) -> PrometheusText.sample(output, "kanbanboard_pool_blocking_seconds_total",
+                "pool=\"" + name + "\"", PrometheusText.seconds(pool.getMetrics().blockingTimeTotal().toNanos())));
+
+        return output.toString();
+    }
+
+    private void sample(AgroalDataSource pool) {
+        try {
+            var metrics = pool.getMetrics();
+            activeSum += metrics.activeCount();
+            waitingSum += metrics.awaitingCount();
+            samples++;
+
+            if (samples >= intervalInSeconds) {
+                resize(pool);
+            }
+        } catch (RuntimeException exception) {
+            logger.warn("Connection pool sampling failed", exception);
+        }
+    }
+
+    private void resize(AgroalDataSource pool) {
+
+        var metrics = pool.getMetrics();
+        var now = System.nanoTime();
+        var acquisitions = metrics.acquireCount();
+        var waitInNano = metrics.blockingTimeTotal().toNanos();
+
+        var window = new AdaptivePoolSizer.Window(
+                activeSum / samples,
+                waitingSum / samples,
+                acquisitions - lastAcquisitions,
+                waitInNano - lastWaitInNano,
+                (now - lastDecisionInNano) / 1_000_000_000.0);
+
+        var configuration = pool.getConfiguration().connectionPoolConfiguration();
+        var current = configuration.maxSize();
+        var next = sizer.next(current, window);
+
+        if (next != current) {
+            applySize(configuration, configuredMinSize, next);
+            logger.infov("Resized connection pool from {0} to {1}, {2} active and {3} waiting on average",
+                    current, next, window.getAverageActive(), window.getAverageWaiting());
+        }
+
+        activeSum = 0;
+        waitingSum = 0;
+        samples = 0;
+        lastAcquisitions = acquisitions;
+        lastWaitInNano = waitInNano;
+        lastDecisionInNano = now;
+    }
+
+    /**
+     * Sets the maximum size, lowering the minimum below it on shrink and restoring the configured one as it grows back.
+     */
+    static void applySize(AgroalConnectionPoolConfiguration configuration, int configuredMinSize, int maxSize) {
+
+        var minSize = Math.min(configuredMinSize, maxSize);
+
+        // the minimum may never exceed the maximum, so the bound that moves away from the other is set last
+        if (maxSize < configuration.maxSize()) {
+            configuration.setMinSize(minSize);
+            configuration.setMaxSize(maxSize);
+        } else {
+            configuration.setMaxSize(maxSize);
+            configuration.setMinSize(minSize);
+        }
+    }
+
+    private static String labels(String pool, String state) {
+        return String.format("pool=\"%s\",state=\"%s\"", pool, state);
+    }
+}
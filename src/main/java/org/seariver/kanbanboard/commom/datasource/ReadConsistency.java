@@ -0,0 +1,51 @@
+package org.seariver.kanbanboard.commom.datasource;
+
+import java.util.Optional;
+
+/**
+ * Per-request read consistency requirement, bound to the request thread by {@link ReadConsistencyFilter}.
+ */
+public final class ReadConsistency {
+
+    private static final ThreadLocal<ReadConsistency> CURRENT = new ThreadLocal<>();
+    private static final ReadConsistency EVENTUAL = new ReadConsistency(false, null);
+
+    private final boolean primary;
+    private final String minimumLsn;
+
+    private ReadConsistency(boolean primary, String minimumLsn) {
+        this.primary = primary;
+        this.minimumLsn = minimumLsn;
+    }
+
+    public static ReadConsistency current() {
+        return Optional.ofNullable(CURRENT.get()).orElse(EVENTUAL);
+    }
+
+    public static void requirePrimary() {
+        CURRENT.set(new ReadConsistency(true, null));
+    }
+
+    public static void requireLsn(String minimumLsn) {
+        CURRENT.set(new ReadConsistency(false, minimumLsn));
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Whether any replica state, however stale, satisfies the request.
+     */
+    public boolean isEventual() {
+        return !primary && minimumLsn == null;
+    }
+
+    public boolean isPrimary() {
+        return primary;
+    }
+
+    public Optional<String> getMinimumLsn() {
+        return Optional.ofNullable(minimumLsn);
+    }
+}
@@ -0,0 +1,54 @@
+package org.seariver.kanbanboard.commom.datasource;
+
+import javax.inject.Inject;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.ext.Provider;
+
+import static javax.ws.rs.core.Response.Status.Family.SUCCESSFUL;
+
+/**
+ * Reads the client's consistency requirement from the request headers and, when a replica is configured,
+ * returns the primary WAL position after every successful write.
+ */
+@Provider
+public class ReadConsistencyFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    public static final String READ_CONSISTENCY_HEADER = "X-Read-Consistency";
+    public static final String MIN_LSN_HEADER = "X-Min-LSN";
+    public static final String LAST_WRITE_LSN_HEADER = "X-Last-Write-LSN";
+    public static final String PRIMARY = "primary";
+
+    @Inject
+    ReadDataSourceProducer readDataSource;
+
+    @Override
+    public void filter(ContainerRequestContext request) {
+
+        var minimumLsn = request.getHeaderString(MIN_LSN_HEADER);
+
+        if (PRIMARY.equalsIgnoreCase(request.getHeaderString(READ_CONSISTENCY_HEADER))) {
+            ReadConsistency.requirePrimary();
+        } else if (minimumLsn != null && !minimumLsn.isBlank()) {
+            ReadConsistency.requireLsn(minimumLsn.trim());
+        } else {
+            ReadConsistency.clear();
+        }
+    }
+
+    @Override
+    public void filter(ContainerRequestContext request, ContainerResponseContext response) {
+
+        ReadConsistency.clear();
+
+        var isWrite = !HttpMethod.GET.equals(request.getMethod()) && !HttpMethod.HEAD.equals(request.getMethod());
+
+        if (isWrite && response.getStatusInfo().getFamily() == SUCCESSFUL && readDataSource.isReplicaConfigured()) {
+            readDataSource.currentWriteLsn()
+                    .ifPresent(lsn -> response.getHeaders().putSingle(LAST_WRITE_LSN_HEADER, lsn));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.seariver.kanbanboard.commom.datasource;
+
+import io.agroal.api.AgroalDataSource;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Instance;
+import javax.enterprise.inject.Produces;
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static io.quarkus.agroal.DataSource.DataSourceLiteral;
+
+/**
+ * Resolves the {@link ReadOnly} datasource: the named replica datasource routed through
+ * {@link ReplicaRoutingDataSource} when it is configured, the primary otherwise.
+ */
+@ApplicationScoped
+public class ReadDataSourceProducer {
+
+    final static Logger logger = Logger.getLogger(ReadDataSourceProducer.class);
+
+    private final DataSource primary;
+    private final AgroalDataSource replica;
+    private final ReplicaRoutingDataSource routing;
+
+    public ReadDataSourceProducer(
+            DataSource primary,
+            @Any Instance<AgroalDataSource> dataSources,
+            @ConfigProperty(name = "kanbanboard.datasource.read.name", defaultValue = "read") String replicaName) {
+
+        var replica = dataSources.select(new DataSourceLiteral(replicaName));
+
+        this.primary = primary;
+        this.replica = replica.isResolvable() ? replica.get() : null;
+        this.routing = this.replica != null ? new ReplicaRoutingDataSource(primary, this.replica) : null;
+
+        logger.infov("Read side queries the {0} datasource", routing == null ? "primary" : replicaName);
+    }
+
+    @Produces
+    @ReadOnly
+    @ApplicationScoped
+    DataSource readDataSource() {
+        return routing == null ? primary : routing;
+    }
+
+    public boolean isReplicaConfigured() {
+        return routing != null;
+    }
+
+    public Optional<AgroalDataSource> replica() {
+        return Optional.ofNullable(replica);
+    }
+
+    public Optional<String> currentWriteLsn() {
+
+        if (routing == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(routing.currentWriteLsn());
+        } catch (SQLException exception) {
+            logger.warn("Could not read primary WAL position", exception);
+            return Optional.empty();
+        }
+    }
+}
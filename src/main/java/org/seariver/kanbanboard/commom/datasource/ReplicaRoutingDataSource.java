@@ -0,0 +1,89 @@
+package org.seariver.kanbanboard.commom.datasource;
+
+import org.jboss.logging.Logger;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Hands out replica connections unless the current request asked to read its own writes.
+ * <p>
+ * A request carrying a minimum LSN is served by the replica only once it has replayed up to that point, otherwise
+ * it falls back to the primary.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    final static Logger logger = Logger.getLogger(ReplicaRoutingDataSource.class);
+
+    private static final String REPLAYED_SQL = "SELECT pg_last_wal_replay_lsn() >= CAST(? AS pg_lsn)";
+    private static final String CURRENT_LSN_SQL = "SELECT CAST(pg_current_wal_lsn() AS VARCHAR)";
+
+    private final DataSource primary;
+    private final DataSource replica;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+        this.primary = primary;
+        this.replica = replica;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(target -> target.getConnection(username, password));
+    }
+
+    /**
+     * Current WAL position of the primary, handed to clients so later reads can wait for the replica to catch up.
+     */
+    public String currentWriteLsn() throws SQLException {
+
+        try (var connection = primary.getConnection();
+             var statement = connection.prepareStatement(CURRENT_LSN_SQL);
+             var resultSet = statement.executeQuery()) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+
+    private Connection route(ConnectionSource source) throws SQLException {
+
+        var consistency = ReadConsistency.current();
+
+        if (consistency.isPrimary()) {
+            return source.connect(primary);
+        }
+
+        var connection = source.connect(replica);
+
+        if (consistency.getMinimumLsn().isPresent() && !hasReplayed(connection, consistency.getMinimumLsn().get())) {
+            connection.close();
+            return source.connect(primary);
+        }
+
+        return connection;
+    }
+
+    private boolean hasReplayed(Connection connection, String minimumLsn) {
+
+        try (var statement = connection.prepareStatement(REPLAYED_SQL)) {
+            statement.setString(1, minimumLsn);
+            try (var resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        } catch (SQLException exception) {
+            logger.warnv(exception, "Could not compare replica position with {0}, reading from primary", minimumLsn);
+            return false;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection connect(DataSource target) throws SQLException;
+    }
+}
@@ -3,6 +3,8 @@ package org.seariver.kanbanboard.commom.exception;
 import org.seariver.kanbanboard.commom.exception.ResponseError.ErrorField;
 
 import javax.validation.ConstraintViolationException;
+import javax.validation.ElementKind;
+import javax.validation.Path;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.ext.ExceptionMapper;
 import javax.ws.rs.ext.Provider;
@@ -16,7 +18,9 @@ public class ConstraintExceptionMapper implements ExceptionMapper<ConstraintViol
 
     private final Map<String, String> fieldNameMapping = Map.ofEntries(
             Map.entry("bucketExternalId", "bucketId"),
-            Map.entry("cardExternalId", "cardId")
+            Map.entry("cardExternalId", "cardId"),
+            Map.entry("bucketExternalIds", "bucketIds"),
+            Map.entry("cardExternalIds", "cardIds")
     );
 
     @Override
@@ -26,8 +30,7 @@ public class ConstraintExceptionMapper implements ExceptionMapper<ConstraintViol
                 .getConstraintViolations()
                 .stream()
                 .map(error -> {
-                    var fieldPath = error.getPropertyPath().toString();
-                    var fieldName = fieldPath.substring(fieldPath.lastIndexOf('.') + 1);
+                    var fieldName = fieldName(error.getPropertyPath());
 
                     return new ErrorField(
                             fieldNameMapping.getOrDefault(fieldName, fieldName),
@@ -43,4 +46,18 @@ public class ConstraintExceptionMapper implements ExceptionMapper<ConstraintViol
                 .entity(errorResult)
                 .build();
     }
+
+    private String fieldName(Path propertyPath) {
+
+        String fieldName = propertyPath.toString();
+
+        // list entries are reported as "<list element>" nodes, the owning property is the meaningful name
+        for (Path.Node node : propertyPath) {
+            if (node.getKind() != ElementKind.CONTAINER_ELEMENT && node.getName() != null) {
+                fieldName = node.getName();
+            }
+        }
+
+        return fieldName;
+    }
 }
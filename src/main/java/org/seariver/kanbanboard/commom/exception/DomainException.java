@@ -1,12 +1,28 @@
 package org.seariver.kanbanboard.commom.exception;
 
+/**
+ * Base of the exceptions business rules raise as part of normal control flow.
+ * <p>
+ * They are answered with a 4xx and never inspected further, so they skip filling the stack trace unless
+ * {@code kanbanboard.exception.stack-traces} turns it back on for debugging.
+ */
 public abstract class DomainException extends RuntimeException {
 
+    private static volatile boolean stackTraces;
+
     public DomainException(String message) {
-        super(message);
+        super(message, null, true, stackTraces);
     }
 
     public DomainException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, true, stackTraces);
+    }
+
+    public static void setStackTraces(boolean value) {
+        stackTraces = value;
+    }
+
+    public static boolean isStackTraces() {
+        return stackTraces;
     }
 }
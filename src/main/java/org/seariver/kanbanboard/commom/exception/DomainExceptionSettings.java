@@ -0,0 +1,22 @@
+package org.seariver.kanbanboard.commom.exception;
+
+import io.quarkus.runtime.StartupEvent;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+@ApplicationScoped
+public class DomainExceptionSettings {
+
+    private final boolean stackTraces;
+
+    public DomainExceptionSettings(
+            @ConfigProperty(name = "kanbanboard.exception.stack-traces", defaultValue = "false") boolean stackTraces) {
+        this.stackTraces = stackTraces;
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        DomainException.setStackTraces(stackTraces);
+    }
+}
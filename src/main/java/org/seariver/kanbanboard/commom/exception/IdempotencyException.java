@@ -0,0 +1,30 @@
+package org.seariver.kanbanboard.commom.exception;
+
+/**
+ * Raised when an {@code Idempotency-Key} cannot be honoured, mapped to 409 or 422 by
+ * {@link IdempotencyExceptionMapper}.
+ */
+public class IdempotencyException extends RuntimeException {
+
+    public static final String IN_FLIGHT_MESSAGE = "Request with this Idempotency-Key is still in progress";
+    public static final String REUSED_MESSAGE = "Idempotency-Key was already used for a different request";
+
+    private final boolean inFlight;
+
+    private IdempotencyException(String message, boolean inFlight, Throwable cause) {
+        super(message, cause);
+        this.inFlight = inFlight;
+    }
+
+    public static IdempotencyException inFlight(Throwable cause) {
+        return new IdempotencyException(IN_FLIGHT_MESSAGE, true, cause);
+    }
+
+    public static IdempotencyException reused() {
+        return new IdempotencyException(REUSED_MESSAGE, false, null);
+    }
+
+    public boolean isInFlight() {
+        return inFlight;
+    }
+}
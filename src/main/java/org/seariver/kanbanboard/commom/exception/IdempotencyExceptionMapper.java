@@ -0,0 +1,25 @@
+package org.seariver.kanbanboard.commom.exception;
+
+import org.seariver.kanbanboard.commom.exception.ResponseError.ErrorField;
+
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.ExceptionMapper;
+import javax.ws.rs.ext.Provider;
+import java.util.List;
+
+import static javax.ws.rs.core.Response.Status.CONFLICT;
+
+@Provider
+public class IdempotencyExceptionMapper implements ExceptionMapper<IdempotencyException> {
+
+    public static final int UNPROCESSABLE_ENTITY = 422;
+
+    @Override
+    public Response toResponse(IdempotencyException exception) {
+        return Response
+                .status(exception.isInFlight() ? CONFLICT.getStatusCode() : UNPROCESSABLE_ENTITY)
+                .entity(new ResponseError(exception.getMessage(),
+                        List.of(new ErrorField("Idempotency-Key", exception.getMessage()))))
+                .build();
+    }
+}
@@ -1,7 +1,10 @@
 package org.seariver.kanbanboard.commom.exception;
 
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
 import java.util.List;
 
+@RegisterForReflection
 public class ResponseError {
 
     private final String message;
@@ -20,6 +23,7 @@ public class ResponseError {
         return errors;
     }
 
+    @RegisterForReflection
     public static class ErrorField {
 
         private final String field;
@@ -0,0 +1,28 @@
+package org.seariver.kanbanboard.commom.exception;
+
+/**
+ * Raised when a command or query type already runs at its concurrency limit.
+ * <p>
+ * Thrown in bulk while shedding load, so it carries no stack trace.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    public static final String ERROR_MESSAGE = "%s is over its concurrency limit of %d";
+
+    private final String eventType;
+    private final int retryAfterInSeconds;
+
+    public ServiceOverloadedException(String eventType, int limit, int retryAfterInSeconds) {
+        super(String.format(ERROR_MESSAGE, eventType, limit), null, false, false);
+        this.eventType = eventType;
+        this.retryAfterInSeconds = retryAfterInSeconds;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public int getRetryAfterInSeconds() {
+        return retryAfterInSeconds;
+    }
+}
@@ -0,0 +1,25 @@
+package org.seariver.kanbanboard.commom.exception;
+
+import org.seariver.kanbanboard.commom.exception.ResponseError.ErrorField;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.ExceptionMapper;
+import javax.ws.rs.ext.Provider;
+import java.util.List;
+
+import static javax.ws.rs.core.Response.Status.SERVICE_UNAVAILABLE;
+
+@Provider
+public class ServiceOverloadedExceptionMapper implements ExceptionMapper<ServiceOverloadedException> {
+
+    @Override
+    public Response toResponse(ServiceOverloadedException exception) {
+        return Response
+                .status(SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, exception.getRetryAfterInSeconds())
+                .entity(new ResponseError(SERVICE_UNAVAILABLE.getReasonPhrase(),
+                        List.of(new ErrorField("event", exception.getEventType()))))
+                .build();
+    }
+}
@@ -1,37 +1,73 @@
 package org.seariver.kanbanboard.commom.exception;
 
 import org.seariver.kanbanboard.commom.exception.ResponseError.ErrorField;
-import org.seariver.kanbanboard.write.application.exception.BucketNotExistentException;
 import org.seariver.kanbanboard.write.application.exception.WriteException;
+import org.seariver.kanbanboard.write.application.exception.WriteException.Error;
 
 import javax.ws.rs.core.Response;
 import javax.ws.rs.ext.ExceptionMapper;
 import javax.ws.rs.ext.Provider;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static javax.ws.rs.core.Response.Status.BAD_REQUEST;
 import static javax.ws.rs.core.Response.Status.NOT_FOUND;
+import static org.seariver.kanbanboard.write.application.exception.WriteException.Error.BUCKET_NOT_EXIST;
+import static org.seariver.kanbanboard.write.application.exception.WriteException.Error.CARD_NOT_EXIST;
+import static org.seariver.kanbanboard.write.application.exception.WriteException.Error.INVALID_ORDER;
 
+/**
+ * Answers domain errors with a body shared by every occurrence of the same {@link Error}, built once up front. Errors
+ * whose details tell the client what to fix get a body of their own carrying those details.
+ */
 @Provider
 public class WriteDomainExceptionMapper implements ExceptionMapper<WriteException> {
 
     public static final String INVALID_PARAMETER_MESSAGE = "Invalid parameter";
 
+    private static final Set<Error> NOT_FOUND_ERRORS = EnumSet.of(BUCKET_NOT_EXIST, CARD_NOT_EXIST);
+    private static final Set<Error> DETAILED_ERRORS = EnumSet.of(INVALID_ORDER);
+    private static final Map<Error, ResponseError> BODIES = bodies();
+
     @Override
     public Response toResponse(WriteException exception) {
 
-        var statusCode = BAD_REQUEST;
-        var errorMessage = INVALID_PARAMETER_MESSAGE;
-
-        if (exception instanceof BucketNotExistentException) {
-            statusCode = NOT_FOUND;
-            errorMessage = NOT_FOUND.getReasonPhrase();
-        }
+        var error = exception.getError();
+        var statusCode = NOT_FOUND_ERRORS.contains(error) ? NOT_FOUND : BAD_REQUEST;
+        var body = DETAILED_ERRORS.contains(error) && exception.hasError() ? detailedBody(exception) : BODIES.get(error);
 
         return Response
                 .status(statusCode)
-                .entity(new ResponseError(errorMessage,
-                        List.of(new ErrorField("code", String.valueOf(exception.getCode())))))
+                .entity(body)
                 .build();
     }
+
+    private static ResponseError detailedBody(WriteException exception) {
+
+        var body = BODIES.get(exception.getError());
+        List<ErrorField> errors = new ArrayList<>(body.getErrors());
+
+        exception.getErrors().entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> errors.add(new ErrorField(entry.getKey(), String.valueOf(entry.getValue()))));
+
+        return new ResponseError(body.getMessage(), errors);
+    }
+
+    private static Map<Error, ResponseError> bodies() {
+
+        Map<Error, ResponseError> bodies = new EnumMap<>(Error.class);
+
+        for (var error : Error.values()) {
+            var message = NOT_FOUND_ERRORS.contains(error) ? NOT_FOUND.getReasonPhrase() : INVALID_PARAMETER_MESSAGE;
+            bodies.put(error, new ResponseError(message,
+                    List.of(new ErrorField("code", String.valueOf(error.getCode())))));
+        }
+
+        return bodies;
+    }
 }
@@ -0,0 +1,30 @@
+package org.seariver.kanbanboard.commom.idempotency;
+
+/**
+ * {@code Idempotency-Key} of the current write request, bound to the request thread by {@link IdempotencyKeyFilter}.
+ */
+public final class IdempotencyKey {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final int MAX_LENGTH = 255;
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private IdempotencyKey() {
+    }
+
+    /**
+     * Key sent with the current request, {@code null} when there is none.
+     */
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    public static void set(String key) {
+        CURRENT.set(key);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
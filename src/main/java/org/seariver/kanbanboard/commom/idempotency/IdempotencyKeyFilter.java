@@ -0,0 +1,53 @@
+package org.seariver.kanbanboard.commom.idempotency;
+
+import org.seariver.kanbanboard.commom.exception.ResponseError;
+import org.seariver.kanbanboard.commom.exception.ResponseError.ErrorField;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.Provider;
+import java.util.List;
+
+import static org.seariver.kanbanboard.commom.exception.ConstraintExceptionMapper.INVALID_PARAMETER_MESSAGE;
+
+/**
+ * Binds the {@code Idempotency-Key} header of write requests to the request thread for {@code ServiceBus}.
+ */
+@Provider
+public class IdempotencyKeyFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    @Override
+    public void filter(ContainerRequestContext request) {
+
+        IdempotencyKey.clear();
+
+        var key = request.getHeaderString(IdempotencyKey.HEADER);
+        var isWrite = !HttpMethod.GET.equals(request.getMethod()) && !HttpMethod.HEAD.equals(request.getMethod());
+
+        if (!isWrite || key == null || key.isBlank()) {
+            return;
+        }
+
+        if (key.length() > IdempotencyKey.MAX_LENGTH) {
+            request.abortWith(Response
+                    .status(Response.Status.BAD_REQUEST)
+                    .type(MediaType.APPLICATION_JSON)
+                    .entity(new ResponseError(INVALID_PARAMETER_MESSAGE, List.of(new ErrorField(
+                            IdempotencyKey.HEADER, "size must be between 1 and " + IdempotencyKey.MAX_LENGTH))))
+                    .build());
+            return;
+        }
+
+        IdempotencyKey.set(key.trim());
+    }
+
+    @Override
+    public void filter(ContainerRequestContext request, ContainerResponseContext response) {
+        IdempotencyKey.clear();
+    }
+}
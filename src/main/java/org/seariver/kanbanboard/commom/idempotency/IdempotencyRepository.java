@@ -0,0 +1,61 @@
+package org.seariver.kanbanboard.commom.idempotency;
+
+import org.seariver.kanbanboard.commom.jdbc.InstrumentedNamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@ApplicationScoped
+public class IdempotencyRepository {
+
+    public static final String KEY_FIELD = "idempotency_key";
+    public static final String FINGERPRINT_FIELD = "fingerprint";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public IdempotencyRepository(DataSource dataSource) {
+        jdbcTemplate = new InstrumentedNamedParameterJdbcTemplate(dataSource, IdempotencyRepository.class);
+    }
+
+    public Optional<String> findFingerprint(String key) {
+
+        var sql = "SELECT fingerprint FROM idempotency_key WHERE idempotency_key = :idempotency_key";
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue(KEY_FIELD, key);
+
+        return jdbcTemplate.query(sql, parameters, rs -> rs.next()
+                ? Optional.of(rs.getString(FINGERPRINT_FIELD))
+                : Optional.empty());
+    }
+
+    /**
+     * Inserts the key in the current transaction; a concurrent insert of the same key on another node fails with
+     * {@link org.springframework.dao.DuplicateKeyException}.
+     */
+    public void create(String key, String fingerprint) {
+
+        var sql = "INSERT INTO idempotency_key (idempotency_key, fingerprint) VALUES (:idempotency_key, :fingerprint)";
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue(KEY_FIELD, key)
+                .addValue(FINGERPRINT_FIELD, fingerprint);
+
+        jdbcTemplate.update(sql, parameters);
+    }
+
+    public int deleteCreatedBefore(LocalDateTime createdBefore) {
+
+        var sql = "DELETE FROM idempotency_key WHERE created_at < :created_before";
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("created_before", Timestamp.valueOf(createdBefore));
+
+        return jdbcTemplate.update(sql, parameters);
+    }
+}
@@ -0,0 +1,238 @@
+package org.seariver.kanbanboard.commom.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import org.seariver.kanbanboard.commom.exception.IdempotencyException;
+import org.springframework.dao.DuplicateKeyException;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static java.util.concurrent.TimeUnit.HOURS;
+
+/**
+ * Remembers the {@code Idempotency-Key}s of completed commands so a retried request is answered without running
+ * the command again.
+ * <p>
+ * Keys live in a bounded in-memory map for {@code ttl-seconds}, paired with a fingerprint of the command so a key
+ * reused for a different request is refused. A key whose command is still running only holds for
+ * {@code lease-seconds}, so a claim nobody completes or abandons does not block retries for the whole TTL.
+ * <p>
+ * With {@code persistent} the key is also written to the {@code idempotency_key} table inside the command
+ * transaction, which makes retries landing on another node replay as well and lets the primary key settle
+ * concurrent duplicates.
+ */
+@ApplicationScoped
+public class IdempotencyStore {
+
+    final static Logger logger = Logger.getLogger(IdempotencyStore.class);
+
+    public enum Outcome {PROCEED, REPLAY}
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final IdempotencyRepository repository;
+    private final ObjectMapper mapper;
+    private final long ttlInNano;
+    private final long leaseInNano;
+    private final boolean persistent;
+    private final Map<String, Entry> entries;
+    private ScheduledExecutorService scheduler;
+
+    public IdempotencyStore(
+            IdempotencyRepository repository,
+            ObjectMapper mapper,
+            @ConfigProperty(name = "kanbanboard.idempotency.ttl-seconds", defaultValue = "86400") long ttlInSeconds,
+            @ConfigProperty(name = "kanbanboard.idempotency.lease-seconds", defaultValue = "30") long leaseInSeconds,
+            @ConfigProperty(name = "kanbanboard.idempotency.max-entries", defaultValue = "10000") int maxEntries,
+            @ConfigProperty(name = "kanbanboard.idempotency.persistent", defaultValue = "false") boolean persistent) {
+        this.repository = repository;
+        this.mapper = mapper;
+        this.ttlInNano = ttlInSeconds * 1_000_000_000L;
+        this.leaseInNano = leaseInSeconds * 1_000_000_000L;
+        this.persistent = persistent;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    void onStart(@Observes StartupEvent event) {
+
+        if (!persistent) {
+            return;
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "idempotency-key-purge");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::purge, 1, 1, HOURS);
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    /**
+     * Claims the key for the command, or tells the caller to replay the result of an earlier identical command.
+     *
+     * @throws IdempotencyException when the key is in progress or was used for a different command
+     */
+    public Outcome begin(String key, String fingerprint) {
+
+        synchronized (entries) {
+            var entry = live(key);
+
+            if (entry != null) {
+                return outcomeOf(entry, fingerprint);
+            }
+
+            entries.put(key, new Entry(fingerprint, false, System.nanoTime()));
+        }
+
+        if (!persistent) {
+            return Outcome.PROCEED;
+        }
+
+        Optional<String> stored;
+
+        try {
+            stored = repository.findFingerprint(key);
+        } catch (RuntimeException exception) {
+            abandon(key);
+            throw exception;
+        }
+
+        if (stored.isEmpty()) {
+            return Outcome.PROCEED;
+        }
+
+        complete(key, stored.get());
+        return outcomeOf(new Entry(stored.get(), true, System.nanoTime()), fingerprint);
+    }
+
+    /**
+     * Records the key in the command transaction when persistent.
+     */
+    public void persist(String key, String fingerprint) {
+
+        if (!persistent) {
+            return;
+        }
+
+        try {
+            repository.create(key, fingerprint);
+        } catch (DuplicateKeyException exception) {
+            throw IdempotencyException.inFlight(exception);
+        }
+    }
+
+    public void complete(String key, String fingerprint) {
+        synchronized (entries) {
+            entries.put(key, new Entry(fingerprint, true, System.nanoTime()));
+        }
+    }
+
+    /**
+     * Releases a key whose command failed, so the client can retry it.
+     */
+    public void abandon(String key) {
+        synchronized (entries) {
+            var entry = entries.get(key);
+
+            if (entry != null && !entry.completed) {
+                entries.remove(key);
+            }
+        }
+    }
+
+    public String fingerprint(String eventType, Object command) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            digest.update(eventType.getBytes(StandardCharsets.UTF_8));
+            digest.update(mapper.writeValueAsBytes(command));
+            return hex(digest.digest());
+        } catch (NoSuchAlgorithmException | JsonProcessingException exception) {
+            throw new IllegalStateException("Unable to fingerprint " + eventType, exception);
+        }
+    }
+
+    private Entry live(String key) {
+
+        var entry = entries.get(key);
+
+        if (entry != null && System.nanoTime() - entry.createdInNano > (entry.completed ? ttlInNano : leaseInNano)) {
+            entries.remove(key);
+            return null;
+        }
+
+        return entry;
+    }
+
+    private static Outcome outcomeOf(Entry entry, String fingerprint) {
+
+        if (!entry.fingerprint.equals(fingerprint)) {
+            throw IdempotencyException.reused();
+        }
+
+        if (!entry.completed) {
+            throw IdempotencyException.inFlight(null);
+        }
+
+        return Outcome.REPLAY;
+    }
+
+    private void purge() {
+        try {
+            var purged = repository.deleteCreatedBefore(LocalDateTime.now().minusNanos(ttlInNano));
+            logger.debugv("Purged {0} expired idempotency key(s)", purged);
+        } catch (RuntimeException exception) {
+            logger.error("Idempotency key purge failed", exception);
+        }
+    }
+
+    private static String hex(byte[] bytes) {
+
+        var hex = new char[bytes.length * 2];
+
+        for (var index = 0; index < bytes.length; index++) {
+            hex[index * 2] = HEX[(bytes[index] >> 4) & 0xF];
+            hex[index * 2 + 1] = HEX[bytes[index] & 0xF];
+        }
+
+        return new String(hex);
+    }
+
+    private static class Entry {
+
+        private final String fingerprint;
+        private final boolean completed;
+        private final long createdInNano;
+
+        Entry(String fingerprint, boolean completed, long createdInNano) {
+            this.fingerprint = fingerprint;
+            this.completed = completed;
+            this.createdInNano = createdInNano;
+        }
+    }
+}
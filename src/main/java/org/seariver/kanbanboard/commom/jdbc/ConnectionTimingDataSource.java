@@ -0,0 +1,57 @@
+package org.seariver.kanbanboard.commom.jdbc;
+
+import org.seariver.kanbanboard.commom.metrics.LatencyHistogram;
+import org.seariver.kanbanboard.commom.observable.SqlStatistics;
+import org.springframework.core.InfrastructureProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Records the time spent waiting for a pooled connection, into the {@link SqlStatistics} of the current event and
+ * into an application wide acquisition histogram.
+ * <p>
+ * As an {@link InfrastructureProxy} Spring resolves it to the target datasource when binding and looking up
+ * transactional connections, so wrapped and unwrapped users keep sharing one transaction.
+ */
+public class ConnectionTimingDataSource extends DelegatingDataSource implements InfrastructureProxy {
+
+    private static final LatencyHistogram ACQUISITION_TIME = new LatencyHistogram();
+
+    public ConnectionTimingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    /**
+     * Connection acquisition latency of every wrapped datasource since startup.
+     */
+    public static LatencyHistogram acquisitionTime() {
+        return ACQUISITION_TIME;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+
+        var start = System.nanoTime();
+
+        try {
+            return super.getConnection();
+        } finally {
+            var elapsed = System.nanoTime() - start;
+            var statistics = SqlStatistics.current();
+
+            ACQUISITION_TIME.record(elapsed);
+
+            if (statistics != null) {
+                statistics.recordConnectionWait(elapsed);
+            }
+        }
+    }
+
+    @Override
+    public Object getWrappedObject() {
+        return obtainTargetDataSource();
+    }
+}
@@ -0,0 +1,188 @@
+package org.seariver.kanbanboard.commom.jdbc;
+
+import org.seariver.kanbanboard.commom.jfr.SqlExecutionEvent;
+import org.seariver.kanbanboard.commom.observable.SqlStatistics;
+import org.seariver.kanbanboard.commom.tracing.Span;
+import org.seariver.kanbanboard.commom.tracing.Tracer;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.SqlProvider;
+import org.springframework.jdbc.core.StatementCallback;
+import org.springframework.jdbc.support.KeyHolder;
+
+import javax.sql.DataSource;
+
+/**
+ * {@link JdbcTemplate} that adds every statement it runs to the {@link SqlStatistics} of the current event, emits a
+ * {@link SqlExecutionEvent} for it and opens an {@code sql} span in the current trace.
+ * <p>
+ * Without a current event it behaves exactly like its parent. A batch counts as one statement; rows are the update
+ * counts for writes and the rows read through the result set for queries.
+ */
+public class InstrumentedJdbcTemplate extends JdbcTemplate {
+
+    private final String repository;
+
+    public InstrumentedJdbcTemplate(DataSource dataSource) {
+        this(dataSource, null);
+    }
+
+    public InstrumentedJdbcTemplate(DataSource dataSource, Class<?> repository) {
+        super(new ConnectionTimingDataSource(dataSource));
+        this.repository = repository == null ? null : repository.getSimpleName();
+    }
+
+    @Override
+    public <T> T execute(PreparedStatementCreator creator, PreparedStatementCallback<T> action) throws DataAccessException {
+
+        var flightEvent = new SqlExecutionEvent();
+        var statistics = SqlStatistics.current();
+        var rowsBefore = statistics == null ? 0 : statistics.getRows();
+        T result = null;
+        var span = Tracer.span("sql");
+        var start = System.nanoTime();
+        flightEvent.begin();
+
+        try {
+            result = super.execute(creator, action);
+            return result;
+        } finally {
+            var elapsed = System.nanoTime() - start;
+
+            if (statistics != null) {
+                statistics.recordStatement(sqlOf(creator), elapsed);
+            }
+
+            commit(flightEvent, span, creator, result, statistics, rowsBefore);
+        }
+    }
+
+    @Override
+    public <T> T execute(StatementCallback<T> action) throws DataAccessException {
+
+        var flightEvent = new SqlExecutionEvent();
+        var statistics = SqlStatistics.current();
+        var rowsBefore = statistics == null ? 0 : statistics.getRows();
+        T result = null;
+        var span = Tracer.span("sql");
+        var start = System.nanoTime();
+        flightEvent.begin();
+
+        try {
+            result = super.execute(action);
+            return result;
+        } finally {
+            var elapsed = System.nanoTime() - start;
+
+            if (statistics != null) {
+                statistics.recordStatement(sqlOf(action), elapsed);
+            }
+
+            commit(flightEvent, span, action, result, statistics, rowsBefore);
+        }
+    }
+
+    private void commit(SqlExecutionEvent flightEvent,
+                        Span span,
+                        Object statementSource,
+                        Object result,
+                        SqlStatistics statistics,
+                        long rowsBefore) {
+
+        flightEvent.end();
+
+        if (span.isRecording()) {
+            span.attribute("repository", repository)
+                    .attribute("db.statement", sqlOf(statementSource))
+                    .attribute("rows", rowsOf(result, statistics, rowsBefore))
+                    .close();
+        }
+
+        if (!flightEvent.shouldCommit()) {
+            return;
+        }
+
+        flightEvent.repository = repository;
+        flightEvent.sql = sqlOf(statementSource);
+        flightEvent.rows = rowsOf(result, statistics, rowsBefore);
+        flightEvent.commit();
+    }
+
+    private static long rowsOf(Object result, SqlStatistics statistics, long rowsBefore) {
+
+        if (result instanceof Integer) {
+            return (Integer) result;
+        }
+
+        if (result instanceof int[]) {
+            var rows = 0L;
+            for (var count : (int[]) result) {
+                rows += Math.max(count, 0);
+            }
+            return rows;
+        }
+
+        // fetched rows are only counted through the result set while an event is running
+        return statistics == null ? -1 : statistics.getRows() - rowsBefore;
+    }
+
+    @Override
+    public <T> T query(PreparedStatementCreator creator,
+                       PreparedStatementSetter setter,
+                       ResultSetExtractor<T> extractor) throws DataAccessException {
+
+        var statistics = SqlStatistics.current();
+
+        if (statistics == null) {
+            return super.query(creator, setter, extractor);
+        }
+
+        return super.query(creator, setter, resultSet -> extractor.extractData(new RowCountingResultSet(resultSet, statistics)));
+    }
+
+    @Override
+    protected int update(PreparedStatementCreator creator, PreparedStatementSetter setter) throws DataAccessException {
+        return recordRows(super.update(creator, setter));
+    }
+
+    @Override
+    public int update(PreparedStatementCreator creator, KeyHolder keyHolder) throws DataAccessException {
+        return recordRows(super.update(creator, keyHolder));
+    }
+
+    @Override
+    public int[] batchUpdate(String sql, BatchPreparedStatementSetter setter) throws DataAccessException {
+
+        var counts = super.batchUpdate(sql, setter);
+        var statistics = SqlStatistics.current();
+
+        if (statistics != null) {
+            for (var count : counts) {
+                // drivers may answer SUCCESS_NO_INFO (-2) for batched statements
+                statistics.recordRows(Math.max(count, 0));
+            }
+        }
+
+        return counts;
+    }
+
+    private static String sqlOf(Object statementSource) {
+        return statementSource instanceof SqlProvider ? ((SqlProvider) statementSource).getSql() : null;
+    }
+
+    private static int recordRows(int count) {
+
+        var statistics = SqlStatistics.current();
+
+        if (statistics != null) {
+            statistics.recordRows(count);
+        }
+
+        return count;
+    }
+}
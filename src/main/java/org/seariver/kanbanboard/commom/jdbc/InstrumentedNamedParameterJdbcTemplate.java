@@ -0,0 +1,48 @@
+package org.seariver.kanbanboard.commom.jdbc;
+
+import org.seariver.kanbanboard.commom.observable.SqlStatistics;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import javax.sql.DataSource;
+import java.util.function.Consumer;
+
+/**
+ * {@link NamedParameterJdbcTemplate} over an {@link InstrumentedJdbcTemplate} that also hands the named SQL and its
+ * parameter source to the current event while statements are being captured for the slow log.
+ */
+public class InstrumentedNamedParameterJdbcTemplate extends NamedParameterJdbcTemplate {
+
+    public InstrumentedNamedParameterJdbcTemplate(DataSource dataSource) {
+        super(new InstrumentedJdbcTemplate(dataSource));
+    }
+
+    public InstrumentedNamedParameterJdbcTemplate(DataSource dataSource, Class<?> repository) {
+        super(new InstrumentedJdbcTemplate(dataSource, repository));
+    }
+
+    @Override
+    protected PreparedStatementCreator getPreparedStatementCreator(String sql,
+                                                                   SqlParameterSource paramSource,
+                                                                   Consumer<PreparedStatementCreatorFactory> customizer) {
+        bind(sql, paramSource);
+        return super.getPreparedStatementCreator(sql, paramSource, customizer);
+    }
+
+    @Override
+    protected PreparedStatementCreator getPreparedStatementCreator(String sql, SqlParameterSource paramSource) {
+        bind(sql, paramSource);
+        return super.getPreparedStatementCreator(sql, paramSource);
+    }
+
+    private static void bind(String sql, SqlParameterSource paramSource) {
+
+        var statistics = SqlStatistics.current();
+
+        if (statistics != null && statistics.isCapturing()) {
+            statistics.bind(sql, paramSource);
+        }
+    }
+}
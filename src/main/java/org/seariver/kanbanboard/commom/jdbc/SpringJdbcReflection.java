@@ -0,0 +1,17 @@
+package org.seariver.kanbanboard.commom.jdbc;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import org.springframework.jdbc.support.CustomSQLErrorCodesTranslation;
+import org.springframework.jdbc.support.SQLErrorCodes;
+
+/**
+ * Spring translates vendor error codes, such as unique violations into {@code DuplicateKeyException}, with beans it
+ * builds reflectively from {@code sql-error-codes.xml}; the native image needs them registered and the XML and its
+ * DTD included as resources, see {@code ### NATIVE} in application.properties.
+ */
+@RegisterForReflection(targets = {SQLErrorCodes.class, CustomSQLErrorCodesTranslation.class})
+public final class SpringJdbcReflection {
+
+    private SpringJdbcReflection() {
+    }
+}
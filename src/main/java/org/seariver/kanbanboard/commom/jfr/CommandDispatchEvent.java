@@ -0,0 +1,50 @@
+package org.seariver.kanbanboard.commom.jfr;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.seariver.kanbanboard.CommandDispatch")
+@Label("Command Dispatch")
+@Description("Command handled by the service bus, including its transaction, outbox append and notification")
+@Category({"Kanbanboard", "Service Bus"})
+@StackTrace(false)
+public class CommandDispatchEvent extends Event {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String EXTERNAL_ID_SUFFIX = "ExternalId";
+
+    @Label("Command")
+    String command;
+
+    @Label("Aggregate Id")
+    String aggregateId;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    @Label("Exception")
+    String exception;
+
+    /**
+     * First {@code *ExternalId} property of the command, the same convention board change notifications rely on.
+     */
+    static String aggregateIdOf(Object command) {
+
+        var fields = MAPPER.valueToTree(command).fields();
+
+        while (fields.hasNext()) {
+            var field = fields.next();
+
+            if (field.getKey().endsWith(EXTERNAL_ID_SUFFIX) && field.getValue().isTextual()) {
+                return field.getValue().asText();
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,50 @@
+package org.seariver.kanbanboard.commom.jfr;
+
+import jdk.jfr.Event;
+import org.seariver.kanbanboard.commom.observable.InternalEvent;
+
+import static org.seariver.kanbanboard.commom.observable.InternalEvent.Type.COMMAND;
+
+/**
+ * Emits the flight recorder counterpart of an {@link InternalEvent} handled by the service bus.
+ * <p>
+ * Fields are only filled once the recorder accepted the event, a disabled event costs the begin/end calls.
+ */
+public final class DispatchEvents {
+
+    private DispatchEvents() {
+    }
+
+    public static Event begin(InternalEvent internalEvent) {
+
+        Event event = internalEvent.getType() == COMMAND ? new CommandDispatchEvent() : new QueryResolutionEvent();
+        event.begin();
+        return event;
+    }
+
+    public static void complete(Event event, InternalEvent internalEvent) {
+
+        event.end();
+
+        if (!event.shouldCommit()) {
+            return;
+        }
+
+        var exception = internalEvent.hasError() ? internalEvent.getException().getClass().getName() : null;
+
+        if (event instanceof CommandDispatchEvent) {
+            var dispatch = (CommandDispatchEvent) event;
+            dispatch.command = internalEvent.getOrigin();
+            dispatch.aggregateId = CommandDispatchEvent.aggregateIdOf(internalEvent.getSource());
+            dispatch.succeeded = internalEvent.isSuccess();
+            dispatch.exception = exception;
+        } else {
+            var resolution = (QueryResolutionEvent) event;
+            resolution.query = internalEvent.getOrigin();
+            resolution.succeeded = internalEvent.isSuccess();
+            resolution.exception = exception;
+        }
+
+        event.commit();
+    }
+}
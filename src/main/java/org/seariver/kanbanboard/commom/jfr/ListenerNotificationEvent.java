@@ -0,0 +1,22 @@
+package org.seariver.kanbanboard.commom.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Time the synchronous observers of one internal event took, logging and metrics included.
+ */
+@Name("org.seariver.kanbanboard.ListenerNotification")
+@Label("Listener Notification")
+@Description("Internal event delivered to its observers")
+@Category({"Kanbanboard", "Service Bus"})
+@StackTrace(false)
+public class ListenerNotificationEvent extends Event {
+
+    @Label("Origin")
+    public String origin;
+}
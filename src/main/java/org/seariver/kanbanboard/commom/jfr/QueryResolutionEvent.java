@@ -0,0 +1,25 @@
+package org.seariver.kanbanboard.commom.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.seariver.kanbanboard.QueryResolution")
+@Label("Query Resolution")
+@Description("Query resolved by the service bus")
+@Category({"Kanbanboard", "Service Bus"})
+@StackTrace(false)
+public class QueryResolutionEvent extends Event {
+
+    @Label("Query")
+    String query;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    @Label("Exception")
+    String exception;
+}
@@ -0,0 +1,28 @@
+package org.seariver.kanbanboard.commom.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One statement run through {@link org.seariver.kanbanboard.commom.jdbc.InstrumentedJdbcTemplate}, a batch counts
+ * as one.
+ */
+@Name("org.seariver.kanbanboard.SqlExecution")
+@Label("SQL Execution")
+@Description("Statement issued by a repository")
+@Category({"Kanbanboard", "Repository"})
+public class SqlExecutionEvent extends Event {
+
+    @Label("Repository")
+    public String repository;
+
+    @Label("SQL")
+    public String sql;
+
+    @Label("Rows")
+    @Description("Affected rows for writes, fetched rows for queries, -1 when unknown")
+    public long rows;
+}
@@ -0,0 +1,129 @@
+package org.seariver.kanbanboard.commom.limit;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrency limit of one command or query type, adjusted by additive increase and multiplicative decrease.
+ * <p>
+ * Calls are judged in windows of {@value #DECISION_WINDOW} samples: when the p90 latency of a window is above
+ * {@code tolerance} times the baseline the limit is cut by {@link #BACKOFF}, otherwise it grows by one if at least
+ * half of it was in use during the window. A single slow call never moves the limit; a failure cuts it right away.
+ * The baseline is the p90 of the last {@value #BASELINE_WINDOW} samples of the previous windows. Only successful
+ * calls that did the actual work are samples: domain errors, cache hits and idempotent replays answer much faster
+ * than the normal path and would drag the baseline, and with it the limit, down.
+ */
+public class AimdLimit {
+
+    static final double BACKOFF = 0.9;
+    static final double PERCENTILE = 0.9;
+    static final int DECISION_WINDOW = 32;
+    static final int BASELINE_WINDOW = 256;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private volatile double limit;
+    private final long[] window = new long[DECISION_WINDOW];
+    private final long[] history = new long[BASELINE_WINDOW];
+    private final long[] sorted = new long[BASELINE_WINDOW];
+    private int windowSize;
+    private int maxConcurrent;
+    private long samples;
+    private long baselineInNano;
+
+    public AimdLimit(int initialLimit, int minLimit, int maxLimit, double tolerance) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+    }
+
+    public boolean tryAcquire() {
+
+        if (inFlight.incrementAndGet() > (int) limit) {
+            inFlight.decrementAndGet();
+            rejected.increment();
+            return false;
+        }
+
+        return true;
+    }
+
+    public void release(long latencyInNano, boolean failed) {
+        release(latencyInNano, failed, !failed);
+    }
+
+    /**
+     * @param sample whether the call ran the normal path and its latency may be judged
+     */
+    public void release(long latencyInNano, boolean failed, boolean sample) {
+
+        var concurrent = inFlight.getAndDecrement();
+
+        synchronized (this) {
+
+            if (failed) {
+                limit = Math.max(minLimit, limit * BACKOFF);
+                return;
+            }
+
+            if (!sample) {
+                return;
+            }
+
+            window[windowSize++] = latencyInNano;
+            maxConcurrent = Math.max(maxConcurrent, concurrent);
+
+            if (windowSize == DECISION_WINDOW) {
+                decide();
+            }
+        }
+    }
+
+    private void decide() {
+
+        var latencyInNano = percentile(window, windowSize);
+
+        if (baselineInNano > 0 && latencyInNano > baselineInNano * tolerance) {
+            limit = Math.max(minLimit, limit * BACKOFF);
+        } else if (maxConcurrent * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+
+        for (var index = 0; index < windowSize; index++) {
+            history[(int) (samples++ % BASELINE_WINDOW)] = window[index];
+        }
+        baselineInNano = percentile(history, (int) Math.min(samples, BASELINE_WINDOW));
+
+        windowSize = 0;
+        maxConcurrent = 0;
+    }
+
+    private long percentile(long[] latencies, int size) {
+
+        System.arraycopy(latencies, 0, sorted, 0, size);
+        Arrays.sort(sorted, 0, size);
+
+        return sorted[(int) Math.ceil(size * PERCENTILE) - 1];
+    }
+
+    long getBaselineInNano() {
+        return baselineInNano;
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,117 @@
+package org.seariver.kanbanboard.commom.limit;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.seariver.kanbanboard.commom.exception.DomainException;
+import org.seariver.kanbanboard.commom.exception.ServiceOverloadedException;
+import org.seariver.kanbanboard.commom.metrics.PrometheusText;
+import org.seariver.kanbanboard.commom.observable.InternalEvent;
+
+import javax.enterprise.context.ApplicationScoped;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * One {@link AimdLimit} per command and query type, so a flood of one type is shed without taking the capacity
+ * of the others.
+ */
+@ApplicationScoped
+public class ConcurrencyLimits {
+
+    public static final String LIMIT_METRIC = "kanbanboard_concurrency_limit";
+    public static final String REJECTED_METRIC = "kanbanboard_concurrency_rejected_total";
+
+    private final boolean enabled;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final int retryAfterInSeconds;
+    private final ConcurrentMap<String, AimdLimit> limits = new ConcurrentHashMap<>();
+
+    public ConcurrencyLimits(
+            @ConfigProperty(name = "kanbanboard.limit.enabled", defaultValue = "false") boolean enabled,
+            @ConfigProperty(name = "kanbanboard.limit.initial", defaultValue = "20") int initialLimit,
+            @ConfigProperty(name = "kanbanboard.limit.min", defaultValue = "2") int minLimit,
+            @ConfigProperty(name = "kanbanboard.limit.max", defaultValue = "200") int maxLimit,
+            @ConfigProperty(name = "kanbanboard.limit.latency-tolerance", defaultValue = "2.0") double tolerance,
+            @ConfigProperty(name = "kanbanboard.limit.retry-after-seconds", defaultValue = "1") int retryAfterInSeconds) {
+        this.enabled = enabled;
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.retryAfterInSeconds = retryAfterInSeconds;
+    }
+
+    /**
+     * Takes a slot for the event type or rejects it right away.
+     *
+     * @return the limit to release once the event completed, {@code null} while limits are disabled
+     */
+    public AimdLimit acquire(InternalEvent event) {
+
+        if (!enabled) {
+            return null;
+        }
+
+        var limit = limits.computeIfAbsent(event.getOrigin(),
+                origin -> new AimdLimit(initialLimit, minLimit, maxLimit, tolerance));
+
+        if (!limit.tryAcquire()) {
+            throw new ServiceOverloadedException(
+                    event.getSource().getClass().getSimpleName(), limit.getLimit(), retryAfterInSeconds);
+        }
+
+        return limit;
+    }
+
+    public void release(AimdLimit limit, InternalEvent event) {
+
+        if (limit == null) {
+            return;
+        }
+
+        // domain errors are the caller's fault and say nothing about the service's health
+        var failed = event.hasError() && !(event.getException() instanceof DomainException);
+        // answers from the cache or an idempotency record skip the work whose latency the limit tracks
+        var sample = event.isSuccess() && !event.isCached() && !event.isReplayed();
+
+        limit.release(event.getElapsedTimeInNano(), failed, sample);
+    }
+
+    AimdLimit limit(String origin) {
+        return limits.get(origin);
+    }
+
+    public String scrape() {
+
+        if (limits.isEmpty()) {
+            return "";
+        }
+
+        var output = new StringBuilder();
+        Map<String, AimdLimit> sorted = new TreeMap<>(limits);
+
+        PrometheusText.header(output, LIMIT_METRIC, "gauge", "Current concurrency limit and calls in flight.");
+        sorted.forEach((origin, limit) -> {
+            PrometheusText.sample(output, LIMIT_METRIC, labels(origin, "limit"), limit.getLimit());
+            PrometheusText.sample(output, LIMIT_METRIC, labels(origin, "in_flight"), limit.getInFlight());
+        });
+
+        PrometheusText.header(output, REJECTED_METRIC, "counter", "Calls shed with 503.");
+        sorted.forEach((origin, limit) -> PrometheusText.sample(output, REJECTED_METRIC,
+                String.format("event=\"%s\"", simpleName(origin)), limit.getRejected()));
+
+        return output.toString();
+    }
+
+    private static String labels(String origin, String state) {
+        return String.format("event=\"%s\",state=\"%s\"", simpleName(origin), state);
+    }
+
+    private static String simpleName(String origin) {
+        return origin.substring(origin.lastIndexOf('.') + 1);
+    }
+}
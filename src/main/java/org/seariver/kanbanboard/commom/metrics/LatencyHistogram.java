@@ -0,0 +1,107 @@
+package org.seariver.kanbanboard.commom.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-size log-linear histogram of nanosecond latencies, in the spirit of HdrHistogram.
+ * <p>
+ * Every power of two is split into {@value #SUB_BUCKETS} linear buckets, so a reported percentile is at most about
+ * 3% above the recorded value. Recording is allocation free and lock free; values above about 18 minutes are
+ * clamped into the last bucket.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+    static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(long valueInNano) {
+
+        var value = Math.max(0, valueInNano);
+
+        counts.incrementAndGet(indexOf(value));
+        count.increment();
+        sum.add(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSumInNano() {
+        return sum.sum();
+    }
+
+    public long getMaxInNano() {
+        return max.get();
+    }
+
+    /**
+     * Highest value equivalent to the bucket holding the given percentile (0 to 100), 0 when nothing was recorded.
+     */
+    public long valueAtPercentile(double percentile) {
+
+        long total = 0;
+        long[] snapshot = new long[BUCKETS];
+
+        for (var index = 0; index < BUCKETS; index++) {
+            snapshot[index] = counts.get(index);
+            total += snapshot[index];
+        }
+
+        if (total == 0) {
+            return 0;
+        }
+
+        var rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0;
+
+        for (var index = 0; index < BUCKETS; index++) {
+            seen += snapshot[index];
+            if (seen >= rank) {
+                return Math.min(highestEquivalentValue(index), max.get());
+            }
+        }
+
+        return max.get();
+    }
+
+    static int indexOf(long value) {
+
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        var exponent = 63 - Long.numberOfLeadingZeros(value);
+
+        if (exponent > MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+
+        var shift = exponent - SUB_BUCKET_BITS;
+        var subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long highestEquivalentValue(int index) {
+
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+
+        var shift = index / SUB_BUCKETS - 1;
+        var top = (long) (index % SUB_BUCKETS + SUB_BUCKETS);
+
+        return ((top + 1) << shift) - 1;
+    }
+}
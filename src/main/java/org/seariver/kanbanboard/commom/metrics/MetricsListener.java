@@ -0,0 +1,103 @@
+package org.seariver.kanbanboard.commom.metrics;
+
+import org.seariver.kanbanboard.commom.exception.DomainException;
+import org.seariver.kanbanboard.commom.observable.InternalEvent;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Records the elapsed time of every command and query into one {@link LatencyHistogram} per event class and outcome,
+ * and the bytes it allocated into one histogram per event class, and renders them in the Prometheus text format.
+ */
+@ApplicationScoped
+public class MetricsListener {
+
+    public static final String DURATION_METRIC = "kanbanboard_event_duration_seconds";
+    public static final String ALLOCATION_METRIC = "kanbanboard_event_allocated_bytes";
+
+    enum Outcome {
+        SUCCESS, DOMAIN_ERROR, FAILURE;
+
+        String label() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final ConcurrentMap<String, LatencyHistogram[]> histograms = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LatencyHistogram> allocations = new ConcurrentHashMap<>();
+
+    public void onEventOccur(@Observes InternalEvent internalEvent) {
+
+        var byOutcome = histograms.computeIfAbsent(internalEvent.getOrigin(), origin -> newHistograms());
+
+        byOutcome[outcomeOf(internalEvent).ordinal()].record(internalEvent.getElapsedTimeInNano());
+
+        if (internalEvent.getAllocatedBytes() >= 0) {
+            allocation(internalEvent.getOrigin()).record(internalEvent.getAllocatedBytes());
+        }
+    }
+
+    LatencyHistogram allocation(String origin) {
+        return allocations.computeIfAbsent(origin, key -> new LatencyHistogram());
+    }
+
+    LatencyHistogram histogram(String origin, Outcome outcome) {
+        return histograms.computeIfAbsent(origin, key -> newHistograms())[outcome.ordinal()];
+    }
+
+    public String scrape() {
+
+        var output = new StringBuilder();
+        PrometheusText.header(output, DURATION_METRIC, "summary", "Command and query latency since startup.");
+
+        Map<String, LatencyHistogram[]> sorted = new TreeMap<>(histograms);
+
+        sorted.forEach((origin, byOutcome) -> {
+            for (var outcome : Outcome.values()) {
+                var labels = String.format("event=\"%s\",outcome=\"%s\"", simpleName(origin), outcome.label());
+                PrometheusText.summary(output, DURATION_METRIC, labels, byOutcome[outcome.ordinal()]);
+            }
+        });
+
+        if (allocations.isEmpty()) {
+            return output.toString();
+        }
+
+        PrometheusText.header(output, ALLOCATION_METRIC, "summary", "Bytes allocated per command and query since startup.");
+
+        new TreeMap<>(allocations).forEach((origin, histogram) -> PrometheusText.summary(
+                output, ALLOCATION_METRIC, String.format("event=\"%s\"", simpleName(origin)), histogram, bytes -> bytes));
+
+        return output.toString();
+    }
+
+    static Outcome outcomeOf(InternalEvent internalEvent) {
+
+        if (internalEvent.isSuccess()) {
+            return Outcome.SUCCESS;
+        }
+
+        return internalEvent.getException() instanceof DomainException ? Outcome.DOMAIN_ERROR : Outcome.FAILURE;
+    }
+
+    private static LatencyHistogram[] newHistograms() {
+
+        var byOutcome = new LatencyHistogram[Outcome.values().length];
+
+        for (var index = 0; index < byOutcome.length; index++) {
+            byOutcome[index] = new LatencyHistogram();
+        }
+
+        return byOutcome;
+    }
+
+    private static String simpleName(String origin) {
+        return origin.substring(origin.lastIndexOf('.') + 1);
+    }
+}
@@ -0,0 +1,44 @@
+package org.seariver.kanbanboard.commom.metrics;
+
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import org.seariver.kanbanboard.commom.cache.QueryCache;
+import org.seariver.kanbanboard.commom.datasource.ConnectionPoolMonitor;
+import org.seariver.kanbanboard.commom.limit.ConcurrencyLimits;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Response;
+
+@ApplicationScoped
+@Path("metrics")
+@Tag(name = "metrics")
+public class MetricsRest {
+
+    public static final String PROMETHEUS_TEXT = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final MetricsListener metricsListener;
+    private final ConnectionPoolMonitor connectionPoolMonitor;
+    private final ConcurrencyLimits concurrencyLimits;
+    private final QueryCache queryCache;
+
+    public MetricsRest(MetricsListener metricsListener,
+                       ConnectionPoolMonitor connectionPoolMonitor,
+                       ConcurrencyLimits concurrencyLimits,
+                       QueryCache queryCache) {
+        this.metricsListener = metricsListener;
+        this.connectionPoolMonitor = connectionPoolMonitor;
+        this.concurrencyLimits = concurrencyLimits;
+        this.queryCache = queryCache;
+    }
+
+    @GET
+    @Produces(PROMETHEUS_TEXT)
+    public Response scrape() {
+        var body = metricsListener.scrape() + connectionPoolMonitor.scrape() + concurrencyLimits.scrape()
+                + queryCache.scrape();
+
+        return Response.ok(body).build();
+    }
+}
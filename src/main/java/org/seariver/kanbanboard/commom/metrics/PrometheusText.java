@@ -0,0 +1,66 @@
+package org.seariver.kanbanboard.commom.metrics;
+
+import java.util.function.LongFunction;
+
+/**
+ * Helpers writing samples in the Prometheus text exposition format, version 0.0.4.
+ */
+public final class PrometheusText {
+
+    public static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private PrometheusText() {
+    }
+
+    public static void header(StringBuilder output, String metric, String type, String help) {
+        output.append("# HELP ").append(metric).append(' ').append(help).append('\n')
+                .append("# TYPE ").append(metric).append(' ').append(type).append('\n');
+    }
+
+    public static void sample(StringBuilder output, String metric, String labels, Object value) {
+
+        output.append(metric);
+
+        if (labels != null && !labels.isEmpty()) {
+            output.append('{').append(labels).append('}');
+        }
+
+        output.append(' ').append(value).append('\n');
+    }
+
+    /**
+     * Quantiles, sum, count and max of a histogram in seconds; nothing when it is still empty.
+     */
+    public static void summary(StringBuilder output, String metric, String labels, LatencyHistogram histogram) {
+        summary(output, metric, labels, histogram, nano -> seconds(nano));
+    }
+
+    /**
+     * Quantiles, sum, count and max of a histogram converted by {@code unit}; nothing when it is still empty.
+     */
+    public static void summary(StringBuilder output,
+                               String metric,
+                               String labels,
+                               LatencyHistogram histogram,
+                               LongFunction<Object> unit) {
+
+        if (histogram.getCount() == 0) {
+            return;
+        }
+
+        var prefix = labels == null || labels.isEmpty() ? "" : labels + ",";
+
+        for (var quantile : QUANTILES) {
+            sample(output, metric, prefix + "quantile=\"" + quantile + "\"",
+                    unit.apply(histogram.valueAtPercentile(quantile * 100)));
+        }
+
+        sample(output, metric + "_sum", labels, unit.apply(histogram.getSumInNano()));
+        sample(output, metric + "_count", labels, histogram.getCount());
+        sample(output, metric + "_max", labels, unit.apply(histogram.getMaxInNano()));
+    }
+
+    public static double seconds(long nano) {
+        return nano / 1_000_000_000.0;
+    }
+}
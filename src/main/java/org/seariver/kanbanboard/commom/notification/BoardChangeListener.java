@@ -0,0 +1,158 @@
+package org.seariver.kanbanboard.commom.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import org.postgresql.PGConnection;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.Observes;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Holds one dedicated connection outside the pool in {@code LISTEN} and fires a {@link BoardChangedEvent} for every
+ * notification, including the ones this node sent.
+ * <p>
+ * Notifications sent while the connection is down are lost, so after every (re)connect an
+ * {@link BoardChangedEvent#everything()} is fired before listening resumes.
+ */
+@ApplicationScoped
+public class BoardChangeListener {
+
+    final static Logger logger = Logger.getLogger(BoardChangeListener.class);
+
+    private static final long MAX_BACKOFF_IN_MILLI = 30_000;
+
+    private final Event<BoardChangedEvent> changePublisher;
+    private final ObjectMapper mapper;
+    private final boolean enabled;
+    private final String channel;
+    private final int pollTimeoutInMilli;
+    private final Optional<String> url;
+    private final Optional<String> username;
+    private final Optional<String> password;
+    private volatile boolean running;
+    private Thread thread;
+
+    public BoardChangeListener(
+            Event<BoardChangedEvent> changePublisher,
+            ObjectMapper mapper,
+            @ConfigProperty(name = "kanbanboard.board-changed.enabled", defaultValue = "false") boolean enabled,
+            @ConfigProperty(name = "kanbanboard.board-changed.channel", defaultValue = "board_changed") String channel,
+            @ConfigProperty(name = "kanbanboard.board-changed.poll-timeout-ms", defaultValue = "500") int pollTimeoutInMilli,
+            @ConfigProperty(name = "quarkus.datasource.jdbc.url") Optional<String> url,
+            @ConfigProperty(name = "quarkus.datasource.username") Optional<String> username,
+            @ConfigProperty(name = "quarkus.datasource.password") Optional<String> password) {
+        this.changePublisher = changePublisher;
+        this.mapper = mapper;
+        this.enabled = enabled;
+        this.channel = channel;
+        this.pollTimeoutInMilli = pollTimeoutInMilli;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+    }
+
+    void onStart(@Observes StartupEvent event) {
+
+        if (!enabled) {
+            return;
+        }
+
+        running = true;
+        thread = new Thread(this::listen, "board-change-listener");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+
+        running = false;
+
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private void listen() {
+
+        var backoffInMilli = 500L;
+
+        while (running) {
+            try (var connection = connect()) {
+
+                backoffInMilli = 500L;
+                changePublisher.fire(BoardChangedEvent.everything());
+
+                var pgConnection = connection.unwrap(PGConnection.class);
+
+                while (running) {
+                    var notifications = pgConnection.getNotifications(pollTimeoutInMilli);
+
+                    if (notifications == null) {
+                        continue;
+                    }
+
+                    for (var notification : notifications) {
+                        changePublisher.fire(parse(notification.getParameter()));
+                    }
+                }
+
+            } catch (SQLException | RuntimeException exception) {
+
+                if (!running) {
+                    return;
+                }
+
+                logger.warnv(exception, "Listening on {0} failed, reconnecting in {1} ms", channel, backoffInMilli);
+
+                try {
+                    Thread.sleep(backoffInMilli);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+
+                backoffInMilli = Math.min(backoffInMilli * 2, MAX_BACKOFF_IN_MILLI);
+            }
+        }
+    }
+
+    private Connection connect() throws SQLException {
+
+        var connection = DriverManager.getConnection(url.orElseThrow(), username.orElse(null), password.orElse(null));
+
+        try (var statement = connection.createStatement()) {
+            statement.execute("LISTEN " + channel);
+        } catch (SQLException exception) {
+            connection.close();
+            throw exception;
+        }
+
+        return connection;
+    }
+
+    BoardChangedEvent parse(String payload) {
+
+        try {
+            var tree = mapper.readTree(payload);
+            Set<String> ids = new HashSet<>();
+            tree.path("ids").forEach(id -> ids.add(id.asText()));
+
+            return new BoardChangedEvent(tree.path("version").asLong(-1), tree.path("event").asText(null), ids);
+
+        } catch (IOException exception) {
+            logger.warnv(exception, "Unreadable {0} payload, invalidating everything", channel);
+            return BoardChangedEvent.everything();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package org.seariver.kanbanboard.commom.notification;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.seariver.kanbanboard.commom.jdbc.InstrumentedNamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Issues {@code pg_notify} for a write command. It is called inside the command transaction, so PostgreSQL only
+ * delivers the notification once that transaction commits and drops it on rollback.
+ */
+@ApplicationScoped
+public class BoardChangeNotifier {
+
+    // PostgreSQL rejects payloads of 8000 bytes or more, past this the ids are dropped and listeners flush everything
+    static final int MAX_PAYLOAD_LENGTH = 7500;
+    private static final String EXTERNAL_ID_SUFFIX = "ExternalId";
+    private static final String EXTERNAL_IDS_SUFFIX = "ExternalIds";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper mapper;
+    private final boolean enabled;
+    private final String channel;
+
+    public BoardChangeNotifier(
+            DataSource dataSource,
+            ObjectMapper mapper,
+            @ConfigProperty(name = "kanbanboard.board-changed.enabled", defaultValue = "false") boolean enabled,
+            @ConfigProperty(name = "kanbanboard.board-changed.channel", defaultValue = "board_changed") String channel) {
+        this.jdbcTemplate = new InstrumentedNamedParameterJdbcTemplate(dataSource, BoardChangeNotifier.class);
+        this.mapper = mapper;
+        this.enabled = enabled;
+        this.channel = channel;
+    }
+
+    public void notifyChange(long version, String eventType, Object command) {
+
+        if (!enabled) {
+            return;
+        }
+
+        var sql = "SELECT pg_notify(:channel, :payload)";
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("channel", channel)
+                .addValue("payload", payload(version, eventType, command));
+
+        jdbcTemplate.query(sql, parameters, rs -> null);
+    }
+
+    String payload(long version, String eventType, Object command) {
+
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("version", version);
+        message.put("event", eventType);
+        message.put("ids", changedIds(command));
+
+        try {
+            var payload = mapper.writeValueAsString(message);
+
+            if (payload.length() <= MAX_PAYLOAD_LENGTH) {
+                return payload;
+            }
+
+            message.put("ids", Set.of());
+            return mapper.writeValueAsString(message);
+
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("Unable to serialize board change of " + eventType, exception);
+        }
+    }
+
+    private Set<String> changedIds(Object command) {
+
+        Set<String> ids = new TreeSet<>();
+        JsonNode tree = mapper.valueToTree(command);
+
+        tree.fields().forEachRemaining(field -> {
+            if (field.getKey().endsWith(EXTERNAL_ID_SUFFIX) && field.getValue().isTextual()) {
+                ids.add(field.getValue().asText());
+            } else if (field.getKey().endsWith(EXTERNAL_IDS_SUFFIX) && field.getValue().isArray()) {
+                field.getValue().forEach(id -> ids.add(id.asText()));
+            }
+        });
+
+        return ids;
+    }
+}
@@ -0,0 +1,40 @@
+package org.seariver.kanbanboard.commom.notification;
+
+import java.util.Set;
+
+/**
+ * A committed write on any node, received over {@code LISTEN}. An event without ids means the listener may have
+ * missed notifications and every cached board view must be dropped.
+ */
+public class BoardChangedEvent {
+
+    private final long version;
+    private final String eventType;
+    private final Set<String> ids;
+
+    public BoardChangedEvent(long version, String eventType, Set<String> ids) {
+        this.version = version;
+        this.eventType = eventType;
+        this.ids = Set.copyOf(ids);
+    }
+
+    public static BoardChangedEvent everything() {
+        return new BoardChangedEvent(-1, null, Set.of());
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public Set<String> getIds() {
+        return ids;
+    }
+
+    public boolean isEverything() {
+        return ids.isEmpty();
+    }
+}
@@ -0,0 +1,52 @@
+package org.seariver.kanbanboard.commom.observable;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Reads the bytes allocated so far by the current thread, as reported by the HotSpot {@code ThreadMXBean}.
+ * <p>
+ * Answers {@code -1} when switched off or when the JVM does not support allocation accounting.
+ */
+public final class AllocationMeter {
+
+    private static final com.sun.management.ThreadMXBean THREADS = threads();
+    private static volatile boolean enabled = THREADS != null;
+
+    private AllocationMeter() {
+    }
+
+    public static void setEnabled(boolean value) {
+        enabled = value && THREADS != null;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static long currentThreadAllocatedBytes() {
+        return enabled ? THREADS.getThreadAllocatedBytes(Thread.currentThread().getId()) : -1;
+    }
+
+    private static com.sun.management.ThreadMXBean threads() {
+
+        var bean = ManagementFactory.getThreadMXBean();
+
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+
+        var threads = (com.sun.management.ThreadMXBean) bean;
+
+        // native images may expose the bean without implementing it
+        try {
+            if (!threads.isThreadAllocatedMemorySupported()) {
+                return null;
+            }
+
+            threads.setThreadAllocatedMemoryEnabled(true);
+            return threads;
+        } catch (UnsupportedOperationException exception) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package org.seariver.kanbanboard.commom.observable;
+
+import io.quarkus.runtime.StartupEvent;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+@ApplicationScoped
+public class AllocationMeterSettings {
+
+    private final boolean enabled;
+
+    public AllocationMeterSettings(
+            @ConfigProperty(name = "kanbanboard.metrics.allocation.enabled", defaultValue = "true") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        AllocationMeter.setEnabled(enabled);
+    }
+}
@@ -0,0 +1,100 @@
+package org.seariver.kanbanboard.commom.observable;
+
+import org.jboss.logging.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Hands records to a single daemon thread through a bounded queue so the request thread never formats or writes.
+ * <p>
+ * When the queue is full the record is dropped and counted instead of blocking the caller.
+ */
+public class AsyncLogWriter<T> {
+
+    final static Logger logger = Logger.getLogger(AsyncLogWriter.class);
+
+    private static final int DRAIN_BATCH = 256;
+
+    private final BlockingQueue<T> queue;
+    private final Consumer<T> sink;
+    private final LongAdder dropped = new LongAdder();
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    public AsyncLogWriter(String name, int capacity, Consumer<T> sink) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.sink = sink;
+        this.thread = new Thread(this::drain, name);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    public boolean offer(T record) {
+
+        if (queue.offer(record)) {
+            return true;
+        }
+
+        dropped.increment();
+        return false;
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Stops the writer thread after writing what is already queued.
+     */
+    public void close() {
+
+        running = false;
+        thread.interrupt();
+
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+
+        List<T> batch = new ArrayList<>(DRAIN_BATCH);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                var first = queue.poll(1, TimeUnit.SECONDS);
+
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                queue.drainTo(batch, DRAIN_BATCH - 1);
+                batch.forEach(this::write);
+                batch.clear();
+
+            } catch (InterruptedException exception) {
+                running = false;
+                queue.drainTo(batch);
+                batch.forEach(this::write);
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(T record) {
+        try {
+            sink.accept(record);
+        } catch (RuntimeException exception) {
+            logger.warn("Dropping log record that failed to write", exception);
+        }
+    }
+}
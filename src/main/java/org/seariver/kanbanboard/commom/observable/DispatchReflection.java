@@ -0,0 +1,54 @@
+package org.seariver.kanbanboard.commom.observable;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import org.seariver.kanbanboard.read.application.service.ListAllBucketQuery;
+import org.seariver.kanbanboard.read.application.service.ListAllBucketResolver;
+import org.seariver.kanbanboard.read.application.service.ListArchivedCardQuery;
+import org.seariver.kanbanboard.read.application.service.ListArchivedCardResolver;
+import org.seariver.kanbanboard.write.application.service.CreateBucketCommand;
+import org.seariver.kanbanboard.write.application.service.CreateBucketHandler;
+import org.seariver.kanbanboard.write.application.service.CreateCardCommand;
+import org.seariver.kanbanboard.write.application.service.CreateCardHandler;
+import org.seariver.kanbanboard.write.application.service.DeleteBucketCommand;
+import org.seariver.kanbanboard.write.application.service.DeleteBucketHandler;
+import org.seariver.kanbanboard.write.application.service.DeleteCardCommand;
+import org.seariver.kanbanboard.write.application.service.DeleteCardHandler;
+import org.seariver.kanbanboard.write.application.service.MoveBucketCommand;
+import org.seariver.kanbanboard.write.application.service.MoveBucketHandler;
+import org.seariver.kanbanboard.write.application.service.MoveCardCommand;
+import org.seariver.kanbanboard.write.application.service.MoveCardHandler;
+import org.seariver.kanbanboard.write.application.service.ReorderBucketCommand;
+import org.seariver.kanbanboard.write.application.service.ReorderBucketHandler;
+import org.seariver.kanbanboard.write.application.service.ReorderCardCommand;
+import org.seariver.kanbanboard.write.application.service.ReorderCardHandler;
+import org.seariver.kanbanboard.write.application.service.UpdateBucketCommand;
+import org.seariver.kanbanboard.write.application.service.UpdateBucketHandler;
+import org.seariver.kanbanboard.write.application.service.UpdateCardCommand;
+import org.seariver.kanbanboard.write.application.service.UpdateCardHandler;
+
+/**
+ * Keeps the dispatch metadata reachable in a native image.
+ * <p>
+ * {@link DispatchRegistry} finds handlers and resolvers by name, {@code QueryCache} maps board change events back to
+ * their command class, and commands are written as JSON to the outbox, logs and idempotency fingerprints; none of it
+ * is visible to the native-image static analysis. Every command, query and their targets must be listed here.
+ */
+@RegisterForReflection(targets = {
+        CreateBucketCommand.class, CreateBucketHandler.class,
+        CreateCardCommand.class, CreateCardHandler.class,
+        DeleteBucketCommand.class, DeleteBucketHandler.class,
+        DeleteCardCommand.class, DeleteCardHandler.class,
+        MoveBucketCommand.class, MoveBucketHandler.class,
+        MoveCardCommand.class, MoveCardHandler.class,
+        ReorderBucketCommand.class, ReorderBucketHandler.class,
+        ReorderCardCommand.class, ReorderCardHandler.class,
+        UpdateBucketCommand.class, UpdateBucketHandler.class,
+        UpdateCardCommand.class, UpdateCardHandler.class,
+        ListAllBucketQuery.class, ListAllBucketResolver.class,
+        ListArchivedCardQuery.class, ListArchivedCardResolver.class
+})
+public final class DispatchReflection {
+
+    private DispatchReflection() {
+    }
+}
@@ -0,0 +1,79 @@
+package org.seariver.kanbanboard.commom.observable;
+
+import org.seariver.kanbanboard.commom.exception.ServiceBusInvalidObjectException;
+import org.seariver.kanbanboard.read.application.service.Query;
+import org.seariver.kanbanboard.read.application.service.Resolver;
+import org.seariver.kanbanboard.write.application.service.Command;
+import org.seariver.kanbanboard.write.application.service.Handler;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.spi.CDI;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Finds the {@link Handler} of a command and the {@link Resolver} of a query by naming convention,
+ * {@code XCommand -> XHandler} and {@code XQuery -> XResolver}, looking each one up only once per type.
+ */
+@ApplicationScoped
+public class DispatchRegistry {
+
+    private final Function<Class<?>, Object> beans;
+
+    private final ClassValue<Optional<Object>> targets = new ClassValue<>() {
+        @Override
+        protected Optional<Object> computeValue(Class<?> type) {
+            return lookup(type);
+        }
+    };
+
+    public DispatchRegistry() {
+        this(type -> CDI.current().select(type).get());
+    }
+
+    /**
+     * @param beans supplies the instance of a handler or resolver class, CDI unless running outside the container
+     */
+    public DispatchRegistry(Function<Class<?>, Object> beans) {
+        this.beans = beans;
+    }
+
+    @SuppressWarnings("unchecked")
+    public Handler<Command> handlerOf(InternalEvent event) {
+        return (Handler<Command>) targetOf(event);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Resolver<Query> resolverOf(InternalEvent event) {
+        return (Resolver<Query>) targetOf(event);
+    }
+
+    private Object targetOf(InternalEvent event) {
+        return targets.get(event.getSource().getClass())
+                .orElseThrow(() -> new ServiceBusInvalidObjectException(event));
+    }
+
+    private Optional<Object> lookup(Class<?> type) {
+
+        var name = type.getName();
+        String targetName;
+
+        if (Command.class.isAssignableFrom(type)) {
+            targetName = name.replace("Command", "Handler");
+        } else if (Query.class.isAssignableFrom(type)) {
+            targetName = name.replace("Query", "Resolver");
+        } else {
+            return Optional.empty();
+        }
+
+        if (targetName.equals(name)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(beans.apply(Class.forName(targetName, true, type.getClassLoader())));
+        } catch (ClassNotFoundException exception) {
+            return Optional.empty();
+        }
+    }
+}
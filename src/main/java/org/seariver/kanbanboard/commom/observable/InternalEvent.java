@@ -1,15 +1,28 @@
 package org.seariver.kanbanboard.commom.observable;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Map;
+
 import static org.seariver.kanbanboard.commom.observable.InternalEvent.Type.COMMAND;
 import static org.seariver.kanbanboard.commom.observable.InternalEvent.Type.QUERY;
 
 public abstract class InternalEvent {
 
+    // ObjectMapper is thread safe once configured, building one per message was the dominant logging cost
+    protected static final ObjectMapper MAPPER = new ObjectMapper();
+
     private Exception exception;
     private long startTime;
     private long stopTime;
+    private long startAllocatedBytes = -1;
+    private long allocatedBytes = -1;
+    private SqlStatistics sqlStatistics;
+    private boolean cached;
+    private boolean replayed;
 
-    enum Type {
+    public enum Type {
 
         COMMAND("Command"),
         QUERY("Query");
@@ -28,7 +41,22 @@ public abstract class InternalEvent {
 
     public abstract Object getSource();
 
-    public abstract String toJson();
+    /**
+     * Fields describing this event, the base of {@link #toJson()} and of richer log records.
+     */
+    public abstract Map<String, Object> toMessage();
+
+    public String toJson() {
+        return toJson(toMessage());
+    }
+
+    public String toJson(Map<String, Object> message) {
+        try {
+            return MAPPER.writeValueAsString(message);
+        } catch (JsonProcessingException jsonException) {
+            return String.format("%s - %s", getSource(), jsonException);
+        }
+    }
 
     public Type getType() {
 
@@ -50,11 +78,18 @@ public abstract class InternalEvent {
     }
 
     public void startTimer() {
+        startAllocatedBytes = AllocationMeter.currentThreadAllocatedBytes();
         startTime = System.nanoTime();
     }
 
     public void stopTimer() {
+
         stopTime = System.nanoTime();
+
+        // only meaningful when start and stop run on the same thread, as they do inside ServiceBus
+        if (startAllocatedBytes >= 0) {
+            allocatedBytes = AllocationMeter.currentThreadAllocatedBytes() - startAllocatedBytes;
+        }
     }
 
     public long getElapsedTimeInNano() {
@@ -65,6 +100,43 @@ public abstract class InternalEvent {
         return getElapsedTimeInNano() / 1_000_000L;
     }
 
+    /**
+     * Bytes allocated by the executing thread between start and stop, {@code -1} when not measured.
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public SqlStatistics getSqlStatistics() {
+        return sqlStatistics;
+    }
+
+    public void setSqlStatistics(SqlStatistics sqlStatistics) {
+        this.sqlStatistics = sqlStatistics;
+    }
+
+    /**
+     * Whether a query was answered from the query cache instead of its resolver.
+     */
+    public boolean isCached() {
+        return cached;
+    }
+
+    public void setCached(boolean cached) {
+        this.cached = cached;
+    }
+
+    /**
+     * Whether a command was answered from its idempotency record instead of its handler.
+     */
+    public boolean isReplayed() {
+        return replayed;
+    }
+
+    public void setReplayed(boolean replayed) {
+        this.replayed = replayed;
+    }
+
     public boolean isSuccess() {
         return getException() == null;
     }
@@ -1,24 +1,176 @@
 package org.seariver.kanbanboard.commom.observable;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.runtime.ShutdownEvent;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
 import org.seariver.kanbanboard.commom.exception.DomainException;
+import org.seariver.kanbanboard.write.application.exception.WriteException;
 
+import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Observes;
-import javax.inject.Named;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
 
-@Named
+import static org.seariver.kanbanboard.commom.observable.InternalEvent.Type.COMMAND;
+
+/**
+ * Logs every command and query as one JSON line, off the request thread.
+ * <p>
+ * The request thread only applies sampling and queues the event; the {@link AsyncLogWriter} thread streams it into
+ * a reused buffer. Successful events are sampled by {@code sample-rate}, overridden per event class with
+ * {@code sample-rates=ListAllBucketQuery=0.1,...}; failures and statement budget overruns are always logged, and
+ * written on the request thread when the queue is full.
+ */
+@ApplicationScoped
 public class LogListener {
 
     final static Logger logger = Logger.getLogger(LogListener.class);
 
+    private final JsonFactory jsonFactory = new ObjectMapper().getFactory();
+    private final double sampleRate;
+    private final Map<String, Double> sampleRates;
+    private final AsyncLogWriter<InternalEvent> writer;
+    private final StringWriter buffer = new StringWriter(512);
+
+    public LogListener(
+            @ConfigProperty(name = "kanbanboard.log.sample-rate", defaultValue = "1.0") double sampleRate,
+            @ConfigProperty(name = "kanbanboard.log.sample-rates") Optional<String> sampleRates,
+            @ConfigProperty(name = "kanbanboard.log.queue-capacity", defaultValue = "4096") int queueCapacity) {
+        this.sampleRate = sampleRate;
+        this.sampleRates = parseSampleRates(sampleRates.orElse(""));
+        this.writer = new AsyncLogWriter<>("event-log-writer", queueCapacity, this::write);
+    }
+
     public void onEventOccur(@Observes InternalEvent internalEvent) {
 
+        if (!shouldLog(internalEvent)) {
+            return;
+        }
+
+        if (!writer.offer(internalEvent) && mustLog(internalEvent)) {
+            log(internalEvent, format(internalEvent, new StringWriter(512)));
+        }
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        writer.close();
+    }
+
+    boolean shouldLog(InternalEvent internalEvent) {
+
+        if (mustLog(internalEvent)) {
+            return true;
+        }
+
+        var rate = sampleRates.getOrDefault(simpleName(internalEvent.getOrigin()), sampleRate);
+
+        return rate >= 1.0 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    private void write(InternalEvent internalEvent) {
+        buffer.getBuffer().setLength(0);
+        log(internalEvent, format(internalEvent, buffer));
+    }
+
+    private static void log(InternalEvent internalEvent, String line) {
+
         if (internalEvent.isSuccess()) {
-            logger.infov("Test: {0}", internalEvent.getOrigin());
+            if (isOverBudget(internalEvent)) {
+                logger.warn(line);
+            } else {
+                logger.info(line);
+            }
         } else if (internalEvent.getException() instanceof DomainException) {
-            logger.warnv("Test: {0}", internalEvent.getOrigin(), internalEvent.getException());
+            logger.warn(line);
         } else {
-            logger.errorv("Test: {0}", internalEvent.getOrigin(), internalEvent.getException());
+            logger.error(line, internalEvent.getException());
+        }
+    }
+
+    String format(InternalEvent internalEvent, StringWriter target) {
+
+        try (var json = jsonFactory.createGenerator(target)) {
+
+            json.writeStartObject();
+            json.writeStringField("event", internalEvent.getOrigin());
+            json.writeNumberField("elapsedTimeInMilli", internalEvent.getElapsedTimeInMilli());
+
+            if (internalEvent.getAllocatedBytes() >= 0) {
+                json.writeNumberField("allocatedBytes", internalEvent.getAllocatedBytes());
+            }
+
+            if (internalEvent.getType() == COMMAND) {
+                json.writeObjectField("content", internalEvent.getSource());
+            }
+
+            writeSqlStatistics(json, internalEvent.getSqlStatistics());
+
+            if (internalEvent.hasError()) {
+                json.writeStringField("message", internalEvent.getException().getMessage());
+
+                if (internalEvent.getException() instanceof WriteException) {
+                    var domainException = (WriteException) internalEvent.getException();
+                    json.writeStringField("errors", domainException.getErrors().toString());
+                }
+            }
+
+            json.writeEndObject();
+
+        } catch (IOException exception) {
+            return String.format("%s - %s", internalEvent.getOrigin(), exception);
+        }
+
+        return target.toString();
+    }
+
+    private static void writeSqlStatistics(JsonGenerator json, SqlStatistics sqlStatistics) throws IOException {
+
+        if (sqlStatistics == null) {
+            return;
         }
+
+        json.writeNumberField("statements", sqlStatistics.getStatements());
+        json.writeNumberField("rows", sqlStatistics.getRows());
+        json.writeNumberField("databaseTimeInMilli", sqlStatistics.getDatabaseTimeInMilli());
+
+        if (sqlStatistics.isOverBudget()) {
+            json.writeNumberField("statementBudget", sqlStatistics.getStatementBudget());
+        }
+    }
+
+    private static boolean mustLog(InternalEvent internalEvent) {
+        return internalEvent.hasError() || isOverBudget(internalEvent);
+    }
+
+    private static boolean isOverBudget(InternalEvent internalEvent) {
+        var sqlStatistics = internalEvent.getSqlStatistics();
+        return sqlStatistics != null && sqlStatistics.isOverBudget();
+    }
+
+    static Map<String, Double> parseSampleRates(String sampleRates) {
+
+        Map<String, Double> rates = new HashMap<>();
+
+        for (var entry : sampleRates.split(",")) {
+
+            var keyValue = entry.split("=");
+
+            if (keyValue.length == 2) {
+                rates.put(keyValue[0].trim(), Double.parseDouble(keyValue[1].trim()));
+            }
+        }
+
+        return rates;
+    }
+
+    private static String simpleName(String origin) {
+        return origin.substring(origin.lastIndexOf('.') + 1);
     }
 }
@@ -1,26 +1,69 @@
 package org.seariver.kanbanboard.commom.observable;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
+import org.seariver.kanbanboard.commom.cache.QueryCache;
 import org.seariver.kanbanboard.commom.exception.ServiceBusInvalidObjectException;
+import org.seariver.kanbanboard.commom.idempotency.IdempotencyKey;
+import org.seariver.kanbanboard.commom.idempotency.IdempotencyStore;
+import org.seariver.kanbanboard.commom.jdbc.ConnectionTimingDataSource;
+import org.seariver.kanbanboard.commom.jfr.DispatchEvents;
+import org.seariver.kanbanboard.commom.jfr.ListenerNotificationEvent;
+import org.seariver.kanbanboard.commom.limit.ConcurrencyLimits;
+import org.seariver.kanbanboard.commom.notification.BoardChangeNotifier;
+import org.seariver.kanbanboard.commom.outbox.DeferredPublication;
+import org.seariver.kanbanboard.commom.outbox.OutboxRepository;
+import org.seariver.kanbanboard.commom.tracing.Tracer;
 import org.seariver.kanbanboard.read.application.service.Query;
-import org.seariver.kanbanboard.read.application.service.Resolver;
 import org.seariver.kanbanboard.read.observable.QueryEvent;
 import org.seariver.kanbanboard.write.application.service.Command;
 import org.seariver.kanbanboard.write.application.service.Handler;
 import org.seariver.kanbanboard.write.observable.CommandEvent;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Event;
-import javax.enterprise.inject.spi.CDI;
+import javax.sql.DataSource;
+
+import static org.seariver.kanbanboard.commom.idempotency.IdempotencyStore.Outcome.REPLAY;
 
 @ApplicationScoped
 public class ServiceBus {
 
     final static Logger logger = Logger.getLogger(ServiceBus.class);
     private final Event<InternalEvent> eventPublisher;
+    private final OutboxRepository outboxRepository;
+    private final BoardChangeNotifier boardChangeNotifier;
+    private final TransactionTemplate transactionTemplate;
+    private final SlowLogListener slowLogListener;
+    private final ConcurrencyLimits concurrencyLimits;
+    private final IdempotencyStore idempotencyStore;
+    private final QueryCache queryCache;
+    private final DispatchRegistry dispatchRegistry;
+    private final int statementBudget;
 
-    public ServiceBus(Event<InternalEvent> eventPublisher) {
+    public ServiceBus(Event<InternalEvent> eventPublisher,
+                      OutboxRepository outboxRepository,
+                      BoardChangeNotifier boardChangeNotifier,
+                      SlowLogListener slowLogListener,
+                      ConcurrencyLimits concurrencyLimits,
+                      IdempotencyStore idempotencyStore,
+                      QueryCache queryCache,
+                      DispatchRegistry dispatchRegistry,
+                      DataSource dataSource,
+                      @ConfigProperty(name = "kanbanboard.sql.statement-budget", defaultValue = "10") int statementBudget) {
         this.eventPublisher = eventPublisher;
+        this.outboxRepository = outboxRepository;
+        this.boardChangeNotifier = boardChangeNotifier;
+        this.slowLogListener = slowLogListener;
+        this.concurrencyLimits = concurrencyLimits;
+        this.idempotencyStore = idempotencyStore;
+        this.queryCache = queryCache;
+        this.dispatchRegistry = dispatchRegistry;
+        this.transactionTemplate = new TransactionTemplate(
+                new DataSourceTransactionManager(new ConnectionTimingDataSource(dataSource)));
+        this.statementBudget = statementBudget;
     }
 
     public void execute(Command command) {
@@ -35,38 +78,113 @@ public class ServiceBus {
 
     private void execute(InternalEvent event) {
 
+        // rejected before any work or event publication, shedding must stay cheap
+        var limit = concurrencyLimits.acquire(event);
+        var sqlStatistics = SqlStatistics.begin(statementBudget, slowLogListener.getCaptureLimit());
+        var dispatchEvent = DispatchEvents.begin(event);
+        var span = Tracer.span("dispatch").attribute("event", event.getSource().getClass().getSimpleName());
+
         try {
             run(event);
         } catch (Exception exception) {
             event.setException(exception);
+            span.attribute("error", exception.getClass().getSimpleName());
             throw exception;
         } finally {
             event.stopTimer();
+            if (slowLogListener.isSlow(event)) {
+                sqlStatistics.retainCaptured();
+            }
+            SqlStatistics.end();
+            event.setSqlStatistics(sqlStatistics);
+            concurrencyLimits.release(limit, event);
+            span.close();
+            DispatchEvents.complete(dispatchEvent, event);
+            publish(event);
+        }
+    }
+
+    private void publish(InternalEvent event) {
+
+        var notificationEvent = new ListenerNotificationEvent();
+        notificationEvent.begin();
+
+        try (var span = Tracer.span("listeners")) {
             eventPublisher.fire(event);
         }
+
+        notificationEvent.end();
+
+        if (notificationEvent.shouldCommit()) {
+            notificationEvent.origin = event.getOrigin();
+            notificationEvent.commit();
+        }
     }
 
     private void run(InternalEvent event) {
 
+        switch (event.getType()) {
+            case COMMAND:
+                handle(event, dispatchRegistry.handlerOf(event), (Command) event.getSource());
+                break;
+            case QUERY:
+                var query = (Query) event.getSource();
+                event.setCached(queryCache.resolve(query, () -> dispatchRegistry.resolverOf(event).resolve(query)));
+                break;
+            default:
+                throw new ServiceBusInvalidObjectException(event);
+        }
+    }
+
+    private void handle(InternalEvent event, Handler<Command> handler, Command command) {
+
+        var idempotencyKey = IdempotencyKey.current();
+        var fingerprint = idempotencyKey == null ? null : idempotencyStore.fingerprint(event.getOrigin(), command);
+        var claimed = false;
+        var prepareStarted = false;
+
         try {
-            switch (event.getType()) {
-                case COMMAND:
-                    var handlerFqn = event.getOrigin().replace("Command", "Handler");
-                    var handlerClass = Class.forName(handlerFqn);
-                    Handler<Command> handler = (Handler) CDI.current().select(handlerClass).get();
-                    handler.handle((Command) event.getSource());
-                    break;
-                case QUERY:
-                    var resolverFqn = event.getOrigin().replace("Query", "Resolver");
-                    var resolverClass = Class.forName(resolverFqn);
-                    Resolver<Query> resolver = (Resolver) CDI.current().select(resolverClass).get();
-                    resolver.resolve((Query) event.getSource());
-                    break;
-                default:
-                    throw new ServiceBusInvalidObjectException(event);
+            if (idempotencyKey != null) {
+                if (idempotencyStore.begin(idempotencyKey, fingerprint) == REPLAY) {
+                    Tracer.current().attribute("idempotent.replay", true);
+                    event.setReplayed(true);
+                    return;
+                }
+                claimed = true;
+            }
+
+            prepareStarted = true;
+            handler.prepare(command);
+
+            // the outbox row, the notification and the idempotency key commit or roll back together with
+            // everything handle wrote, prepare has committed its own steps already
+            transactionTemplate.executeWithoutResult(status -> {
+                handler.handle(command);
+                var deferred = DeferredPublication.take();
+                if (idempotencyKey != null) {
+                    idempotencyStore.persist(idempotencyKey, fingerprint);
+                }
+                if (!deferred) {
+                    var version = outboxRepository.append(event.getOrigin(), command);
+                    boardChangeNotifier.notifyChange(version, event.getOrigin(), command);
+                }
+            });
+        } catch (RuntimeException exception) {
+            // a refused begin leaves the key to the request that holds it
+            if (claimed) {
+                idempotencyStore.abandon(idempotencyKey);
+            }
+            // whatever prepare committed before the failure is visible, cached results must not hide it
+            if (prepareStarted) {
+                queryCache.invalidate(command);
             }
-        } catch (ClassNotFoundException exception) {
-            throw new ServiceBusInvalidObjectException(event, exception);
+            throw exception;
+        }
+
+        queryCache.invalidate(command);
+
+        if (idempotencyKey != null) {
+            idempotencyStore.complete(idempotencyKey, fingerprint);
         }
     }
 }
@@ -0,0 +1,136 @@
+package org.seariver.kanbanboard.commom.observable;
+
+import io.quarkus.runtime.ShutdownEvent;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Writes commands and queries slower than {@code threshold-ms} to the {@code kanbanboard.slow} log category,
+ * together with the SQL they ran, its bind parameters and the time spent waiting for a connection.
+ * <p>
+ * The request thread only compares the elapsed time with the threshold; sampling, formatting and writing happen
+ * on the {@link AsyncLogWriter} thread.
+ */
+@ApplicationScoped
+public class SlowLogListener {
+
+    public static final String SLOW_LOG_CATEGORY = "kanbanboard.slow";
+    final static Logger slowLogger = Logger.getLogger(SLOW_LOG_CATEGORY);
+
+    private final boolean enabled;
+    private final long thresholdInNano;
+    private final double sampleRate;
+    private final int maxStatements;
+    private final AsyncLogWriter<InternalEvent> writer;
+
+    public SlowLogListener(
+            @ConfigProperty(name = "kanbanboard.slow-log.enabled", defaultValue = "false") boolean enabled,
+            @ConfigProperty(name = "kanbanboard.slow-log.threshold-ms", defaultValue = "500") long thresholdInMilli,
+            @ConfigProperty(name = "kanbanboard.slow-log.sample-rate", defaultValue = "1.0") double sampleRate,
+            @ConfigProperty(name = "kanbanboard.slow-log.max-statements", defaultValue = "50") int maxStatements,
+            @ConfigProperty(name = "kanbanboard.slow-log.queue-capacity", defaultValue = "1000") int queueCapacity) {
+        this.enabled = enabled;
+        this.thresholdInNano = thresholdInMilli * 1_000_000L;
+        this.sampleRate = sampleRate;
+        this.maxStatements = maxStatements;
+        this.writer = enabled
+                ? new AsyncLogWriter<>("slow-log-writer", queueCapacity, event -> slowLogger.warn(format(event)))
+                : null;
+    }
+
+    public void onEventOccur(@Observes InternalEvent internalEvent) {
+
+        if (!isSlow(internalEvent)) {
+            return;
+        }
+
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+
+        writer.offer(internalEvent);
+    }
+
+    /**
+     * Whether the event will be considered for this log, so its captured statements are worth keeping.
+     */
+    public boolean isSlow(InternalEvent internalEvent) {
+        return writer != null && internalEvent.getElapsedTimeInNano() >= thresholdInNano;
+    }
+
+    /**
+     * How many statements each event should keep for this log, zero while it is disabled.
+     */
+    public int getCaptureLimit() {
+        return enabled ? maxStatements : 0;
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
+    static String format(InternalEvent internalEvent) {
+
+        var message = internalEvent.toMessage();
+        var sqlStatistics = internalEvent.getSqlStatistics();
+
+        if (sqlStatistics != null) {
+            message.put("statements", sqlStatistics.getStatements());
+            message.put("rows", sqlStatistics.getRows());
+            message.put("databaseTimeInMilli", nanoToMilli(sqlStatistics.getDatabaseTimeInNano()));
+            message.put("connectionWaitInMilli", nanoToMilli(sqlStatistics.getConnectionWaitInNano()));
+            message.put("sql", statements(sqlStatistics.getCapturedStatements()));
+        }
+
+        return internalEvent.toJson(message);
+    }
+
+    private static List<Map<String, Object>> statements(List<SqlStatement> captured) {
+
+        List<Map<String, Object>> statements = new ArrayList<>(captured.size());
+
+        for (var statement : captured) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("sql", statement.getSql());
+            entry.put("parameters", parameters(statement.getParameters()));
+            entry.put("elapsedInMilli", nanoToMilli(statement.getElapsedInNano()));
+            statements.add(entry);
+        }
+
+        return statements;
+    }
+
+    private static Map<String, String> parameters(Object parameters) {
+
+        Map<String, String> rendered = new LinkedHashMap<>();
+
+        if (parameters instanceof SqlParameterSource) {
+            var source = (SqlParameterSource) parameters;
+            var names = source.getParameterNames();
+
+            if (names != null) {
+                for (var name : names) {
+                    rendered.put(name, String.valueOf(source.getValue(name)));
+                }
+            }
+        }
+
+        return rendered;
+    }
+
+    private static double nanoToMilli(long nano) {
+        return nano / 1_000_000.0;
+    }
+}
@@ -0,0 +1,30 @@
+package org.seariver.kanbanboard.commom.observable;
+
+/**
+ * One statement captured for the slow log. Bind parameters are kept as the original parameter source and only
+ * rendered when the event turns out to be slow.
+ */
+public class SqlStatement {
+
+    private final String sql;
+    private final Object parameters;
+    private final long elapsedInNano;
+
+    public SqlStatement(String sql, Object parameters, long elapsedInNano) {
+        this.sql = sql;
+        this.parameters = parameters;
+        this.elapsedInNano = elapsedInNano;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public Object getParameters() {
+        return parameters;
+    }
+
+    public long getElapsedInNano() {
+        return elapsedInNano;
+    }
+}
@@ -0,0 +1,161 @@
+package org.seariver.kanbanboard.commom.observable;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SQL issued on behalf of one {@link InternalEvent}: statement count, affected or fetched rows and time spent
+ * inside the driver.
+ * <p>
+ * Collection is bound to the thread running the event by {@link ServiceBus}; statements issued outside an event,
+ * such as background jobs, are not counted.
+ */
+public class SqlStatistics {
+
+    private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+    private final int statementBudget;
+    private final int captureLimit;
+    private int statements;
+    private long rows;
+    private long databaseTimeInNano;
+    private long connectionWaitInNano;
+    private StatementCapture capture;
+    private List<SqlStatement> captured;
+    private String boundSql;
+    private Object boundParameters;
+
+    private SqlStatistics(int statementBudget, int captureLimit) {
+        this.statementBudget = statementBudget;
+        this.captureLimit = captureLimit;
+    }
+
+    /**
+     * Starts collecting for the current thread; a budget of zero or less never flags.
+     */
+    public static SqlStatistics begin(int statementBudget) {
+        return begin(statementBudget, 0);
+    }
+
+    /**
+     * Starts collecting for the current thread and keeps the first {@code captureLimit} statements with their bind
+     * parameters until {@link #end()}; a limit of zero captures nothing.
+     */
+    public static SqlStatistics begin(int statementBudget, int captureLimit) {
+        var statistics = new SqlStatistics(statementBudget, captureLimit);
+        if (captureLimit > 0) {
+            statistics.capture = StatementCapture.acquire(captureLimit);
+        }
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    /**
+     * Stops collecting for the current thread. Captured statements not kept by {@link #retainCaptured()} are
+     * dropped.
+     */
+    public static void end() {
+
+        var statistics = CURRENT.get();
+
+        if (statistics != null && statistics.capture != null) {
+            statistics.capture.release();
+            statistics.capture = null;
+        }
+
+        CURRENT.remove();
+    }
+
+    /**
+     * Statistics of the event running on this thread, {@code null} outside an event.
+     */
+    public static SqlStatistics current() {
+        return CURRENT.get();
+    }
+
+    public boolean isCapturing() {
+        return capture != null && capture.size() < captureLimit;
+    }
+
+    /**
+     * Remembers the SQL and parameter source of the statement about to run, used by the next
+     * {@link #recordStatement(String, long)}.
+     */
+    public void bind(String sql, Object parameters) {
+        boundSql = sql;
+        boundParameters = parameters;
+    }
+
+    public void recordStatement(long elapsedInNano) {
+        recordStatement(null, elapsedInNano);
+    }
+
+    public void recordStatement(String executedSql, long elapsedInNano) {
+
+        statements++;
+        databaseTimeInNano += elapsedInNano;
+
+        if (isCapturing()) {
+            var sql = boundSql != null ? boundSql : executedSql;
+            capture.add(sql, boundSql != null ? boundParameters : null, elapsedInNano);
+        }
+
+        boundSql = null;
+        boundParameters = null;
+    }
+
+    public void recordConnectionWait(long elapsedInNano) {
+        connectionWaitInNano += elapsedInNano;
+    }
+
+    public void recordRows(long count) {
+        rows += count;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getDatabaseTimeInNano() {
+        return databaseTimeInNano;
+    }
+
+    public long getDatabaseTimeInMilli() {
+        return databaseTimeInNano / 1_000_000L;
+    }
+
+    public long getConnectionWaitInNano() {
+        return connectionWaitInNano;
+    }
+
+    /**
+     * Turns the statements captured so far into records that outlive {@link #end()}; called only for events that
+     * will be logged.
+     */
+    public void retainCaptured() {
+        if (capture != null) {
+            captured = capture.toStatements();
+        }
+    }
+
+    public List<SqlStatement> getCapturedStatements() {
+
+        if (captured != null) {
+            return captured;
+        }
+
+        return capture == null ? Collections.emptyList() : capture.toStatements();
+    }
+
+    public int getStatementBudget() {
+        return statementBudget;
+    }
+
+    public boolean isOverBudget() {
+        return statementBudget > 0 && statements > statementBudget;
+    }
+}
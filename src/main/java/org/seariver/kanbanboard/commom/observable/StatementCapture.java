@@ -0,0 +1,79 @@
+package org.seariver.kanbanboard.commom.observable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The SQL, parameter source and time of the statements one event ran, kept in arrays owned by the thread and reused
+ * from one event to the next. Capturing only stores references; {@link SqlStatement} records are built once an
+ * event turns out to be slow.
+ */
+final class StatementCapture {
+
+    private static final ThreadLocal<StatementCapture> IDLE = ThreadLocal.withInitial(StatementCapture::new);
+
+    private String[] sql = new String[0];
+    private Object[] parameters = new Object[0];
+    private long[] elapsedInNano = new long[0];
+    private int size;
+    private boolean busy;
+
+    private StatementCapture() {
+    }
+
+    /**
+     * Answers the buffer of the current thread sized for {@code limit} statements, or a fresh one when an event
+     * already running on this thread holds it.
+     */
+    static StatementCapture acquire(int limit) {
+
+        var capture = IDLE.get();
+
+        if (capture.busy) {
+            capture = new StatementCapture();
+        }
+
+        capture.busy = true;
+
+        if (capture.sql.length < limit) {
+            capture.sql = new String[limit];
+            capture.parameters = new Object[limit];
+            capture.elapsedInNano = new long[limit];
+        }
+
+        return capture;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void add(String sql, Object parameters, long elapsedInNano) {
+        this.sql[size] = sql;
+        this.parameters[size] = parameters;
+        this.elapsedInNano[size] = elapsedInNano;
+        size++;
+    }
+
+    List<SqlStatement> toStatements() {
+
+        List<SqlStatement> statements = new ArrayList<>(size);
+
+        for (var index = 0; index < size; index++) {
+            statements.add(new SqlStatement(sql[index], parameters[index], elapsedInNano[index]));
+        }
+
+        return statements;
+    }
+
+    /**
+     * Drops the references so parameter sources do not outlive the event, and hands the buffer back to the thread.
+     */
+    void release() {
+        Arrays.fill(sql, 0, size, null);
+        Arrays.fill(parameters, 0, size, null);
+        size = 0;
+        busy = false;
+    }
+}
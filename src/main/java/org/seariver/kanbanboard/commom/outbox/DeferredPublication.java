@@ -0,0 +1,32 @@
+package org.seariver.kanbanboard.commom.outbox;
+
+/**
+ * Lets a handler take over publishing the command it is handling: ServiceBus then leaves out the outbox row and the
+ * board change notification from the command transaction, and the handler's deferred write emits them once it
+ * commits.
+ */
+public final class DeferredPublication {
+
+    private static final ThreadLocal<Boolean> DEFERRED = new ThreadLocal<>();
+
+    private DeferredPublication() {
+    }
+
+    /**
+     * Marks the command of the current thread as published later; call it as the last step of the handler.
+     */
+    public static void defer() {
+        DEFERRED.set(Boolean.TRUE);
+    }
+
+    /**
+     * Answers whether the command of the current thread was deferred and clears the mark.
+     */
+    public static boolean take() {
+
+        var deferred = DEFERRED.get() != null;
+        DEFERRED.remove();
+
+        return deferred;
+    }
+}
@@ -0,0 +1,38 @@
+package org.seariver.kanbanboard.commom.outbox;
+
+import java.time.LocalDateTime;
+
+/**
+ * A committed write command as relayed from the outbox table. Observers receive every message at least once,
+ * in id order, so they must tolerate redelivery after a node restart.
+ */
+public class OutboxMessage {
+
+    private final long id;
+    private final String eventType;
+    private final String payload;
+    private final LocalDateTime createdAt;
+
+    public OutboxMessage(long id, String eventType, String payload, LocalDateTime createdAt) {
+        this.id = id;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
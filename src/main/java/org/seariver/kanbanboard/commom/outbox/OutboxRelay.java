@@ -0,0 +1,131 @@
+package org.seariver.kanbanboard.commom.outbox;
+
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.Observes;
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Polls the outbox table and fires each committed command as an {@link OutboxMessage} to CDI observers.
+ * <p>
+ * Delivery is at-least-once: each message whose observers returned normally is recorded in {@code outbox_delivery}
+ * in the same transaction that locked the relay's cursor row. Messages are picked by that record rather than by an
+ * id high-water mark, so a transaction that took a lower id but commits late is still delivered.
+ */
+@ApplicationScoped
+public class OutboxRelay {
+
+    final static Logger logger = Logger.getLogger(OutboxRelay.class);
+
+    private final OutboxRepository repository;
+    private final Event<OutboxMessage> messagePublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final String relayName;
+    private final long pollIntervalInMilli;
+    private final int batchSize;
+    private final long retentionInHours;
+    private ScheduledExecutorService scheduler;
+
+    public OutboxRelay(
+            OutboxRepository repository,
+            Event<OutboxMessage> messagePublisher,
+            DataSource dataSource,
+            @ConfigProperty(name = "kanbanboard.outbox.relay.enabled", defaultValue = "false") boolean enabled,
+            @ConfigProperty(name = "kanbanboard.outbox.relay.name", defaultValue = "default") String relayName,
+            @ConfigProperty(name = "kanbanboard.outbox.relay.poll-interval-ms", defaultValue = "1000") long pollIntervalInMilli,
+            @ConfigProperty(name = "kanbanboard.outbox.relay.batch-size", defaultValue = "100") int batchSize,
+            @ConfigProperty(name = "kanbanboard.outbox.retention-hours", defaultValue = "24") long retentionInHours) {
+        this.repository = repository;
+        this.messagePublisher = messagePublisher;
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.enabled = enabled;
+        this.relayName = relayName;
+        this.pollIntervalInMilli = pollIntervalInMilli;
+        this.batchSize = batchSize;
+        this.retentionInHours = retentionInHours;
+    }
+
+    void onStart(@Observes StartupEvent event) {
+
+        if (!enabled) {
+            return;
+        }
+
+        repository.createCursorIfAbsent(relayName);
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::scheduledPoll, pollIntervalInMilli, pollIntervalInMilli, MILLISECONDS);
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    /**
+     * Relays one batch and returns how many messages were delivered.
+     */
+    public int poll() {
+
+        var delivered = transactionTemplate.execute(status -> {
+
+            repository.lockCursor(relayName);
+            var messages = repository.findUndelivered(relayName, batchSize);
+            List<Long> deliveredIds = new ArrayList<>();
+
+            for (OutboxMessage message : messages) {
+                try {
+                    messagePublisher.fire(message);
+                } catch (RuntimeException exception) {
+                    logger.errorv(exception, "Outbox relay {0} stopped at message {1}, it will be retried",
+                            relayName, message.getId());
+                    break;
+                }
+                deliveredIds.add(message.getId());
+            }
+
+            if (!deliveredIds.isEmpty()) {
+                repository.markDelivered(relayName, deliveredIds);
+            }
+
+            return deliveredIds.size();
+        });
+
+        if (delivered == 0) {
+            repository.purgeDelivered(retentionInHours);
+        }
+
+        return delivered;
+    }
+
+    private void scheduledPoll() {
+
+        try {
+            while (poll() == batchSize) {
+                // keep draining while full batches come back
+            }
+        } catch (RuntimeException exception) {
+            logger.errorv(exception, "Outbox relay {0} poll failed", relayName);
+        }
+    }
+}
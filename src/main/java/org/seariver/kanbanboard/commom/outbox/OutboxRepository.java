@@ -0,0 +1,132 @@
+package org.seariver.kanbanboard.commom.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.seariver.kanbanboard.commom.jdbc.InstrumentedNamedParameterJdbcTemplate;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.List;
+
+@ApplicationScoped
+public class OutboxRepository {
+
+    public static final String EVENT_TYPE_FIELD = "event_type";
+    public static final String PAYLOAD_FIELD = "payload";
+    public static final String RELAY_FIELD = "relay";
+    public static final String OUTBOX_ID_FIELD = "outbox_id";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectWriter writer;
+
+    public OutboxRepository(DataSource dataSource, ObjectMapper mapper) {
+        jdbcTemplate = new InstrumentedNamedParameterJdbcTemplate(dataSource, OutboxRepository.class);
+        writer = mapper.writer().without(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+    }
+
+    /**
+     * Appends a message and returns its id, which also serves as a monotonically increasing board version.
+     */
+    public long append(String eventType, Object content) {
+
+        var sql = "INSERT INTO outbox (event_type, payload) VALUES (:event_type, :payload)";
+
+        try {
+            MapSqlParameterSource parameters = new MapSqlParameterSource()
+                    .addValue(EVENT_TYPE_FIELD, eventType)
+                    .addValue(PAYLOAD_FIELD, writer.writeValueAsString(content));
+
+            var keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(sql, parameters, keyHolder, new String[]{"id"});
+
+            return keyHolder.getKey().longValue();
+
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("Unable to serialize outbox payload of " + eventType, exception);
+        }
+    }
+
+    /**
+     * Returns, in id order, the committed messages the relay has not delivered yet, wherever their id falls.
+     */
+    public List<OutboxMessage> findUndelivered(String relay, int limit) {
+
+        var sql = "SELECT o.id, o.event_type, o.payload, o.created_at FROM outbox AS o " +
+                "WHERE NOT EXISTS (SELECT 1 FROM outbox_delivery AS d WHERE d.relay = :relay AND d.outbox_id = o.id) " +
+                "ORDER BY o.id " +
+                "LIMIT :limit";
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue(RELAY_FIELD, relay)
+                .addValue("limit", limit);
+
+        return jdbcTemplate.query(sql, parameters, (rs, rowNum) -> new OutboxMessage(
+                rs.getLong("id"),
+                rs.getString(EVENT_TYPE_FIELD),
+                rs.getString(PAYLOAD_FIELD),
+                rs.getTimestamp("created_at").toLocalDateTime()));
+    }
+
+    public void createCursorIfAbsent(String relay) {
+
+        var sql = "INSERT INTO outbox_cursor (relay) " +
+                "SELECT :relay WHERE NOT EXISTS (SELECT 1 FROM outbox_cursor WHERE relay = :relay)";
+
+        try {
+            jdbcTemplate.update(sql, new MapSqlParameterSource(RELAY_FIELD, relay));
+        } catch (DuplicateKeyException exception) {
+            // another node created it concurrently
+        }
+    }
+
+    /**
+     * Must run inside a transaction: the row lock keeps relays sharing the same name on other nodes from
+     * delivering the same batch concurrently.
+     */
+    public void lockCursor(String relay) {
+
+        var sql = "SELECT relay FROM outbox_cursor WHERE relay = :relay FOR UPDATE";
+
+        jdbcTemplate.queryForObject(sql, new MapSqlParameterSource(RELAY_FIELD, relay), String.class);
+    }
+
+    public void markDelivered(String relay, List<Long> ids) {
+
+        var sql = "INSERT INTO outbox_delivery (relay, outbox_id) VALUES (:relay, :outbox_id)";
+
+        SqlParameterSource[] parameters = ids.stream()
+                .map(id -> new MapSqlParameterSource()
+                        .addValue(RELAY_FIELD, relay)
+                        .addValue(OUTBOX_ID_FIELD, id))
+                .toArray(SqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate(sql, parameters);
+        jdbcTemplate.update("UPDATE outbox_cursor SET updated_at = NOW() WHERE relay = :relay",
+                new MapSqlParameterSource(RELAY_FIELD, relay));
+    }
+
+    /**
+     * Deletes messages past the retention window that every relay has delivered; their delivery rows cascade.
+     */
+    public int purgeDelivered(long retentionInHours) {
+
+        var sql = "DELETE FROM outbox " +
+                "WHERE created_at < :created_before " +
+                "AND NOT EXISTS (SELECT 1 FROM outbox_cursor AS c WHERE NOT EXISTS (" +
+                "SELECT 1 FROM outbox_delivery AS d WHERE d.relay = c.relay AND d.outbox_id = outbox.id))";
+
+        var createdBefore = jdbcTemplate.queryForObject("SELECT NOW()", new MapSqlParameterSource(), Timestamp.class)
+                .toLocalDateTime()
+                .minusHours(retentionInHours);
+
+        return jdbcTemplate.update(sql, new MapSqlParameterSource("created_before", Timestamp.valueOf(createdBefore)));
+    }
+}
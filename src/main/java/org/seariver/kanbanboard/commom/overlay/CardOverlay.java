@@ -0,0 +1,13 @@
+package org.seariver.kanbanboard.commom.overlay;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Card edits already accepted by the write side but not yet persisted, so the read side can show them without
+ * depending on how the write side buffers them.
+ */
+public interface CardOverlay {
+
+    Optional<String> findPendingName(UUID cardExternalId);
+}
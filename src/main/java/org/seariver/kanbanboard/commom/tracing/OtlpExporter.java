@@ -0,0 +1,101 @@
+package org.seariver.kanbanboard.commom.tracing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.jboss.logging.Logger;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Sends traces to an OpenTelemetry collector with OTLP/HTTP in its JSON encoding, one request per trace.
+ * <p>
+ * Export is best effort: failures are logged at debug level and the trace stays available in the ring.
+ */
+public class OtlpExporter {
+
+    final static Logger logger = Logger.getLogger(OtlpExporter.class);
+
+    private static final int SPAN_KIND_INTERNAL = 1;
+    private static final int SPAN_KIND_SERVER = 2;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+    private final URI endpoint;
+    private final String serviceName;
+
+    public OtlpExporter(String endpoint, String serviceName) {
+        this.endpoint = URI.create(endpoint);
+        this.serviceName = serviceName;
+    }
+
+    public void export(Trace trace) {
+        try {
+            var request = HttpRequest.newBuilder(endpoint)
+                    .timeout(Duration.ofSeconds(5))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(toJson(trace)))
+                    .build();
+
+            var response = client.send(request, HttpResponse.BodyHandlers.discarding());
+
+            if (response.statusCode() >= 300) {
+                logger.debugv("OTLP collector answered {0} for trace {1}", response.statusCode(), trace.getTraceId());
+            }
+        } catch (IOException exception) {
+            logger.debugv(exception, "Could not export trace {0}", trace.getTraceId());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    String toJson(Trace trace) throws JsonProcessingException {
+
+        var body = mapper.createObjectNode();
+        var resourceSpans = body.putArray("resourceSpans").addObject();
+
+        resourceSpans.putObject("resource").putArray("attributes").add(attribute("service.name", serviceName));
+
+        var scopeSpans = resourceSpans.putArray("scopeSpans").addObject();
+        scopeSpans.putObject("scope").put("name", "kanbanboard");
+
+        addSpan(scopeSpans.putArray("spans"), trace, trace.getRoot());
+
+        return mapper.writeValueAsString(body);
+    }
+
+    private void addSpan(ArrayNode spans, Trace trace, Span span) {
+
+        var root = trace.getRoot();
+        var epochInNano = trace.getStartedAtEpochMilli() * 1_000_000L;
+        var node = spans.addObject()
+                .put("traceId", trace.getTraceId())
+                .put("spanId", span.getSpanId())
+                .put("name", span.getName())
+                .put("kind", span == root ? SPAN_KIND_SERVER : SPAN_KIND_INTERNAL)
+                // OTLP JSON encodes 64 bit integers as strings
+                .put("startTimeUnixNano", String.valueOf(epochInNano + span.getStartInNano() - root.getStartInNano()))
+                .put("endTimeUnixNano", String.valueOf(epochInNano + span.getEndInNano() - root.getStartInNano()));
+
+        if (span.getParent() != null) {
+            node.put("parentSpanId", span.getParent().getSpanId());
+        }
+
+        var attributes = node.putArray("attributes");
+        span.getAttributes().forEach((key, value) -> attributes.add(attribute(key, String.valueOf(value))));
+
+        span.getChildren().forEach(child -> addSpan(spans, trace, child));
+    }
+
+    private ObjectNode attribute(String key, String value) {
+        var attribute = mapper.createObjectNode().put("key", key);
+        attribute.putObject("value").put("stringValue", value);
+        return attribute;
+    }
+}
@@ -0,0 +1,134 @@
+package org.seariver.kanbanboard.commom.tracing;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_EMPTY;
+
+/**
+ * Timed unit of work inside a {@link Trace}, closed with try-with-resources.
+ * <p>
+ * Spans are created and closed by the thread that owns the trace, so they are not synchronized. Outside a trace
+ * {@link Tracer#span(String)} hands out {@link #NOOP}, which records nothing.
+ */
+@JsonInclude(NON_EMPTY)
+@RegisterForReflection
+public class Span implements AutoCloseable {
+
+    static final Span NOOP = new Span(null, null, null, 0);
+
+    private final Trace trace;
+    private final Span parent;
+    private final String name;
+    private final String spanId;
+    private final long startInNano;
+    private long endInNano;
+    private Map<String, Object> attributes;
+    private List<Span> children;
+
+    Span(Trace trace, Span parent, String name, long startInNano) {
+        this.trace = trace;
+        this.parent = parent;
+        this.name = name;
+        this.spanId = trace == null ? null : Tracer.newId(8);
+        this.startInNano = startInNano;
+    }
+
+    @JsonIgnore
+    public boolean isRecording() {
+        return this != NOOP;
+    }
+
+    public Span attribute(String key, Object value) {
+
+        if (this == NOOP || value == null) {
+            return this;
+        }
+
+        if (attributes == null) {
+            attributes = new LinkedHashMap<>();
+        }
+
+        attributes.put(key, value);
+        return this;
+    }
+
+    @Override
+    public void close() {
+
+        if (this == NOOP) {
+            return;
+        }
+
+        endInNano = System.nanoTime();
+        Tracer.closed(this);
+    }
+
+    Span child(String name) {
+
+        var child = new Span(trace, this, name, System.nanoTime());
+
+        if (children == null) {
+            children = new ArrayList<>();
+        }
+
+        children.add(child);
+        return child;
+    }
+
+    @JsonIgnore
+    Trace getTrace() {
+        return trace;
+    }
+
+    @JsonIgnore
+    Span getParent() {
+        return parent;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getSpanId() {
+        return spanId;
+    }
+
+    public double getStartOffsetInMilli() {
+        return (startInNano - trace.getRoot().startInNano) / 1_000_000.0;
+    }
+
+    public double getDurationInMilli() {
+        return getDurationInNano() / 1_000_000.0;
+    }
+
+    @JsonIgnore
+    public long getDurationInNano() {
+        return endInNano == 0 ? 0 : endInNano - startInNano;
+    }
+
+    @JsonIgnore
+    long getStartInNano() {
+        return startInNano;
+    }
+
+    @JsonIgnore
+    long getEndInNano() {
+        return endInNano;
+    }
+
+    public Map<String, Object> getAttributes() {
+        return attributes == null ? Collections.emptyMap() : attributes;
+    }
+
+    public List<Span> getChildren() {
+        return children == null ? Collections.emptyList() : children;
+    }
+}
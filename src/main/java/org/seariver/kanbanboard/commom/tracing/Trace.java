@@ -0,0 +1,63 @@
+package org.seariver.kanbanboard.commom.tracing;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * Span tree of one HTTP request, from the request filter to the response filter.
+ */
+@RegisterForReflection
+public class Trace {
+
+    private final String traceId;
+    private final long startedAtEpochMilli;
+    private final Span root;
+    private final int maxSpans;
+    private int spans;
+    private int droppedSpans;
+
+    Trace(String name, int maxSpans) {
+        this.traceId = Tracer.newId(16);
+        this.startedAtEpochMilli = System.currentTimeMillis();
+        this.maxSpans = maxSpans;
+        this.root = new Span(this, null, name, System.nanoTime());
+        this.spans = 1;
+    }
+
+    /**
+     * Counts a new span, false once the trace reached its limit and further spans are dropped.
+     */
+    boolean admit() {
+
+        if (spans >= maxSpans) {
+            droppedSpans++;
+            return false;
+        }
+
+        spans++;
+        return true;
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public String getName() {
+        return root.getName();
+    }
+
+    public long getStartedAtEpochMilli() {
+        return startedAtEpochMilli;
+    }
+
+    public double getDurationInMilli() {
+        return root.getDurationInMilli();
+    }
+
+    public int getDroppedSpans() {
+        return droppedSpans;
+    }
+
+    public Span getRoot() {
+        return root;
+    }
+}
@@ -0,0 +1,86 @@
+package org.seariver.kanbanboard.commom.tracing;
+
+import io.quarkus.runtime.ShutdownEvent;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.seariver.kanbanboard.commom.observable.AsyncLogWriter;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Keeps the last {@code capacity} finished traces in a ring and, when an OTLP endpoint is configured, hands them
+ * to the {@link OtlpExporter} on its own thread.
+ */
+@ApplicationScoped
+public class TraceRecorder {
+
+    private final boolean enabled;
+    private final int maxSpans;
+    private final AtomicReferenceArray<Trace> ring;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AsyncLogWriter<Trace> exporter;
+
+    public TraceRecorder(
+            @ConfigProperty(name = "kanbanboard.tracing.enabled", defaultValue = "false") boolean enabled,
+            @ConfigProperty(name = "kanbanboard.tracing.capacity", defaultValue = "256") int capacity,
+            @ConfigProperty(name = "kanbanboard.tracing.max-spans", defaultValue = "500") int maxSpans,
+            @ConfigProperty(name = "kanbanboard.tracing.otlp.endpoint") Optional<String> otlpEndpoint,
+            @ConfigProperty(name = "kanbanboard.tracing.service-name", defaultValue = "kanbanboard") String serviceName) {
+        this.enabled = enabled;
+        this.maxSpans = maxSpans;
+        this.ring = new AtomicReferenceArray<>(capacity);
+        this.exporter = enabled && otlpEndpoint.isPresent()
+                ? new AsyncLogWriter<>("otlp-exporter", capacity, new OtlpExporter(otlpEndpoint.get(), serviceName)::export)
+                : null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getMaxSpans() {
+        return maxSpans;
+    }
+
+    public void record(Trace trace) {
+
+        ring.set((int) (sequence.getAndIncrement() % ring.length()), trace);
+
+        if (exporter != null) {
+            exporter.offer(trace);
+        }
+    }
+
+    /**
+     * Retained traces lasting at least {@code minDurationInMilli}, slowest first.
+     */
+    public List<Trace> find(long minDurationInMilli, int limit) {
+
+        List<Trace> traces = new ArrayList<>();
+
+        for (var index = 0; index < ring.length(); index++) {
+            var trace = ring.get(index);
+
+            if (trace != null && trace.getDurationInMilli() >= minDurationInMilli) {
+                traces.add(trace);
+            }
+        }
+
+        traces.sort(Comparator.comparingDouble(Trace::getDurationInMilli).reversed());
+
+        return traces.size() > limit ? traces.subList(0, limit) : traces;
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+
+        if (exporter != null) {
+            exporter.close();
+        }
+    }
+}
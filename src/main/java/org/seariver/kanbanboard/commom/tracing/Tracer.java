@@ -0,0 +1,75 @@
+package org.seariver.kanbanboard.commom.tracing;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Keeps the span currently open on this thread.
+ * <p>
+ * Instrumented code calls {@code try (var span = Tracer.span("name")) {...}} unconditionally; without a trace
+ * running on the thread that is a thread local read returning {@link Span#NOOP}.
+ */
+public final class Tracer {
+
+    private static final ThreadLocal<Span> CURRENT = new ThreadLocal<>();
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private Tracer() {
+    }
+
+    public static Trace begin(String name, int maxSpans) {
+        var trace = new Trace(name, maxSpans);
+        CURRENT.set(trace.getRoot());
+        return trace;
+    }
+
+    public static Span span(String name) {
+
+        var parent = CURRENT.get();
+
+        if (parent == null || !parent.getTrace().admit()) {
+            return Span.NOOP;
+        }
+
+        var child = parent.child(name);
+        CURRENT.set(child);
+        return child;
+    }
+
+    /**
+     * Span currently open on this thread, {@link Span#NOOP} outside a trace.
+     */
+    public static Span current() {
+        var span = CURRENT.get();
+        return span == null ? Span.NOOP : span;
+    }
+
+    static void closed(Span span) {
+
+        if (span.getParent() == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(span.getParent());
+        }
+    }
+
+    /**
+     * Drops whatever is left open on this thread, for request threads going back to the pool.
+     */
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    static String newId(int bytes) {
+
+        var id = new char[bytes * 2];
+        var random = ThreadLocalRandom.current();
+
+        for (var index = 0; index < bytes; index++) {
+            var value = random.nextInt(256);
+            id[index * 2] = HEX[value >>> 4];
+            id[index * 2 + 1] = HEX[value & 0xF];
+        }
+
+        return new String(id);
+    }
+}
@@ -0,0 +1,57 @@
+package org.seariver.kanbanboard.commom.tracing;
+
+import javax.inject.Inject;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.ext.Provider;
+
+/**
+ * Opens a {@link Trace} for every API request and records it once the response is ready.
+ * <p>
+ * The metrics and debug endpoints are not traced so looking at traces does not push them out of the ring.
+ */
+@Provider
+public class TracingFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+    private static final String TRACE_PROPERTY = Trace.class.getName();
+
+    @Inject
+    TraceRecorder traceRecorder;
+
+    @Override
+    public void filter(ContainerRequestContext request) {
+
+        Tracer.clear();
+
+        var path = request.getUriInfo().getPath();
+        var relativePath = path.startsWith("/") ? path.substring(1) : path;
+
+        if (!traceRecorder.isEnabled() || relativePath.startsWith("metrics") || relativePath.startsWith("debug")) {
+            return;
+        }
+
+        var trace = Tracer.begin(request.getMethod() + " " + path, traceRecorder.getMaxSpans());
+        trace.getRoot().attribute("http.method", request.getMethod());
+
+        request.setProperty(TRACE_PROPERTY, trace);
+    }
+
+    @Override
+    public void filter(ContainerRequestContext request, ContainerResponseContext response) {
+
+        var trace = (Trace) request.getProperty(TRACE_PROPERTY);
+
+        if (trace == null) {
+            return;
+        }
+
+        trace.getRoot().attribute("http.status_code", response.getStatus()).close();
+        Tracer.clear();
+
+        response.getHeaders().putSingle(TRACE_ID_HEADER, trace.getTraceId());
+        traceRecorder.record(trace);
+    }
+}
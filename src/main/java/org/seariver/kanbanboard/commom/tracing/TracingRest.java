@@ -0,0 +1,42 @@
+package org.seariver.kanbanboard.commom.tracing;
+
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Response;
+
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
+import static javax.ws.rs.core.Response.Status.NOT_FOUND;
+
+/**
+ * Lists recent traces while {@code kanbanboard.tracing.enabled} is on and answers 404 otherwise, so the unauthenticated
+ * endpoint only exists where tracing was switched on deliberately.
+ */
+@ApplicationScoped
+@Path("debug/traces")
+@Tag(name = "debug")
+public class TracingRest {
+
+    private final TraceRecorder traceRecorder;
+
+    public TracingRest(TraceRecorder traceRecorder) {
+        this.traceRecorder = traceRecorder;
+    }
+
+    @GET
+    @Produces(APPLICATION_JSON)
+    public Response find(@QueryParam("minDurationMs") @DefaultValue("0") long minDurationInMilli,
+                         @QueryParam("limit") @DefaultValue("50") int limit) {
+
+        if (!traceRecorder.isEnabled()) {
+            return Response.status(NOT_FOUND).build();
+        }
+
+        return Response.ok(traceRecorder.find(minDurationInMilli, Math.max(limit, 0))).build();
+    }
+}
@@ -3,10 +3,14 @@ package org.seariver.kanbanboard.read.adapter.in;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 import org.seariver.kanbanboard.commom.observable.ServiceBus;
 import org.seariver.kanbanboard.read.application.service.ListAllBucketQuery;
+import org.seariver.kanbanboard.read.application.service.ListArchivedCardQuery;
 
 import javax.enterprise.context.ApplicationScoped;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
@@ -32,4 +36,17 @@ public class ReadBucketRest {
 
         return Response.ok(query.getResult()).build();
     }
+
+    @GET
+    @Path("{bucketExternalId}/archived-cards")
+    public Response listArchivedCards(@PathParam("bucketExternalId") String bucketExternalId,
+                                      @QueryParam("after") String after,
+                                      @QueryParam("size") @DefaultValue("50") int size) {
+
+        var query = new ListArchivedCardQuery(bucketExternalId, after, size);
+
+        serviceBus.execute(query);
+
+        return Response.ok(query.getResult()).build();
+    }
 }
@@ -0,0 +1,52 @@
+package org.seariver.kanbanboard.read.adapter.out;
+
+import org.seariver.kanbanboard.commom.datasource.ReadOnly;
+import org.seariver.kanbanboard.commom.jdbc.InstrumentedNamedParameterJdbcTemplate;
+import org.seariver.kanbanboard.read.application.domain.ArchivedCardDto;
+import org.seariver.kanbanboard.read.application.domain.ReadArchivedCardRepository;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+
+@ApplicationScoped
+public class ReadArchivedCardRepositoryImpl implements ReadArchivedCardRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ReadArchivedCardRepositoryImpl(@ReadOnly DataSource dataSource) {
+        jdbcTemplate = new InstrumentedNamedParameterJdbcTemplate(dataSource, ReadArchivedCardRepositoryImpl.class);
+    }
+
+    /**
+     * Pages by the position of the {@code after} card in the listing order, so every page reads only its own rows
+     * from the (bucket_external_id, archived_at, id) index however deep it is.
+     */
+    public List<ArchivedCardDto> findByBucketExternalId(UUID bucketExternalId, UUID after, int size) {
+
+        var sql = "SELECT card.external_id, card.position, card.name, card.description, card.archived_at " +
+                "FROM archived_card AS card " +
+                (after == null ? "" : "JOIN archived_card AS previous ON previous.external_id = :after ") +
+                "WHERE card.bucket_external_id = :bucket_external_id " +
+                (after == null ? "" : "AND (card.archived_at < previous.archived_at " +
+                        "OR (card.archived_at = previous.archived_at AND card.id < previous.id)) ") +
+                "ORDER BY card.archived_at DESC, card.id DESC " +
+                "LIMIT :limit";
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("bucket_external_id", bucketExternalId)
+                .addValue("after", after)
+                .addValue("limit", size);
+
+        return jdbcTemplate.query(sql, parameters, (rs, rowNum) ->
+                new ArchivedCardDto(
+                        UUID.fromString(rs.getString("external_id")),
+                        rs.getDouble("position"),
+                        rs.getString("name"),
+                        rs.getString("description"),
+                        rs.getTimestamp("archived_at").toLocalDateTime()));
+    }
+}
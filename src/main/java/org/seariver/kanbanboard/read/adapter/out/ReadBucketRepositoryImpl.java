@@ -1,5 +1,8 @@
 package org.seariver.kanbanboard.read.adapter.out;
 
+import org.seariver.kanbanboard.commom.datasource.ReadOnly;
+import org.seariver.kanbanboard.commom.jdbc.InstrumentedNamedParameterJdbcTemplate;
+import org.seariver.kanbanboard.commom.overlay.CardOverlay;
 import org.seariver.kanbanboard.read.application.domain.BucketDto;
 import org.seariver.kanbanboard.read.application.domain.CardDto;
 import org.seariver.kanbanboard.read.application.domain.ReadBucketRepository;
@@ -18,9 +21,11 @@ import java.util.UUID;
 public class ReadBucketRepositoryImpl implements ReadBucketRepository {
 
     private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final CardOverlay cardOverlay;
 
-    public ReadBucketRepositoryImpl(DataSource dataSource) {
-        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    public ReadBucketRepositoryImpl(@ReadOnly DataSource dataSource, CardOverlay cardOverlay) {
+        jdbcTemplate = new InstrumentedNamedParameterJdbcTemplate(dataSource, ReadBucketRepositoryImpl.class);
+        this.cardOverlay = cardOverlay;
     }
 
     public List<BucketDto> findAll() {
@@ -46,10 +51,14 @@ public class ReadBucketRepositoryImpl implements ReadBucketRepository {
                         rs.getString("bucket_name")));
 
                 if (Optional.ofNullable(rs.getString("card_external_id")).isPresent()) {
+                    var cardExternalId = UUID.fromString(rs.getString("card_external_id"));
+                    var cardName = cardOverlay.findPendingName(cardExternalId)
+                            .orElse(rs.getString("card_name"));
+
                     bucketDto.addCard(new CardDto(
-                            UUID.fromString(rs.getString("card_external_id")),
+                            cardExternalId,
                             rs.getDouble("card_position"),
-                            rs.getString("card_name")));
+                            cardName));
                 }
 
                 resultMap.put(position, bucketDto);
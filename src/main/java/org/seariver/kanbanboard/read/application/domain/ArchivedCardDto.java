@@ -0,0 +1,50 @@
+package org.seariver.kanbanboard.read.application.domain;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@RegisterForReflection
+public class ArchivedCardDto {
+
+    @JsonProperty("id")
+    private final UUID externalId;
+    @JsonProperty("position")
+    private final double position;
+    @JsonProperty("name")
+    private final String name;
+    @JsonProperty("description")
+    private final String description;
+    @JsonProperty("archivedAt")
+    private final LocalDateTime archivedAt;
+
+    public ArchivedCardDto(UUID externalId, double position, String name, String description, LocalDateTime archivedAt) {
+        this.externalId = externalId;
+        this.position = position;
+        this.name = name;
+        this.description = description;
+        this.archivedAt = archivedAt;
+    }
+
+    public UUID getExternalId() {
+        return externalId;
+    }
+
+    public double getPosition() {
+        return position;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+}
@@ -1,11 +1,13 @@
 package org.seariver.kanbanboard.read.application.domain;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.quarkus.runtime.annotations.RegisterForReflection;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+@RegisterForReflection
 public class BucketDto {
 
     @JsonProperty("id")
@@ -1,9 +1,11 @@
 package org.seariver.kanbanboard.read.application.domain;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.quarkus.runtime.annotations.RegisterForReflection;
 
 import java.util.UUID;
 
+@RegisterForReflection
 public class CardDto {
 
     @JsonProperty("id")
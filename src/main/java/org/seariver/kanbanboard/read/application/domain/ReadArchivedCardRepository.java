@@ -0,0 +1,9 @@
+package org.seariver.kanbanboard.read.application.domain;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ReadArchivedCardRepository {
+
+    List<ArchivedCardDto> findByBucketExternalId(UUID bucketExternalId, UUID after, int size);
+}
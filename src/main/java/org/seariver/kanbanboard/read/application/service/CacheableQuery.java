@@ -0,0 +1,19 @@
+package org.seariver.kanbanboard.read.application.service;
+
+/**
+ * A query whose result may be served from the query cache when its class is also annotated with
+ * {@link org.seariver.kanbanboard.commom.cache.Cached}. The result is shared between callers and must not be mutated.
+ */
+public interface CacheableQuery<R> extends Query {
+
+    /**
+     * Distinguishes instances of the same query class, parameterless queries keep the default.
+     */
+    default String cacheKey() {
+        return "";
+    }
+
+    R getResult();
+
+    void setResult(R result);
+}
@@ -1,10 +1,13 @@
 package org.seariver.kanbanboard.read.application.service;
 
+import org.seariver.kanbanboard.commom.cache.CacheTag;
+import org.seariver.kanbanboard.commom.cache.Cached;
 import org.seariver.kanbanboard.read.application.domain.BucketDto;
 
 import java.util.List;
 
-public class ListAllBucketQuery implements Query {
+@Cached(tags = {CacheTag.BUCKET, CacheTag.CARD})
+public class ListAllBucketQuery implements CacheableQuery<List<BucketDto>> {
 
     private List<BucketDto> result;
 
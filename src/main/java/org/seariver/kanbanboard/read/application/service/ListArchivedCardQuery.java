@@ -0,0 +1,56 @@
+package org.seariver.kanbanboard.read.application.service;
+
+import org.seariver.kanbanboard.commom.SelfValidating;
+import org.seariver.kanbanboard.read.application.domain.ArchivedCardDto;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Pattern;
+import java.util.List;
+import java.util.UUID;
+
+public class ListArchivedCardQuery extends SelfValidating<ListArchivedCardQuery> implements Query {
+
+    public static final int MAX_PAGE_SIZE = 200;
+
+    @NotBlank
+    @Pattern(regexp = UUID_FORMAT, message = INVALID_UUID)
+    private final String bucketExternalId;
+    @Pattern(regexp = UUID_FORMAT, message = INVALID_UUID)
+    private final String after;
+    @Min(1)
+    @Max(MAX_PAGE_SIZE)
+    private final int size;
+    private List<ArchivedCardDto> result;
+
+    public ListArchivedCardQuery(String bucketExternalId, String after, int size) {
+        this.bucketExternalId = bucketExternalId;
+        this.after = after;
+        this.size = size;
+        validateSelf();
+    }
+
+    public UUID getBucketExternalId() {
+        return UUID.fromString(bucketExternalId);
+    }
+
+    /**
+     * The last card of the previous page, {@code null} for the first page.
+     */
+    public UUID getAfter() {
+        return after == null ? null : UUID.fromString(after);
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public List<ArchivedCardDto> getResult() {
+        return result;
+    }
+
+    public void setResult(List<ArchivedCardDto> result) {
+        this.result = result;
+    }
+}
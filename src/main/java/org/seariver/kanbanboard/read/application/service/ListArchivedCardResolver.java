@@ -0,0 +1,25 @@
+package org.seariver.kanbanboard.read.application.service;
+
+import org.seariver.kanbanboard.read.application.domain.ReadArchivedCardRepository;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Named;
+
+@Named
+@ApplicationScoped
+public class ListArchivedCardResolver implements Resolver<ListArchivedCardQuery> {
+
+    private final ReadArchivedCardRepository repository;
+
+    public ListArchivedCardResolver(ReadArchivedCardRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public void resolve(ListArchivedCardQuery query) {
+
+        var result = repository.findByBucketExternalId(query.getBucketExternalId(), query.getAfter(), query.getSize());
+
+        query.setResult(result);
+    }
+}
@@ -1,7 +1,5 @@
 package org.seariver.kanbanboard.read.observable;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.seariver.kanbanboard.commom.observable.InternalEvent;
 import org.seariver.kanbanboard.read.application.service.Query;
 import org.seariver.kanbanboard.write.application.exception.WriteException;
@@ -14,6 +12,7 @@ public class QueryEvent extends InternalEvent {
     private final Query query;
 
     public QueryEvent(Query query) {
+        startTimer();
         this.query = query;
     }
 
@@ -27,26 +26,24 @@ public class QueryEvent extends InternalEvent {
     }
 
     @Override
-    public String toJson() {
+    public Map<String, Object> toMessage() {
 
-        var mapper = new ObjectMapper();
         Map<String, Object> message = new HashMap<>(Map.of("event", getOrigin()));
         message.put("elapsedTimeInMilli", getElapsedTimeInMilli());
 
-        try {
-            if (hasError()) {
-                message.put("message", getException().getMessage());
-
-                if (getException() instanceof WriteException) {
-                    var domainException = (WriteException) getException();
-                    message.put("errors", domainException.getErrors().toString());
-                }
-            }
+        if (getAllocatedBytes() >= 0) {
+            message.put("allocatedBytes", getAllocatedBytes());
+        }
 
-            return mapper.writeValueAsString(message);
+        if (hasError()) {
+            message.put("message", getException().getMessage());
 
-        } catch (JsonProcessingException jsonException) {
-            return String.format("%s - %s", getOrigin(), jsonException);
+            if (getException() instanceof WriteException) {
+                var domainException = (WriteException) getException();
+                message.put("errors", domainException.getErrors().toString());
+            }
         }
+
+        return message;
     }
 }
@@ -2,6 +2,7 @@ package org.seariver.kanbanboard.write.adapter.in;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.quarkus.runtime.annotations.RegisterForReflection;
 import org.eclipse.microprofile.openapi.annotations.media.Content;
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
@@ -11,17 +12,25 @@ import org.jboss.resteasy.annotations.jaxrs.PathParam;
 import org.seariver.kanbanboard.commom.exception.ResponseError;
 import org.seariver.kanbanboard.commom.observable.ServiceBus;
 import org.seariver.kanbanboard.write.application.service.CreateBucketCommand;
+import org.seariver.kanbanboard.write.application.service.DeleteBucketCommand;
 import org.seariver.kanbanboard.write.application.service.MoveBucketCommand;
+import org.seariver.kanbanboard.write.application.service.ReorderBucketCommand;
+import org.seariver.kanbanboard.write.application.service.ReorderCardCommand;
 import org.seariver.kanbanboard.write.application.service.UpdateBucketCommand;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.ws.rs.Consumes;
+import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.PATCH;
 import javax.ws.rs.POST;
+import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import java.util.List;
 
 import static javax.ws.rs.core.Response.Status.CREATED;
 
@@ -80,7 +89,50 @@ public class WriteBucketRest {
         return Response.noContent().build();
     }
 
+    @PUT
+    @Path("order")
+    @APIResponse(responseCode = "204", description = "Buckets reordered successful")
+    @APIResponse(responseCode = "400", content = @Content(schema = @Schema(allOf = ResponseError.class)))
+    @APIResponse(responseCode = "500", description = "Internal server error")
+    public Response reorder(List<String> bucketExternalIds) {
+
+        var command = new ReorderBucketCommand(bucketExternalIds);
+        serviceBus.execute(command);
+
+        return Response.noContent().build();
+    }
+
+    @PUT
+    @Path("{bucketExternalId}/order")
+    @APIResponse(responseCode = "204", description = "Cards reordered successful")
+    @APIResponse(responseCode = "400", content = @Content(schema = @Schema(allOf = ResponseError.class)))
+    @APIResponse(responseCode = "404", content = @Content(schema = @Schema(allOf = ResponseError.class)))
+    @APIResponse(responseCode = "500", description = "Internal server error")
+    public Response reorderCards(@PathParam("bucketExternalId") String bucketExternalId, List<String> cardExternalIds) {
+
+        var command = new ReorderCardCommand(bucketExternalId, cardExternalIds);
+        serviceBus.execute(command);
+
+        return Response.noContent().build();
+    }
+
+    @DELETE
+    @Path("{bucketExternalId}")
+    @APIResponse(responseCode = "204", description = "Bucket deleted successful")
+    @APIResponse(responseCode = "400", content = @Content(schema = @Schema(allOf = ResponseError.class)))
+    @APIResponse(responseCode = "404", content = @Content(schema = @Schema(allOf = ResponseError.class)))
+    @APIResponse(responseCode = "500", description = "Internal server error")
+    public Response delete(@PathParam("bucketExternalId") String bucketExternalId,
+                           @QueryParam("archive") @DefaultValue("false") boolean archive) {
+
+        var command = new DeleteBucketCommand(bucketExternalId, archive);
+        serviceBus.execute(command);
+
+        return Response.noContent().build();
+    }
+
     @JsonIgnoreProperties(ignoreUnknown = true)
+    @RegisterForReflection
     static class BucketInput {
         @JsonProperty("bucketId")
         public String bucketExternalId;
@@ -2,6 +2,7 @@ package org.seariver.kanbanboard.write.adapter.in;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.quarkus.runtime.annotations.RegisterForReflection;
 import org.eclipse.microprofile.openapi.annotations.media.Content;
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
@@ -9,16 +10,20 @@ import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 import org.seariver.kanbanboard.commom.exception.ResponseError;
 import org.seariver.kanbanboard.commom.observable.ServiceBus;
 import org.seariver.kanbanboard.write.application.service.CreateCardCommand;
+import org.seariver.kanbanboard.write.application.service.DeleteCardCommand;
 import org.seariver.kanbanboard.write.application.service.MoveCardCommand;
 import org.seariver.kanbanboard.write.application.service.UpdateCardCommand;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.ws.rs.Consumes;
+import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.PATCH;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
@@ -83,7 +88,24 @@ public class WriteCardRest {
         return Response.status(NO_CONTENT).build();
     }
 
+    @DELETE
+    @Path("{cardExternalId}")
+    @APIResponse(responseCode = "204", description = "Card deleted or archived successful")
+    @APIResponse(responseCode = "400", content = @Content(schema = @Schema(allOf = ResponseError.class)))
+    @APIResponse(responseCode = "404", content = @Content(schema = @Schema(allOf = ResponseError.class)))
+    @APIResponse(responseCode = "500", description = "Internal server error")
+    public Response delete(@PathParam("cardExternalId") String cardExternalId,
+                           @QueryParam("archive") @DefaultValue("false") boolean archive) {
+
+        var command = new DeleteCardCommand(cardExternalId, archive);
+
+        serviceBus.execute(command);
+
+        return Response.status(NO_CONTENT).build();
+    }
+
     @JsonIgnoreProperties(ignoreUnknown = true)
+    @RegisterForReflection
     static class CardInput {
         @JsonProperty("bucketId")
         public String bucketExternalId;
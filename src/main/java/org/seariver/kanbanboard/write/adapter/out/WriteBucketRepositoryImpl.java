@@ -1,11 +1,14 @@
 package org.seariver.kanbanboard.write.adapter.out;
 
+import org.seariver.kanbanboard.commom.jdbc.InstrumentedNamedParameterJdbcTemplate;
 import org.seariver.kanbanboard.write.application.domain.Bucket;
 import org.seariver.kanbanboard.write.application.domain.WriteBucketRepository;
 import org.seariver.kanbanboard.write.application.exception.DuplicatedDataException;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.sql.DataSource;
@@ -25,7 +28,7 @@ public class WriteBucketRepositoryImpl implements WriteBucketRepository {
     private final NamedParameterJdbcTemplate jdbcTemplate;
 
     public WriteBucketRepositoryImpl(DataSource dataSource) {
-        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        jdbcTemplate = new InstrumentedNamedParameterJdbcTemplate(dataSource, WriteBucketRepositoryImpl.class);
     }
 
     @Override
@@ -96,15 +99,48 @@ public class WriteBucketRepositoryImpl implements WriteBucketRepository {
                 .addValue(EXTERNAL_ID, externalId)
                 .addValue(POSITION_FIELD, position);
 
-        return jdbcTemplate.query(sql, parameters, (rs, rowNum) ->
+        return jdbcTemplate.query(sql, parameters, bucketRowMapper());
+    }
+
+    @Override
+    public List<Bucket> findAll() {
+
+        var sql = "SELECT id, external_id, position, name, created_at, updated_at FROM bucket ORDER BY position";
+
+        return jdbcTemplate.query(sql, bucketRowMapper());
+    }
+
+    @Override
+    public void updatePositions(List<Bucket> buckets) {
+
+        var sql = "UPDATE bucket SET position = :position WHERE external_id = :external_id";
+
+        SqlParameterSource[] parameters = buckets.stream()
+                .map(bucket -> new MapSqlParameterSource()
+                        .addValue(EXTERNAL_ID, bucket.getBucketExternalId())
+                        .addValue(POSITION_FIELD, bucket.getPosition()))
+                .toArray(SqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate(sql, parameters);
+    }
+
+    @Override
+    public void delete(Long id) {
+
+        var sql = "DELETE FROM bucket WHERE id = :id";
+
+        jdbcTemplate.update(sql, new MapSqlParameterSource().addValue("id", id));
+    }
+
+    private RowMapper<Bucket> bucketRowMapper() {
+        return (rs, rowNum) ->
                 new Bucket()
                         .setId(rs.getLong("id"))
                         .setBucketExternalId(UUID.fromString(rs.getString(EXTERNAL_ID)))
                         .setPosition(rs.getDouble(POSITION_FIELD))
                         .setName(rs.getString(NAME_FIELD))
                         .setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime())
-                        .setUpdatedAt(rs.getTimestamp("updated_at").toLocalDateTime())
-        );
+                        .setUpdatedAt(rs.getTimestamp("updated_at").toLocalDateTime());
     }
 
     private void duplicatedKeyException(UUID externalId, double position, DuplicateKeyException exception) {
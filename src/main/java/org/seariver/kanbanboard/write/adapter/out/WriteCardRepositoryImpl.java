@@ -1,17 +1,26 @@
 package org.seariver.kanbanboard.write.adapter.out;
 
+import org.seariver.kanbanboard.commom.jdbc.ConnectionTimingDataSource;
+import org.seariver.kanbanboard.commom.jdbc.InstrumentedNamedParameterJdbcTemplate;
 import org.seariver.kanbanboard.write.application.domain.Card;
 import org.seariver.kanbanboard.write.application.domain.WriteCardRepository;
 import org.seariver.kanbanboard.write.application.exception.DuplicatedDataException;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.seariver.kanbanboard.write.application.exception.WriteException.Error.INVALID_DUPLICATED_DATA;
 
@@ -26,9 +35,12 @@ public class WriteCardRepositoryImpl implements WriteCardRepository {
     public static final String UPDATED_AT_FIELD = "updated_at";
     private static final String DESCRIPTION_FIELD = "description";
     private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
 
     public WriteCardRepositoryImpl(DataSource dataSource) {
-        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        jdbcTemplate = new InstrumentedNamedParameterJdbcTemplate(dataSource, WriteCardRepositoryImpl.class);
+        transactionTemplate = new TransactionTemplate(
+                new DataSourceTransactionManager(new ConnectionTimingDataSource(dataSource)));
     }
 
     @Override
@@ -82,6 +94,73 @@ public class WriteCardRepositoryImpl implements WriteCardRepository {
         jdbcTemplate.update(sql, parameters);
     }
 
+    @Override
+    public void updateContent(List<Card> cards) {
+
+        var sql = "UPDATE card SET name = :name, description = :description WHERE external_id = :external_id";
+
+        SqlParameterSource[] parameters = cards.stream()
+                .map(card -> new MapSqlParameterSource()
+                        .addValue(EXTERNAL_ID, card.getCardExternalId())
+                        .addValue(NAME_FIELD, card.getName())
+                        .addValue(DESCRIPTION_FIELD, card.getDescription()))
+                .toArray(SqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate(sql, parameters);
+    }
+
+    @Override
+    public List<Card> findByBucketId(Long bucketId) {
+
+        var sql = "SELECT bucket_id, external_id, position, name, description, created_at, updated_at " +
+                "FROM card " +
+                "WHERE bucket_id = :bucket_id " +
+                "ORDER BY position";
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue(BUCKET_ID_FIELD, bucketId);
+
+        return jdbcTemplate.query(sql, parameters, (rs, rowNum) ->
+                new Card()
+                        .setBucketId(rs.getLong(BUCKET_ID_FIELD))
+                        .setCardExternalId(UUID.fromString(rs.getString(EXTERNAL_ID)))
+                        .setPosition(rs.getDouble(POSITION_FIELD))
+                        .setName(rs.getString(NAME_FIELD))
+                        .setDescription(rs.getString(DESCRIPTION_FIELD))
+                        .setCreatedAt(rs.getTimestamp(CREATED_AT_FIELD).toLocalDateTime())
+                        .setUpdatedAt(rs.getTimestamp(UPDATED_AT_FIELD).toLocalDateTime())
+        );
+    }
+
+    @Override
+    public List<Card> updatePositions(List<Card> cards) {
+
+        var sql = "UPDATE card SET position = :position " +
+                "WHERE external_id = :external_id AND NOT EXISTS (SELECT 1 FROM card WHERE position = :position)";
+
+        SqlParameterSource[] parameters = cards.stream()
+                .map(card -> new MapSqlParameterSource()
+                        .addValue(EXTERNAL_ID, card.getCardExternalId())
+                        .addValue(POSITION_FIELD, card.getPosition()))
+                .toArray(SqlParameterSource[]::new);
+
+        try {
+            var updated = jdbcTemplate.batchUpdate(sql, parameters);
+
+            List<Card> held = new ArrayList<>();
+            for (var index = 0; index < updated.length; index++) {
+                if (updated[index] == 0) {
+                    held.add(cards.get(index));
+                }
+            }
+
+            return held;
+
+        } catch (DuplicateKeyException exception) {
+            throw new DuplicatedDataException(INVALID_DUPLICATED_DATA, exception);
+        }
+    }
+
     @Override
     public Optional<Card> findByExternalId(UUID externalId) {
 
@@ -110,6 +189,106 @@ public class WriteCardRepositoryImpl implements WriteCardRepository {
         });
     }
 
+    @Override
+    public boolean delete(UUID cardExternalId) {
+
+        var sql = "DELETE FROM card WHERE external_id = :external_id";
+
+        return jdbcTemplate.update(sql, new MapSqlParameterSource().addValue(EXTERNAL_ID, cardExternalId)) > 0;
+    }
+
+    @Override
+    public boolean archive(UUID cardExternalId) {
+
+        var sql = "SELECT id FROM card WHERE external_id = :external_id";
+
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+
+            var ids = jdbcTemplate.queryForList(
+                    sql, new MapSqlParameterSource().addValue(EXTERNAL_ID, cardExternalId), Long.class);
+
+            if (ids.isEmpty()) {
+                return false;
+            }
+
+            moveToArchive(ids);
+
+            return true;
+        }));
+    }
+
+    @Override
+    public int deleteByBucketId(Long bucketId, int limit, Consumer<List<UUID>> beforeRemoval) {
+
+        return transactionTemplate.execute(status -> {
+
+            var batch = findBatchByBucketId(bucketId, limit);
+
+            if (batch.isEmpty()) {
+                return 0;
+            }
+
+            beforeRemoval.accept(List.copyOf(batch.values()));
+            jdbcTemplate.update("DELETE FROM card WHERE id IN (:ids)",
+                    new MapSqlParameterSource("ids", batch.keySet()));
+
+            return batch.size();
+        });
+    }
+
+    @Override
+    public int archiveByBucketId(Long bucketId, int limit, Consumer<List<UUID>> beforeRemoval) {
+
+        return transactionTemplate.execute(status -> {
+
+            var batch = findBatchByBucketId(bucketId, limit);
+
+            if (batch.isEmpty()) {
+                return 0;
+            }
+
+            beforeRemoval.accept(List.copyOf(batch.values()));
+            moveToArchive(List.copyOf(batch.keySet()));
+
+            return batch.size();
+        });
+    }
+
+    private Map<Long, UUID> findBatchByBucketId(Long bucketId, int limit) {
+
+        var sql = "SELECT id, external_id FROM card WHERE bucket_id = :bucket_id ORDER BY id LIMIT :limit";
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue(BUCKET_ID_FIELD, bucketId)
+                .addValue("limit", limit);
+
+        return jdbcTemplate.query(sql, parameters, resultSet -> {
+
+            var batch = new LinkedHashMap<Long, UUID>();
+
+            while (resultSet.next()) {
+                batch.put(resultSet.getLong("id"), UUID.fromString(resultSet.getString(EXTERNAL_ID)));
+            }
+
+            return batch;
+        });
+    }
+
+    private void moveToArchive(List<Long> ids) {
+
+        var copySql = "INSERT INTO archived_card " +
+                "(id, bucket_external_id, external_id, position, name, description, created_at, updated_at) " +
+                "SELECT c.id, b.external_id, c.external_id, c.position, c.name, c.description, c.created_at, c.updated_at " +
+                "FROM card AS c " +
+                "LEFT JOIN bucket AS b ON b.id = c.bucket_id " +
+                "WHERE c.id IN (:ids)";
+
+        var parameters = new MapSqlParameterSource("ids", ids);
+
+        jdbcTemplate.update(copySql, parameters);
+        jdbcTemplate.update("DELETE FROM card WHERE id IN (:ids)", parameters);
+    }
+
     private List<Card> findByExternalIdOrPosition(UUID externalId, double position) {
 
         var sql = "SELECT bucket_id, external_id, position, name, created_at, updated_at " +
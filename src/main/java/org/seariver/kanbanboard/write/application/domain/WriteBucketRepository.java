@@ -13,4 +13,10 @@ public interface WriteBucketRepository {
     Optional<Bucket> findByExternalId(UUID externalId);
 
     List<Bucket> findByExternalIdOrPosition(UUID externalId, double position);
+
+    List<Bucket> findAll();
+
+    void updatePositions(List<Bucket> buckets);
+
+    void delete(Long id);
 }
@@ -1,7 +1,9 @@
 package org.seariver.kanbanboard.write.application.domain;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface WriteCardRepository {
 
@@ -10,4 +12,31 @@ public interface WriteCardRepository {
     Optional<Card> findByExternalId(UUID externalId);
 
     void update(Card card);
+
+    void updateContent(List<Card> cards);
+
+    List<Card> findByBucketId(Long bucketId);
+
+    /**
+     * Moves each card to its position unless another card holds that position.
+     *
+     * @return the cards left where they were because their position is held
+     */
+    List<Card> updatePositions(List<Card> cards);
+
+    boolean delete(UUID cardExternalId);
+
+    boolean archive(UUID cardExternalId);
+
+    /**
+     * Deletes up to {@code limit} cards of the bucket in a transaction of their own, handing their external ids to
+     * {@code beforeRemoval} inside that transaction first.
+     */
+    int deleteByBucketId(Long bucketId, int limit, Consumer<List<UUID>> beforeRemoval);
+
+    /**
+     * Moves up to {@code limit} cards of the bucket to the archive in a transaction of their own, handing their
+     * external ids to {@code beforeRemoval} inside that transaction first.
+     */
+    int archiveByBucketId(Long bucketId, int limit, Consumer<List<UUID>> beforeRemoval);
 }
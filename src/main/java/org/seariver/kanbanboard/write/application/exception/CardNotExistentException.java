@@ -0,0 +1,8 @@
+package org.seariver.kanbanboard.write.application.exception;
+
+public class CardNotExistentException extends WriteException {
+
+    public CardNotExistentException(Error error) {
+        super(error);
+    }
+}
@@ -0,0 +1,8 @@
+package org.seariver.kanbanboard.write.application.exception;
+
+public class InvalidOrderException extends WriteException {
+
+    public InvalidOrderException(Error error) {
+        super(error);
+    }
+}
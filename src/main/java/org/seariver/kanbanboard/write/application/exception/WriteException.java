@@ -7,46 +7,61 @@ import java.util.Map;
 
 public abstract class WriteException extends DomainException {
 
-    private final int code;
-    private final transient Map<String, Object> errors = new HashMap<>();
+    private final Error error;
+    private transient Map<String, Object> errors;
 
     public enum Error {
 
         INVALID_DUPLICATED_DATA("Invalid duplicated data", 1000),
-        BUCKET_NOT_EXIST("Bucket not exist", 1001);
+        BUCKET_NOT_EXIST("Bucket not exist", 1001),
+        INVALID_ORDER("Invalid order", 1002),
+        CARD_NOT_EXIST("Card not exist", 1003);
 
-        private String message;
-        private int code;
+        private final String message;
+        private final int code;
 
         Error(String message, int code) {
             this.message = message;
             this.code = code;
         }
+
+        public int getCode() {
+            return code;
+        }
     }
 
     public WriteException(Error error) {
         super(error.message);
-        code = error.code;
+        this.error = error;
     }
 
     public WriteException(Error error, Throwable cause) {
         super(error.message, cause);
-        code = error.code;
+        this.error = error;
+    }
+
+    public Error getError() {
+        return error;
     }
 
     public int getCode() {
-        return code;
+        return error.getCode();
     }
 
     public void addError(String key, Object value) {
+
+        if (errors == null) {
+            errors = new HashMap<>();
+        }
+
         errors.put(key, value);
     }
 
     public Map<String, Object> getErrors() {
-        return errors;
+        return errors == null ? Map.of() : errors;
     }
 
     public boolean hasError() {
-        return !errors.isEmpty();
+        return errors != null && !errors.isEmpty();
     }
 }
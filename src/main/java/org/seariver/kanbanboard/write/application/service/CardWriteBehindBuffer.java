@@ -0,0 +1,277 @@
+package org.seariver.kanbanboard.write.application.service;
+
+import io.quarkus.runtime.ShutdownEvent;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import org.seariver.kanbanboard.commom.jdbc.ConnectionTimingDataSource;
+import org.seariver.kanbanboard.commom.notification.BoardChangeNotifier;
+import org.seariver.kanbanboard.commom.outbox.DeferredPublication;
+import org.seariver.kanbanboard.commom.outbox.OutboxRepository;
+import org.seariver.kanbanboard.commom.overlay.CardOverlay;
+import org.seariver.kanbanboard.write.application.domain.Card;
+import org.seariver.kanbanboard.write.application.domain.WriteCardRepository;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Collapses successive card name/description edits into the latest value and persists them in batches.
+ * <p>
+ * An edit is buffered once its command transaction commits and is flushed after {@code flush-delay-ms} and on
+ * shutdown. Until then {@link #findPending(UUID)} exposes it to the read path of this node. The outbox row and the
+ * board change notification of the buffered command are written with the flush, so other nodes only re-read the
+ * card once the new value is in the database.
+ * <p>
+ * A batch that fails is retried card by card, and a card failing {@code max-attempts} flushes in a row is dropped
+ * and logged with its value. Once {@code max-pending} distinct cards are buffered, edits of other cards are not
+ * buffered and their handler writes them with the command.
+ * <p>
+ * Commands removing cards settle only those cards' entries, inside their own transaction: the entries leave the
+ * buffer once that transaction commits and stay buffered if it rolls back.
+ */
+@ApplicationScoped
+public class CardWriteBehindBuffer implements CardOverlay {
+
+    final static Logger logger = Logger.getLogger(CardWriteBehindBuffer.class);
+
+    private static final String EVENT_TYPE = UpdateCardCommand.class.getCanonicalName();
+
+    private final WriteCardRepository repository;
+    private final OutboxRepository outboxRepository;
+    private final BoardChangeNotifier boardChangeNotifier;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final long flushDelayInMilli;
+    private final int maxPending;
+    private final int maxAttempts;
+    private final ConcurrentMap<UUID, Entry> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final ScheduledExecutorService scheduler;
+
+    public CardWriteBehindBuffer(
+            WriteCardRepository repository,
+            OutboxRepository outboxRepository,
+            BoardChangeNotifier boardChangeNotifier,
+            DataSource dataSource,
+            @ConfigProperty(name = "kanbanboard.card.write-behind.enabled", defaultValue = "false") boolean enabled,
+            @ConfigProperty(name = "kanbanboard.card.write-behind.flush-delay-ms", defaultValue = "500") long flushDelayInMilli,
+            @ConfigProperty(name = "kanbanboard.card.write-behind.max-pending", defaultValue = "1000") int maxPending,
+            @ConfigProperty(name = "kanbanboard.card.write-behind.max-attempts", defaultValue = "5") int maxAttempts) {
+        this.repository = repository;
+        this.outboxRepository = outboxRepository;
+        this.boardChangeNotifier = boardChangeNotifier;
+        this.transactionTemplate = new TransactionTemplate(
+                new DataSourceTransactionManager(new ConnectionTimingDataSource(dataSource)));
+        this.enabled = enabled;
+        this.flushDelayInMilli = flushDelayInMilli;
+        this.maxPending = maxPending;
+        this.maxAttempts = maxAttempts;
+        this.scheduler = enabled ? Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "card-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Buffers the edit once the caller's transaction commits and defers the command's publication to the flush.
+     *
+     * @return {@code false} without buffering when the buffer is full, the caller then writes the edit itself
+     */
+    public boolean enqueue(UpdateCardCommand command) {
+
+        var cardExternalId = command.getCardExternalId();
+
+        if (pending.size() >= maxPending && !pending.containsKey(cardExternalId)) {
+            return false;
+        }
+
+        var entry = new Entry(command, new Card()
+                .setCardExternalId(cardExternalId)
+                .setName(command.getName())
+                .setDescription(command.getDescription()));
+
+        afterCommit(() -> {
+            pending.put(cardExternalId, entry);
+            scheduleFlush();
+        });
+        DeferredPublication.defer();
+
+        return true;
+    }
+
+    public Optional<Card> findPending(UUID cardExternalId) {
+        return Optional.ofNullable(pending.get(cardExternalId)).map(entry -> entry.card);
+    }
+
+    @Override
+    public Optional<String> findPendingName(UUID cardExternalId) {
+        return findPending(cardExternalId).map(Card::getName);
+    }
+
+    public int size() {
+        return pending.size();
+    }
+
+    public synchronized void flush() {
+
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Entry> batch = List.copyOf(pending.values());
+
+        try {
+            write(batch);
+        } catch (RuntimeException exception) {
+            logger.warnv(exception, "Write-behind batch of {0} card(s) failed, retrying them one by one", batch.size());
+            batch.forEach(this::flushAlone);
+            return;
+        }
+
+        // a newer edit arriving meanwhile replaces the entry and stays for the next flush
+        batch.forEach(entry -> pending.remove(entry.card.getCardExternalId(), entry));
+    }
+
+    /**
+     * Writes the pending values of the given cards in the caller's transaction and drops them once it commits.
+     */
+    public void flush(Collection<UUID> cardExternalIds) {
+
+        List<Entry> batch = cardExternalIds.stream()
+                .map(pending::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        write(batch);
+        discard(cardExternalIds);
+    }
+
+    /**
+     * Drops the pending values of the given cards once the caller's transaction commits.
+     */
+    public void discard(Collection<UUID> cardExternalIds) {
+        afterCommit(() -> cardExternalIds.forEach(pending::remove));
+    }
+
+    void onShutdown(@Observes ShutdownEvent event) {
+
+        flush();
+
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    private void write(List<Entry> batch) {
+
+        transactionTemplate.executeWithoutResult(status -> {
+
+            repository.updateContent(batch.stream().map(entry -> entry.card).collect(Collectors.toList()));
+
+            for (var entry : batch) {
+                var version = outboxRepository.append(EVENT_TYPE, entry.command);
+                boardChangeNotifier.notifyChange(version, EVENT_TYPE, entry.command);
+            }
+        });
+    }
+
+    private void flushAlone(Entry entry) {
+
+        var cardExternalId = entry.card.getCardExternalId();
+
+        try {
+            write(List.of(entry));
+            pending.remove(cardExternalId, entry);
+
+        } catch (RuntimeException exception) {
+
+            if (++entry.failedAttempts < maxAttempts) {
+                logger.warnv(exception, "Write-behind flush of card {0} failed, attempt {1} of {2}",
+                        cardExternalId, entry.failedAttempts, maxAttempts);
+                return;
+            }
+
+            if (pending.remove(cardExternalId, entry)) {
+                logger.errorv(exception, "Dropped buffered edit of card {0} after {1} failed flushes: name={2}, " +
+                        "description={3}", cardExternalId, entry.failedAttempts, entry.card.getName(),
+                        entry.card.getDescription());
+            }
+        }
+    }
+
+    private void scheduleFlush() {
+        if (flushScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(this::scheduledFlush, flushDelayInMilli, MILLISECONDS);
+        }
+    }
+
+    private void scheduledFlush() {
+
+        flushScheduled.set(false);
+
+        try {
+            flush();
+        } catch (RuntimeException exception) {
+            logger.errorv(exception, "Write-behind flush failed, {0} card(s) still pending", pending.size());
+        }
+
+        // entries that failed stay for the next attempt
+        if (!pending.isEmpty()) {
+            scheduleFlush();
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static class Entry {
+
+        private final UpdateCardCommand command;
+        private final Card card;
+        private int failedAttempts;
+
+        Entry(UpdateCardCommand command, Card card) {
+            this.command = command;
+            this.card = card;
+        }
+    }
+}
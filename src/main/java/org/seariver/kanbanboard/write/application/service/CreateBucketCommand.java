@@ -1,6 +1,8 @@
 package org.seariver.kanbanboard.write.application.service;
 
 import org.seariver.kanbanboard.commom.SelfValidating;
+import org.seariver.kanbanboard.commom.cache.CacheTag;
+import org.seariver.kanbanboard.commom.cache.InvalidatesCache;
 
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Pattern;
@@ -8,6 +10,7 @@ import javax.validation.constraints.Positive;
 import javax.validation.constraints.Size;
 import java.util.UUID;
 
+@InvalidatesCache(CacheTag.BUCKET)
 public class CreateBucketCommand extends SelfValidating<CreateBucketCommand> implements Command {
 
     @NotBlank
@@ -0,0 +1,32 @@
+package org.seariver.kanbanboard.write.application.service;
+
+import org.seariver.kanbanboard.commom.SelfValidating;
+import org.seariver.kanbanboard.commom.cache.CacheTag;
+import org.seariver.kanbanboard.commom.cache.InvalidatesCache;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Pattern;
+import java.util.UUID;
+
+@InvalidatesCache({CacheTag.BUCKET, CacheTag.CARD})
+public class DeleteBucketCommand extends SelfValidating<DeleteBucketCommand> implements Command {
+
+    @NotBlank
+    @Pattern(regexp = UUID_FORMAT, message = INVALID_UUID)
+    private final String bucketExternalId;
+    private final boolean archive;
+
+    public DeleteBucketCommand(String bucketExternalId, boolean archive) {
+        this.bucketExternalId = bucketExternalId;
+        this.archive = archive;
+        validateSelf();
+    }
+
+    public UUID getBucketExternalId() {
+        return UUID.fromString(bucketExternalId);
+    }
+
+    public boolean isArchive() {
+        return archive;
+    }
+}
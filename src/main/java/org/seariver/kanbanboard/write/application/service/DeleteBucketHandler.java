@@ -0,0 +1,74 @@
+package org.seariver.kanbanboard.write.application.service;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.seariver.kanbanboard.write.application.domain.WriteBucketRepository;
+import org.seariver.kanbanboard.write.application.domain.WriteCardRepository;
+import org.seariver.kanbanboard.write.application.exception.BucketNotExistentException;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Named;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.seariver.kanbanboard.write.application.exception.WriteException.Error.BUCKET_NOT_EXIST;
+
+@Named
+@ApplicationScoped
+public class DeleteBucketHandler implements Handler<DeleteBucketCommand> {
+
+    private final WriteBucketRepository bucketRepository;
+    private final WriteCardRepository cardRepository;
+    private final CardWriteBehindBuffer writeBehindBuffer;
+    private final int batchSize;
+
+    public DeleteBucketHandler(WriteBucketRepository bucketRepository,
+                               WriteCardRepository cardRepository,
+                               CardWriteBehindBuffer writeBehindBuffer,
+                               @ConfigProperty(name = "kanbanboard.archive.batch-size", defaultValue = "500") int batchSize) {
+        this.bucketRepository = bucketRepository;
+        this.cardRepository = cardRepository;
+        this.writeBehindBuffer = writeBehindBuffer;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Removes the cards batch by batch, each batch committing on its own so row locks on card stay short.
+     */
+    @Override
+    public void prepare(DeleteBucketCommand command) {
+        bucketRepository.findByExternalId(command.getBucketExternalId())
+                .ifPresent(bucket -> removeCards(bucket.getId(), command.isArchive()));
+    }
+
+    public void handle(DeleteBucketCommand command) {
+
+        var optionalBucket = bucketRepository.findByExternalId(command.getBucketExternalId());
+
+        if (optionalBucket.isEmpty()) {
+            throw new BucketNotExistentException(BUCKET_NOT_EXIST);
+        }
+
+        var bucketId = optionalBucket.get().getId();
+
+        // only cards added since prepare are left, they go with the command
+        removeCards(bucketId, command.isArchive());
+
+        bucketRepository.delete(bucketId);
+    }
+
+    private void removeCards(Long bucketId, boolean archive) {
+
+        // buffered edits are written into the archived batch, or dropped with the deleted one, once it commits
+        Consumer<List<UUID>> settle = !writeBehindBuffer.isEnabled()
+                ? cardIds -> {}
+                : archive ? writeBehindBuffer::flush : writeBehindBuffer::discard;
+
+        int removed;
+        do {
+            removed = archive
+                    ? cardRepository.archiveByBucketId(bucketId, batchSize, settle)
+                    : cardRepository.deleteByBucketId(bucketId, batchSize, settle);
+        } while (removed > 0);
+    }
+}
@@ -0,0 +1,32 @@
+package org.seariver.kanbanboard.write.application.service;
+
+import org.seariver.kanbanboard.commom.SelfValidating;
+import org.seariver.kanbanboard.commom.cache.CacheTag;
+import org.seariver.kanbanboard.commom.cache.InvalidatesCache;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Pattern;
+import java.util.UUID;
+
+@InvalidatesCache(CacheTag.CARD)
+public class DeleteCardCommand extends SelfValidating<DeleteCardCommand> implements Command {
+
+    @NotBlank
+    @Pattern(regexp = UUID_FORMAT, message = INVALID_UUID)
+    private final String cardExternalId;
+    private final boolean archive;
+
+    public DeleteCardCommand(String cardExternalId, boolean archive) {
+        this.cardExternalId = cardExternalId;
+        this.archive = archive;
+        validateSelf();
+    }
+
+    public UUID getCardExternalId() {
+        return UUID.fromString(cardExternalId);
+    }
+
+    public boolean isArchive() {
+        return archive;
+    }
+}
@@ -0,0 +1,43 @@
+package org.seariver.kanbanboard.write.application.service;
+
+import org.seariver.kanbanboard.write.application.domain.WriteCardRepository;
+import org.seariver.kanbanboard.write.application.exception.CardNotExistentException;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Named;
+import java.util.List;
+
+import static org.seariver.kanbanboard.write.application.exception.WriteException.Error.CARD_NOT_EXIST;
+
+@Named
+@ApplicationScoped
+public class DeleteCardHandler implements Handler<DeleteCardCommand> {
+
+    private final WriteCardRepository repository;
+    private final CardWriteBehindBuffer writeBehindBuffer;
+
+    public DeleteCardHandler(WriteCardRepository repository, CardWriteBehindBuffer writeBehindBuffer) {
+        this.repository = repository;
+        this.writeBehindBuffer = writeBehindBuffer;
+    }
+
+    public void handle(DeleteCardCommand command) {
+
+        // the archived copy must carry the latest buffered name and description
+        if (command.isArchive() && writeBehindBuffer.isEnabled()) {
+            writeBehindBuffer.flush(List.of(command.getCardExternalId()));
+        }
+
+        var removed = command.isArchive()
+                ? repository.archive(command.getCardExternalId())
+                : repository.delete(command.getCardExternalId());
+
+        if (!removed) {
+            throw new CardNotExistentException(CARD_NOT_EXIST);
+        }
+
+        if (!command.isArchive() && writeBehindBuffer.isEnabled()) {
+            writeBehindBuffer.discard(List.of(command.getCardExternalId()));
+        }
+    }
+}
@@ -2,5 +2,12 @@ package org.seariver.kanbanboard.write.application.service;
 
 public interface Handler<T extends Command> {
 
+    /**
+     * Runs before the command transaction is opened, for work that commits in steps of its own, such as removing a
+     * large set of rows in bounded batches. Whatever it committed stays committed if the command later fails.
+     */
+    default void prepare(T command) {
+    }
+
     void handle(T command);
 }
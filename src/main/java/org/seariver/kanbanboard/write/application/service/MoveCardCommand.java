@@ -1,7 +1,11 @@
 package org.seariver.kanbanboard.write.application.service;
 
+import org.seariver.kanbanboard.commom.cache.CacheTag;
+import org.seariver.kanbanboard.commom.cache.InvalidatesCache;
+
 import java.util.UUID;
 
+@InvalidatesCache(CacheTag.CARD)
 public class MoveCardCommand implements Command {
 
     private final String bucketExternalId;
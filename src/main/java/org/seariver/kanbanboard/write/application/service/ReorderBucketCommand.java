@@ -0,0 +1,27 @@
+package org.seariver.kanbanboard.write.application.service;
+
+import org.seariver.kanbanboard.commom.SelfValidating;
+import org.seariver.kanbanboard.commom.cache.CacheTag;
+import org.seariver.kanbanboard.commom.cache.InvalidatesCache;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@InvalidatesCache(CacheTag.BUCKET)
+public class ReorderBucketCommand extends SelfValidating<ReorderBucketCommand> implements Command {
+
+    @NotNull
+    private final List<@NotNull @Pattern(regexp = UUID_FORMAT, message = INVALID_UUID) String> bucketExternalIds;
+
+    public ReorderBucketCommand(List<String> bucketExternalIds) {
+        this.bucketExternalIds = bucketExternalIds;
+        validateSelf();
+    }
+
+    public List<UUID> getBucketExternalIds() {
+        return bucketExternalIds.stream().map(UUID::fromString).collect(Collectors.toList());
+    }
+}
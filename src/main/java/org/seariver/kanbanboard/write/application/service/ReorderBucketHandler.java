@@ -0,0 +1,58 @@
+package org.seariver.kanbanboard.write.application.service;
+
+import org.seariver.kanbanboard.write.application.domain.Bucket;
+import org.seariver.kanbanboard.write.application.domain.WriteBucketRepository;
+import org.seariver.kanbanboard.write.application.exception.InvalidOrderException;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Named;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.seariver.kanbanboard.write.application.exception.WriteException.Error.INVALID_ORDER;
+
+@Named
+@ApplicationScoped
+public class ReorderBucketHandler implements Handler<ReorderBucketCommand> {
+
+    private final WriteBucketRepository repository;
+
+    public ReorderBucketHandler(WriteBucketRepository repository) {
+        this.repository = repository;
+    }
+
+    public void handle(ReorderBucketCommand command) {
+
+        Map<UUID, Bucket> currentBuckets = repository.findAll()
+                .stream()
+                .collect(Collectors.toMap(Bucket::getBucketExternalId, Function.identity()));
+
+        var requestedIds = command.getBucketExternalIds();
+
+        if (requestedIds.size() != currentBuckets.size() || !currentBuckets.keySet().equals(new HashSet<>(requestedIds))) {
+            var exception = new InvalidOrderException(INVALID_ORDER);
+            exception.addError("ids", "must list every bucket exactly once");
+            throw exception;
+        }
+
+        var orderedBuckets = requestedIds.stream().map(currentBuckets::get).collect(Collectors.toList());
+        var plannedPositions = ReorderPlanner.plan(orderedBuckets.stream().mapToDouble(Bucket::getPosition).toArray());
+
+        List<Bucket> changedBuckets = new ArrayList<>();
+        for (var index = 0; index < orderedBuckets.size(); index++) {
+            var bucket = orderedBuckets.get(index);
+            if (bucket.getPosition() != plannedPositions[index]) {
+                changedBuckets.add(bucket.setPosition(plannedPositions[index]));
+            }
+        }
+
+        if (!changedBuckets.isEmpty()) {
+            repository.updatePositions(changedBuckets);
+        }
+    }
+}
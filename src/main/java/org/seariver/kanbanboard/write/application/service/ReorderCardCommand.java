@@ -0,0 +1,36 @@
+package org.seariver.kanbanboard.write.application.service;
+
+import org.seariver.kanbanboard.commom.SelfValidating;
+import org.seariver.kanbanboard.commom.cache.CacheTag;
+import org.seariver.kanbanboard.commom.cache.InvalidatesCache;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@InvalidatesCache(CacheTag.CARD)
+public class ReorderCardCommand extends SelfValidating<ReorderCardCommand> implements Command {
+
+    @NotBlank
+    @Pattern(regexp = UUID_FORMAT, message = INVALID_UUID)
+    private final String bucketExternalId;
+    @NotNull
+    private final List<@NotNull @Pattern(regexp = UUID_FORMAT, message = INVALID_UUID) String> cardExternalIds;
+
+    public ReorderCardCommand(String bucketExternalId, List<String> cardExternalIds) {
+        this.bucketExternalId = bucketExternalId;
+        this.cardExternalIds = cardExternalIds;
+        validateSelf();
+    }
+
+    public UUID getBucketExternalId() {
+        return UUID.fromString(bucketExternalId);
+    }
+
+    public List<UUID> getCardExternalIds() {
+        return cardExternalIds.stream().map(UUID::fromString).collect(Collectors.toList());
+    }
+}
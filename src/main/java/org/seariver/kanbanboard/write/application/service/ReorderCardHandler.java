@@ -0,0 +1,86 @@
+package org.seariver.kanbanboard.write.application.service;
+
+import org.seariver.kanbanboard.write.application.domain.Card;
+import org.seariver.kanbanboard.write.application.domain.WriteBucketRepository;
+import org.seariver.kanbanboard.write.application.domain.WriteCardRepository;
+import org.seariver.kanbanboard.write.application.exception.BucketNotExistentException;
+import org.seariver.kanbanboard.write.application.exception.InvalidOrderException;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Named;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.seariver.kanbanboard.write.application.exception.WriteException.Error.BUCKET_NOT_EXIST;
+import static org.seariver.kanbanboard.write.application.exception.WriteException.Error.INVALID_ORDER;
+
+@Named
+@ApplicationScoped
+public class ReorderCardHandler implements Handler<ReorderCardCommand> {
+
+    private final WriteBucketRepository bucketRepository;
+    private final WriteCardRepository cardRepository;
+
+    public ReorderCardHandler(WriteBucketRepository bucketRepository, WriteCardRepository cardRepository) {
+        this.bucketRepository = bucketRepository;
+        this.cardRepository = cardRepository;
+    }
+
+    public void handle(ReorderCardCommand command) {
+
+        var optionalBucket = bucketRepository.findByExternalId(command.getBucketExternalId());
+
+        if (optionalBucket.isEmpty()) {
+            throw new BucketNotExistentException(BUCKET_NOT_EXIST);
+        }
+
+        var bucketId = optionalBucket.get().getId();
+
+        Map<UUID, Card> currentCards = cardRepository.findByBucketId(bucketId)
+                .stream()
+                .collect(Collectors.toMap(Card::getCardExternalId, Function.identity()));
+
+        var requestedIds = command.getCardExternalIds();
+
+        if (requestedIds.size() != currentCards.size() || !currentCards.keySet().equals(new HashSet<>(requestedIds))) {
+            var exception = new InvalidOrderException(INVALID_ORDER);
+            exception.addError("ids", "must list every card of the bucket exactly once");
+            throw exception;
+        }
+
+        var orderedCards = requestedIds.stream().map(currentCards::get).collect(Collectors.toList());
+        var currentPositions = orderedCards.stream().mapToDouble(Card::getPosition).toArray();
+        var plannedPositions = ReorderPlanner.plan(currentPositions);
+
+        Map<UUID, Integer> indexes = new HashMap<>();
+        List<Card> changedCards = new ArrayList<>();
+        for (var index = 0; index < orderedCards.size(); index++) {
+            var card = orderedCards.get(index);
+            if (card.getPosition() != plannedPositions[index]) {
+                indexes.put(card.getCardExternalId(), index);
+                changedCards.add(card.setPosition(plannedPositions[index]));
+            }
+        }
+
+        // positions are unique across buckets, a planned one held by another bucket's card is planned again
+        var occupied = ReorderPlanner.occupied(currentPositions);
+
+        while (!changedCards.isEmpty()) {
+
+            changedCards = cardRepository.updatePositions(changedCards);
+
+            for (var card : changedCards) {
+                var index = indexes.get(card.getCardExternalId());
+                occupied.add(plannedPositions[index]);
+                plannedPositions[index] = ReorderPlanner.replan(plannedPositions, index, occupied);
+                card.setPosition(plannedPositions[index]);
+            }
+        }
+    }
+}
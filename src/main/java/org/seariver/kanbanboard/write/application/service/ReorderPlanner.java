@@ -0,0 +1,129 @@
+package org.seariver.kanbanboard.write.application.service;
+
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Computes the positions for a requested order touching as few rows as possible.
+ * <p>
+ * Items forming the longest strictly increasing run of current positions keep them; every other item gets a
+ * position evenly spaced between its kept neighbours (or after the last one). A planned position never reuses a current
+ * one, so the moved rows can be written once each, in any order, without colliding on the unique position.
+ */
+final class ReorderPlanner {
+
+    static final double TAIL_STEP = 1.0;
+
+    private ReorderPlanner() {
+    }
+
+    static double[] plan(double[] currentPositions) {
+
+        var size = currentPositions.length;
+        var planned = currentPositions.clone();
+        var kept = longestIncreasingRun(currentPositions);
+        var occupied = occupied(currentPositions);
+
+        var index = 0;
+        while (index < size) {
+
+            if (kept[index]) {
+                index++;
+                continue;
+            }
+
+            var start = index;
+            while (index < size && !kept[index]) {
+                index++;
+            }
+
+            var count = index - start;
+            var lower = start > 0 ? currentPositions[start - 1] : 0;
+            var step = index < size ? (currentPositions[index] - lower) / (count + 1) : TAIL_STEP;
+            var below = lower;
+
+            for (var offset = 0; offset < count; offset++) {
+                below = free(below, lower + step * (offset + 1), occupied);
+                planned[start + offset] = below;
+            }
+        }
+
+        return planned;
+    }
+
+    /**
+     * Moves the item at {@code index} to a position between its planned neighbours that is not {@code occupied}, for
+     * a planned position found held by a row outside the reorder.
+     */
+    static double replan(double[] planned, int index, NavigableSet<Double> occupied) {
+
+        var lower = index > 0 ? planned[index - 1] : 0;
+        var upper = index + 1 < planned.length ? planned[index + 1] : planned[index] + TAIL_STEP;
+
+        return free(lower, (lower + upper) / 2, occupied);
+    }
+
+    static NavigableSet<Double> occupied(double[] positions) {
+
+        var occupied = new TreeSet<Double>();
+        for (var position : positions) {
+            occupied.add(position);
+        }
+
+        return occupied;
+    }
+
+    private static double free(double below, double candidate, NavigableSet<Double> occupied) {
+
+        // the open interval between the nearest occupied value under the candidate and the candidate is free
+        while (occupied.contains(candidate)) {
+            var floor = occupied.lower(candidate);
+            candidate = (Math.max(below, floor == null ? below : floor) + candidate) / 2;
+        }
+
+        if (candidate <= below) {
+            throw new IllegalStateException("No free position above " + below);
+        }
+
+        return candidate;
+    }
+
+    private static boolean[] longestIncreasingRun(double[] positions) {
+
+        var size = positions.length;
+        var kept = new boolean[size];
+        if (size == 0) {
+            return kept;
+        }
+
+        var tails = new int[size];
+        var previous = new int[size];
+        var length = 0;
+
+        for (var index = 0; index < size; index++) {
+
+            var low = 0;
+            var high = length;
+            while (low < high) {
+                var middle = (low + high) >>> 1;
+                if (positions[tails[middle]] < positions[index]) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+
+            previous[index] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = index;
+            if (low == length) {
+                length++;
+            }
+        }
+
+        for (var index = tails[length - 1]; index >= 0; index = previous[index]) {
+            kept[index] = true;
+        }
+
+        return kept;
+    }
+}
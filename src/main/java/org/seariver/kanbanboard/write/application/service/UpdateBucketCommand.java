@@ -1,12 +1,15 @@
 package org.seariver.kanbanboard.write.application.service;
 
 import org.seariver.kanbanboard.commom.SelfValidating;
+import org.seariver.kanbanboard.commom.cache.CacheTag;
+import org.seariver.kanbanboard.commom.cache.InvalidatesCache;
 
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Size;
 import java.util.UUID;
 
+@InvalidatesCache(CacheTag.BUCKET)
 public class UpdateBucketCommand extends SelfValidating<UpdateBucketCommand> implements Command {
 
     @NotBlank
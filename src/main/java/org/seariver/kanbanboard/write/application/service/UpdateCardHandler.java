@@ -1,24 +1,43 @@
 package org.seariver.kanbanboard.write.application.service;
 
 import org.seariver.kanbanboard.write.application.domain.WriteCardRepository;
+import org.seariver.kanbanboard.write.application.exception.CardNotExistentException;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Named;
 
+import static org.seariver.kanbanboard.write.application.exception.WriteException.Error.CARD_NOT_EXIST;
+
 @Named
 @ApplicationScoped
 public class UpdateCardHandler implements Handler<UpdateCardCommand> {
 
     private final WriteCardRepository repository;
+    private final CardWriteBehindBuffer writeBehind;
 
-    public UpdateCardHandler(WriteCardRepository repository) {
+    public UpdateCardHandler(WriteCardRepository repository, CardWriteBehindBuffer writeBehind) {
         this.repository = repository;
+        this.writeBehind = writeBehind;
     }
 
     public void handle(UpdateCardCommand command) {
 
-        var optionalCard = repository.findByExternalId(command.getCardExternalId());
-        var card = optionalCard.get();
+        if (writeBehind.isEnabled()) {
+
+            // a buffered card was checked when its first edit arrived, deletions drop it from the buffer
+            if (writeBehind.findPending(command.getCardExternalId()).isEmpty()
+                    && repository.findByExternalId(command.getCardExternalId()).isEmpty()) {
+                throw new CardNotExistentException(CARD_NOT_EXIST);
+            }
+
+            // a full buffer leaves the edit to be written with the command below
+            if (writeBehind.enqueue(command)) {
+                return;
+            }
+        }
+
+        var card = repository.findByExternalId(command.getCardExternalId())
+                .orElseThrow(() -> new CardNotExistentException(CARD_NOT_EXIST));
 
         card.setName(command.getName());
         card.setDescription(command.getDescription());
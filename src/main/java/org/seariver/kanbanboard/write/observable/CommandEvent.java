@@ -1,7 +1,5 @@
 package org.seariver.kanbanboard.write.observable;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.seariver.kanbanboard.commom.observable.InternalEvent;
 import org.seariver.kanbanboard.write.application.exception.WriteException;
 import org.seariver.kanbanboard.write.application.service.Command;
@@ -28,27 +26,25 @@ public class CommandEvent extends InternalEvent {
     }
 
     @Override
-    public String toJson() {
+    public Map<String, Object> toMessage() {
 
-        var mapper = new ObjectMapper();
         Map<String, Object> message = new HashMap<>(Map.of("event", getOrigin()));
         message.put("content", getCommand());
         message.put("elapsedTimeInMilli", getElapsedTimeInMilli());
 
-        try {
-            if (hasError()) {
-                message.put("message", getException().getMessage());
-
-                if (getException() instanceof WriteException) {
-                    var domainException = (WriteException) getException();
-                    message.put("errors", domainException.getErrors().toString());
-                }
-            }
+        if (getAllocatedBytes() >= 0) {
+            message.put("allocatedBytes", getAllocatedBytes());
+        }
 
-            return mapper.writeValueAsString(message);
+        if (hasError()) {
+            message.put("message", getException().getMessage());
 
-        } catch (JsonProcessingException jsonException) {
-            return String.format("%s - %s", command, jsonException);
+            if (getException() instanceof WriteException) {
+                var domainException = (WriteException) getException();
+                message.put("errors", domainException.getErrors().toString());
+            }
         }
+
+        return message;
     }
 }
@@ -0,0 +1,15 @@
+CREATE INDEX IF NOT EXISTS card_bucket_id_idx ON card (bucket_id);
+
+CREATE TABLE IF NOT EXISTS archived_card (
+    id BIGINT PRIMARY KEY,
+    bucket_external_id UUID,
+    external_id UUID UNIQUE NOT NULL,
+    position DECIMAL NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    description VARCHAR,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX IF NOT EXISTS archived_card_bucket_idx ON archived_card (bucket_external_id, archived_at, id);
@@ -14,8 +14,17 @@ public class DataSourceMock extends BasicDataSource {
         String url = "jdbc:h2:mem:DATABASE_TEST;" +
                 "MODE=PostgreSQL;" +
                 "INIT=RUNSCRIPT FROM 'src/main/resources/db/migration/V001__Initial_setup.sql'\\;" +
+                "RUNSCRIPT FROM 'src/main/resources/db/migration/V002__Outbox.sql'\\;" +
+                "RUNSCRIPT FROM 'src/main/resources/db/migration/V003__Archived_card.sql'\\;" +
+                "RUNSCRIPT FROM 'src/main/resources/db/migration/V004__Idempotency_key.sql'\\;" +
                 "RUNSCRIPT FROM 'classpath:fixture/dataset.sql'\\;";
 
         this.setUrl(url);
     }
+
+    public DataSourceMock(String url, String username, String password) {
+        this.setUrl(url);
+        this.setUsername(username);
+        this.setPassword(password);
+    }
 }
@@ -1,15 +1,32 @@
 package helper;
 
+import io.quarkus.arc.Arc;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 
-import javax.inject.Inject;
-
 @Tag("integration")
 public abstract class IntegrationHelper extends TestHelper {
 
-    @Inject
     protected DataSourceMock dataSource;
 
+    protected ResourceBudget budget;
+
+    // looked up rather than injected: @NativeImageTest refuses @Inject anywhere in the hierarchy, and against the
+    // native executable there is no container, only the database NativeDatabase prepared
+    @BeforeEach
+    void lookupBeans() {
+
+        var container = Arc.container();
+
+        if (container == null) {
+            dataSource = NativeDatabase.dataSource();
+            return;
+        }
+
+        dataSource = container.instance(DataSourceMock.class).get();
+        budget = container.instance(ResourceBudget.class).get();
+    }
+
     protected static String[] args(String... items) {
         return items;
     }
@@ -0,0 +1,90 @@
+package helper;
+
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.common.QuarkusTestResourceLifecycleManager;
+import org.flywaydb.core.Flyway;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Prepares the database a native executable and its {@code Native*IT} test share: the migrations and the
+ * {@code dataset.sql} fixtures in a throwaway schema of the PostgreSQL at {@code test.postgres.url}. The executable
+ * is built for PostgreSQL and cannot reach the tests' in-memory H2.
+ * <p>
+ * Only active when failsafe hands the tests a {@code native.image.path}; JVM runs keep {@link DataSourceMock}.
+ */
+@QuarkusTestResource(NativeDatabase.class)
+public class NativeDatabase implements QuarkusTestResourceLifecycleManager {
+
+    private static final String DEFAULT_URL = "jdbc:postgresql://localhost:5432/kanbanboard";
+
+    private static volatile DataSourceMock current;
+
+    private DataSourceMock dataSource;
+    private String schema;
+
+    @Override
+    public Map<String, String> start() {
+
+        if (System.getProperty("native.image.path") == null) {
+            return Collections.emptyMap();
+        }
+
+        var baseUrl = System.getProperty("test.postgres.url", DEFAULT_URL);
+        var username = System.getProperty("test.postgres.username", "kanbanboard");
+        var password = System.getProperty("test.postgres.password", "kanbanboard");
+
+        schema = "native_" + UUID.randomUUID().toString().replace("-", "");
+        var url = baseUrl + (baseUrl.contains("?") ? "&" : "?") + "currentSchema=" + schema;
+        dataSource = new DataSourceMock(url, username, password);
+
+        Flyway.configure()
+                .dataSource(dataSource)
+                .schemas(schema)
+                .locations("filesystem:src/main/resources/db/migration")
+                .load()
+                .migrate();
+
+        new ResourceDatabasePopulator(new ClassPathResource("fixture/dataset-postgresql.sql")).execute(dataSource);
+        current = dataSource;
+
+        return Map.of(
+                "quarkus.datasource.jdbc.url", url,
+                "quarkus.datasource.username", username,
+                "quarkus.datasource.password", password,
+                "quarkus.flyway.migrate-at-start", "false");
+    }
+
+    @Override
+    public void stop() {
+
+        if (dataSource == null) {
+            return;
+        }
+
+        try {
+            new JdbcTemplate(dataSource).execute("DROP SCHEMA " + schema + " CASCADE");
+            dataSource.close();
+        } catch (SQLException exception) {
+            throw new IllegalStateException("Could not close the native test datasource", exception);
+        } finally {
+            if (current == dataSource) {
+                current = null;
+            }
+            dataSource = null;
+        }
+    }
+
+    /**
+     * Datasource of the database the running native executable uses, {@code null} outside native tests.
+     */
+    static DataSourceMock dataSource() {
+        return current;
+    }
+}
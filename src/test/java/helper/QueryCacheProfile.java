@@ -0,0 +1,13 @@
+package helper;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+
+import java.util.Map;
+
+public class QueryCacheProfile implements QuarkusTestProfile {
+
+    @Override
+    public Map<String, String> getConfigOverrides() {
+        return Map.of("kanbanboard.query-cache.enabled", "true");
+    }
+}
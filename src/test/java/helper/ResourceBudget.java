@@ -0,0 +1,122 @@
+package helper;
+
+import org.seariver.kanbanboard.commom.observable.InternalEvent;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the commands and queries dispatched while a REST call or {@code ServiceBus.execute} runs, and asserts upper
+ * bounds on the SQL statements they issued and the bytes they allocated.
+ * <p>
+ * Both come from the {@link InternalEvent} itself, so allocation covers the dispatch on the request thread, not the
+ * JSON mapping around it.
+ */
+@ApplicationScoped
+public class ResourceBudget {
+
+    private List<InternalEvent> recording;
+
+    /**
+     * Runs the action and answers what the dispatches of {@code source} cost in total.
+     */
+    public Usage measure(Class<?> source, Runnable action) {
+
+        var events = new ArrayList<InternalEvent>();
+
+        synchronized (this) {
+            recording = events;
+        }
+
+        try {
+            action.run();
+        } finally {
+            synchronized (this) {
+                recording = null;
+            }
+        }
+
+        var usage = new Usage(source);
+
+        synchronized (events) {
+            events.stream()
+                    .filter(event -> source.isInstance(event.getSource()))
+                    .forEach(usage::add);
+        }
+
+        if (usage.dispatches == 0) {
+            throw new AssertionError("No " + source.getSimpleName() + " was dispatched");
+        }
+
+        return usage;
+    }
+
+    void onEventOccur(@Observes InternalEvent event) {
+
+        List<InternalEvent> events;
+
+        synchronized (this) {
+            events = recording;
+        }
+
+        if (events != null) {
+            synchronized (events) {
+                events.add(event);
+            }
+        }
+    }
+
+    public static class Usage {
+
+        private final Class<?> source;
+        private int dispatches;
+        private int statements;
+        private long allocatedBytes;
+
+        Usage(Class<?> source) {
+            this.source = source;
+        }
+
+        void add(InternalEvent event) {
+            dispatches++;
+            statements += event.getSqlStatistics().getStatements();
+            allocatedBytes = allocatedBytes < 0 || event.getAllocatedBytes() < 0
+                    ? -1
+                    : allocatedBytes + event.getAllocatedBytes();
+        }
+
+        public Usage statementsAtMost(int budget) {
+
+            if (statements > budget) {
+                throw new AssertionError(String.format("%s issued %d SQL statements, budget is %d",
+                        source.getSimpleName(), statements, budget));
+            }
+
+            return this;
+        }
+
+        public Usage allocatedBytesAtMost(long budget) {
+
+            if (allocatedBytes < 0) {
+                throw new AssertionError("Allocation accounting is unavailable on this JVM");
+            }
+
+            if (allocatedBytes > budget) {
+                throw new AssertionError(String.format("%s allocated %d bytes, budget is %d",
+                        source.getSimpleName(), allocatedBytes, budget));
+            }
+
+            return this;
+        }
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package helper;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+
+import java.util.Map;
+
+public class TracingProfile implements QuarkusTestProfile {
+
+    @Override
+    public Map<String, String> getConfigOverrides() {
+        return Map.of("kanbanboard.tracing.enabled", "true");
+    }
+}
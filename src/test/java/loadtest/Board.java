@@ -0,0 +1,81 @@
+package loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Buckets and cards created through the API before a run, the targets of moves and updates.
+ * <p>
+ * Positions are unique per table, so every position handed out comes from one counter starting at the current
+ * time in microseconds, which keeps runs against the same database from colliding.
+ */
+public class Board {
+
+    private final String baseUrl;
+    private final List<String> buckets = new ArrayList<>();
+    private final List<String> cards = new ArrayList<>();
+    private final AtomicLong positions = new AtomicLong(System.currentTimeMillis() * 1000);
+
+    public Board(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public void seed(HttpClient client, int bucketCount, int cardCount) throws IOException, InterruptedException {
+
+        for (var index = 0; index < bucketCount; index++) {
+            var id = UUID.randomUUID().toString();
+            post(client, "/v1/buckets", String.format(Locale.ROOT,
+                    "{\"bucketId\": \"%s\", \"position\": %s, \"name\": \"LOAD-TEST-%d\"}", id, nextPosition(), index));
+            buckets.add(id);
+        }
+
+        for (var index = 0; index < cardCount; index++) {
+            var id = UUID.randomUUID().toString();
+            post(client, "/v1/cards", String.format(Locale.ROOT,
+                    "{\"bucketId\": \"%s\", \"cardId\": \"%s\", \"position\": %s, \"name\": \"LOAD-TEST-%d\"}",
+                    buckets.get(index % bucketCount), id, nextPosition(), index));
+            cards.add(id);
+        }
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public String randomBucket() {
+        return buckets.get(ThreadLocalRandom.current().nextInt(buckets.size()));
+    }
+
+    public String randomCard() {
+        return cards.get(ThreadLocalRandom.current().nextInt(cards.size()));
+    }
+
+    public long nextPosition() {
+        return positions.incrementAndGet();
+    }
+
+    private void post(HttpClient client, String path, String body) throws IOException, InterruptedException {
+
+        var request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(BodyPublishers.ofString(body))
+                .build();
+
+        var response = client.send(request, BodyHandlers.ofString());
+
+        if (response.statusCode() != 201) {
+            throw new IllegalStateException(String.format("Seeding %s answered %d: %s",
+                    path, response.statusCode(), response.body()));
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.seariver.kanbanboard.commom.metrics.LatencyHistogram;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop HTTP load test against a running application.
+ * <p>
+ * Requests are started on a fixed arrival schedule of {@code rate} per second, whatever the latency of the previous
+ * ones, with the operation of each drawn from {@code mix}. Latencies are measured from the scheduled start, see
+ * {@link OperationStats}. When {@code max-in-flight} requests are outstanding new arrivals are counted as
+ * {@code client-saturated} instead of being sent, which means the target cannot sustain the rate.
+ * <p>
+ * Configured with {@code loadtest.*} system properties, run with {@code mvn -Ploadtest test-compile exec:exec}.
+ */
+public class LoadTestRunner {
+
+    static final String SATURATED = "client-saturated";
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final HttpClient client;
+    private final Board board;
+    private final WorkloadMix mix;
+    private final double rate;
+    private final Duration timeout;
+    private final int maxInFlight;
+    private final Semaphore inFlight;
+
+    public LoadTestRunner(HttpClient client, Board board, WorkloadMix mix, double rate, Duration timeout, int maxInFlight) {
+        this.client = client;
+        this.board = board;
+        this.mix = mix;
+        this.rate = rate;
+        this.timeout = timeout;
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        var baseUrl = System.getProperty("loadtest.base-url", "http://localhost:8080");
+        var rate = Double.parseDouble(System.getProperty("loadtest.rate", "200"));
+        var durationInSeconds = Long.getLong("loadtest.duration-seconds", 60);
+        var warmupInSeconds = Long.getLong("loadtest.warmup-seconds", 10);
+        var mix = WorkloadMix.parse(System.getProperty("loadtest.mix", "list=80,move=15,create=5"));
+        var buckets = Integer.getInteger("loadtest.buckets", 5);
+        var cards = Integer.getInteger("loadtest.cards", 200);
+        var maxInFlight = Integer.getInteger("loadtest.max-in-flight", 1000);
+        var timeout = Duration.ofMillis(Long.getLong("loadtest.timeout-ms", 10_000));
+        var report = new File(System.getProperty("loadtest.report", "target/loadtest-report.json"));
+
+        var client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        var board = new Board(baseUrl);
+        board.seed(client, buckets, cards);
+
+        var runner = new LoadTestRunner(client, board, mix, rate, timeout, maxInFlight);
+
+        System.out.printf("Warming up %ds at %.0f req/s, mix %s%n", warmupInSeconds, rate, mix.shares());
+        runner.run(TimeUnit.SECONDS.toNanos(warmupInSeconds));
+
+        System.out.printf("Measuring %ds%n", durationInSeconds);
+        var result = runner.run(TimeUnit.SECONDS.toNanos(durationInSeconds));
+
+        Map<String, Object> configuration = new LinkedHashMap<>();
+        configuration.put("baseUrl", baseUrl);
+        configuration.put("rate", rate);
+        configuration.put("durationSeconds", durationInSeconds);
+        configuration.put("mix", mix.shares());
+        configuration.put("maxInFlight", maxInFlight);
+
+        System.out.print(format(result, durationInSeconds));
+        write(report, configuration, result, durationInSeconds);
+        System.out.println("Report written to " + report);
+    }
+
+    /**
+     * Runs the schedule for the given time, then waits for outstanding requests before answering their statistics.
+     */
+    public Map<Operation, OperationStats> run(long durationInNano) throws InterruptedException {
+
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        for (var operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+
+        var intervalInNano = 1_000_000_000d / rate;
+        var start = System.nanoTime();
+
+        for (long arrival = 0; ; arrival++) {
+
+            var offset = (long) (arrival * intervalInNano);
+
+            if (offset >= durationInNano) {
+                break;
+            }
+
+            var scheduled = start + offset;
+            waitUntil(scheduled);
+
+            var operation = mix.next(ThreadLocalRandom.current());
+            var operationStats = stats.get(operation);
+
+            if (!inFlight.tryAcquire()) {
+                operationStats.reject(SATURATED);
+                continue;
+            }
+
+            var request = operation.request(board, timeout);
+            var sent = System.nanoTime();
+
+            client.sendAsync(request, BodyHandlers.ofString()).whenComplete((response, failure) -> {
+                var completed = System.nanoTime();
+                var outcome = failure == null
+                        ? OperationStats.outcomeOf(response.statusCode(), response.body())
+                        : OperationStats.outcomeOf(failure);
+                operationStats.record(completed - scheduled, completed - sent, outcome);
+                inFlight.release();
+            });
+        }
+
+        if (inFlight.tryAcquire(maxInFlight, timeout.toMillis() + 1000, TimeUnit.MILLISECONDS)) {
+            inFlight.release(maxInFlight);
+        }
+
+        return stats;
+    }
+
+    static String format(Map<Operation, OperationStats> result, long durationInSeconds) {
+
+        var output = new StringBuilder(String.format(Locale.ROOT,
+                "%n%-8s %9s %9s %9s %9s %9s %9s %9s %11s %9s%n",
+                "op", "count", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "svc p99 ms", "errors"));
+
+        result.forEach((operation, stats) -> {
+
+            var latency = stats.getLatency();
+
+            if (latency.getCount() == 0 && stats.getOutcomes().isEmpty()) {
+                return;
+            }
+
+            output.append(String.format(Locale.ROOT, "%-8s %9d %9.1f", operation.label(), latency.getCount(),
+                    latency.getCount() / (double) durationInSeconds));
+
+            for (var percentile : PERCENTILES) {
+                output.append(String.format(Locale.ROOT, " %9.2f", millis(latency.valueAtPercentile(percentile))));
+            }
+
+            output.append(String.format(Locale.ROOT, " %9.2f %11.2f %9d%n", millis(latency.getMaxInNano()),
+                    millis(stats.getServiceTime().valueAtPercentile(99)), stats.getErrors()));
+        });
+
+        output.append(String.format("%nOutcomes%n"));
+        result.forEach((operation, stats) -> stats.getOutcomes().forEach((outcome, count) ->
+                output.append(String.format(Locale.ROOT, "%-8s %-24s %9d%n", operation.label(), outcome, count))));
+
+        return output.toString();
+    }
+
+    private static void write(File report,
+                              Map<String, Object> configuration,
+                              Map<Operation, OperationStats> result,
+                              long durationInSeconds) throws IOException {
+
+        Map<String, Object> operations = new LinkedHashMap<>();
+
+        result.forEach((operation, stats) -> {
+
+            if (stats.getOutcomes().isEmpty()) {
+                return;
+            }
+
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("count", stats.getLatency().getCount());
+            entry.put("throughputPerSecond", stats.getLatency().getCount() / (double) durationInSeconds);
+            entry.put("latencyMillis", percentiles(stats.getLatency()));
+            entry.put("serviceTimeMillis", percentiles(stats.getServiceTime()));
+            entry.put("outcomes", stats.getOutcomes());
+            operations.put(operation.label(), entry);
+        });
+
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("configuration", configuration);
+        document.put("operations", operations);
+
+        report.getAbsoluteFile().getParentFile().mkdirs();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(report, document);
+    }
+
+    private static Map<String, Double> percentiles(LatencyHistogram histogram) {
+
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+
+        for (var percentile : PERCENTILES) {
+            var label = percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+            percentiles.put("p" + label, millis(histogram.valueAtPercentile(percentile)));
+        }
+
+        percentiles.put("max", millis(histogram.getMaxInNano()));
+
+        return percentiles;
+    }
+
+    private static double millis(long nano) {
+        return nano / 1_000_000d;
+    }
+
+    private static void waitUntil(long deadline) {
+
+        long remaining;
+
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
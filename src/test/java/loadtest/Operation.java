@@ -0,0 +1,66 @@
+package loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * The REST calls a load test mixes, each built against a random bucket or card of the seeded {@link Board}.
+ */
+public enum Operation {
+
+    LIST {
+        @Override
+        HttpRequest request(Board board, Duration timeout) {
+            return builder(board, "/v1/buckets", timeout).GET().build();
+        }
+    },
+    CREATE {
+        @Override
+        HttpRequest request(Board board, Duration timeout) {
+            var body = String.format(Locale.ROOT,
+                    "{\"bucketId\": \"%s\", \"cardId\": \"%s\", \"position\": %s, \"name\": \"%s\"}",
+                    board.randomBucket(), UUID.randomUUID(), board.nextPosition(), "LOAD-TEST");
+            return json(builder(board, "/v1/cards", timeout), "POST", body);
+        }
+    },
+    MOVE {
+        @Override
+        HttpRequest request(Board board, Duration timeout) {
+            var body = String.format(Locale.ROOT, "{\"bucketId\": \"%s\", \"position\": %s}",
+                    board.randomBucket(), board.nextPosition());
+            return json(builder(board, "/v1/cards/" + board.randomCard() + "/move", timeout), "PATCH", body);
+        }
+    },
+    UPDATE {
+        @Override
+        HttpRequest request(Board board, Duration timeout) {
+            var body = String.format("{\"name\": \"%s\", \"description\": \"%s\"}", "LOAD-TEST", UUID.randomUUID());
+            return json(builder(board, "/v1/cards/" + board.randomCard(), timeout), "PATCH", body);
+        }
+    };
+
+    abstract HttpRequest request(Board board, Duration timeout);
+
+    public static Operation of(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+
+    public String label() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    private static HttpRequest.Builder builder(Board board, String path, Duration timeout) {
+        return HttpRequest.newBuilder(URI.create(board.getBaseUrl() + path)).timeout(timeout);
+    }
+
+    private static HttpRequest json(HttpRequest.Builder builder, String method, String body) {
+        return builder
+                .header("Content-Type", "application/json")
+                .method(method, BodyPublishers.ofString(body))
+                .build();
+    }
+}
@@ -0,0 +1,103 @@
+package loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.seariver.kanbanboard.commom.metrics.LatencyHistogram;
+
+import java.io.IOException;
+import java.net.http.HttpTimeoutException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies and outcomes of one operation.
+ * <p>
+ * {@code latency} runs from the time the request was due under the arrival schedule, so requests the client or
+ * server held back count their waiting too, correcting for coordinated omission. {@code serviceTime} runs from the
+ * moment the request was actually sent and is what a closed-loop tool would report.
+ */
+public class OperationStats {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LatencyHistogram serviceTime = new LatencyHistogram();
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    public void record(long latencyInNano, long serviceTimeInNano, String outcome) {
+        latency.record(latencyInNano);
+        serviceTime.record(serviceTimeInNano);
+        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+    }
+
+    public void reject(String outcome) {
+        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    public LatencyHistogram getServiceTime() {
+        return serviceTime;
+    }
+
+    public Map<String, Long> getOutcomes() {
+
+        Map<String, Long> sorted = new TreeMap<>();
+        outcomes.forEach((outcome, count) -> sorted.put(outcome, count.sum()));
+
+        return sorted;
+    }
+
+    public long getErrors() {
+        return outcomes.entrySet().stream()
+                .filter(entry -> !entry.getKey().startsWith("2"))
+                .mapToLong(entry -> entry.getValue().sum())
+                .sum();
+    }
+
+    /**
+     * Successful statuses collapse to {@code 2xx}; errors keep their status and, when the body is a
+     * {@code ResponseError}, the domain error code or the first invalid field.
+     */
+    public static String outcomeOf(int status, String body) {
+
+        if (status >= 200 && status < 300) {
+            return "2xx";
+        }
+
+        try {
+            var error = MAPPER.readTree(body).path("errors").path(0);
+
+            if (error.isMissingNode()) {
+                return String.valueOf(status);
+            }
+
+            return status + " " + describe(error);
+
+        } catch (IOException | RuntimeException exception) {
+            return String.valueOf(status);
+        }
+    }
+
+    public static String outcomeOf(Throwable failure) {
+
+        var cause = failure.getCause() != null ? failure.getCause() : failure;
+
+        return cause instanceof HttpTimeoutException ? "timeout" : cause.getClass().getSimpleName();
+    }
+
+    private static String describe(JsonNode error) {
+
+        var field = error.path("field").asText();
+
+        if ("code".equals(field)) {
+            return "code=" + error.path("detail").asText();
+        }
+
+        return "field=" + field;
+    }
+}
@@ -0,0 +1,49 @@
+package loadtest;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.net.ConnectException;
+import java.net.http.HttpTimeoutException;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+class OperationStatsTest {
+
+    @Test
+    void WHEN_ClassifyingResponses_MUST_KeepStatusAndResponseErrorDetail() {
+        assertThat(OperationStats.outcomeOf(201, "")).isEqualTo("2xx");
+        assertThat(OperationStats.outcomeOf(404,
+                "{\"message\":\"Invalid field\",\"errors\":[{\"field\":\"code\",\"detail\":\"1001\"}]}"))
+                .isEqualTo("404 code=1001");
+        assertThat(OperationStats.outcomeOf(400,
+                "{\"message\":\"Invalid field\",\"errors\":[{\"field\":\"position\",\"detail\":\"must be greater than 0\"}]}"))
+                .isEqualTo("400 field=position");
+        assertThat(OperationStats.outcomeOf(503, "Service Unavailable")).isEqualTo("503");
+    }
+
+    @Test
+    void WHEN_ClassifyingFailures_MUST_NameTheCause() {
+        assertThat(OperationStats.outcomeOf(new CompletionException(new HttpTimeoutException("late")))).isEqualTo("timeout");
+        assertThat(OperationStats.outcomeOf(new ConnectException())).isEqualTo("ConnectException");
+    }
+
+    @Test
+    void GIVEN_RecordedOutcomes_MUST_CountEverythingButSuccessAsError() {
+
+        // given
+        var stats = new OperationStats();
+
+        // when
+        stats.record(2_000_000, 1_000_000, "2xx");
+        stats.record(3_000_000, 1_000_000, "409 code=1000");
+        stats.reject(LoadTestRunner.SATURATED);
+
+        // then
+        assertThat(stats.getLatency().getCount()).isEqualTo(2);
+        assertThat(stats.getErrors()).isEqualTo(2);
+        assertThat(stats.getOutcomes()).containsEntry("2xx", 1L).containsEntry("client-saturated", 1L);
+    }
+}
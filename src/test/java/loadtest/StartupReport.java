@@ -0,0 +1,157 @@
+package loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Starts the JVM and the native build in turn and compares their startup time and resident memory.
+ * <p>
+ * Each run measures the time from spawning the process to the first successful {@code GET /v1/buckets}, the startup
+ * time Quarkus logs itself, and the resident set size right after that first request, read from {@code /proc} on
+ * Linux. Builds whose artifact is missing are skipped. Medians of {@code startup.runs} runs are printed.
+ */
+public class StartupReport {
+
+    private static final Pattern STARTED_IN = Pattern.compile("started in (\\d+(?:\\.\\d+)?)s");
+    private static final Pattern VM_RSS = Pattern.compile("VmRSS:\\s+(\\d+) kB");
+    private static final long TIMEOUT_IN_MILLI = 60_000;
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+    private final URI url;
+
+    public StartupReport(URI url) {
+        this.url = url;
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        var runner = System.getProperty("startup.runner", "target/kanbanboard-1.0.0-SNAPSHOT-runner");
+        var runs = Integer.getInteger("startup.runs", 5);
+        var report = new StartupReport(URI.create(System.getProperty("startup.url", "http://localhost:8080/v1/buckets")));
+
+        Map<String, List<String>> builds = new LinkedHashMap<>();
+        builds.put("jvm", List.of("java", "-jar", runner + ".jar"));
+        builds.put("native", List.of(runner));
+
+        System.out.printf("%-8s %14s %14s %10s%n", "build", "first req ms", "started in ms", "rss MB");
+
+        for (var build : builds.entrySet()) {
+
+            var artifact = new File(build.getValue().get(build.getValue().size() - 1));
+
+            if (!artifact.isFile()) {
+                System.out.printf("%-8s skipped, %s not found%n", build.getKey(), artifact);
+                continue;
+            }
+
+            var samples = new ArrayList<long[]>();
+
+            for (var run = 0; run < runs; run++) {
+                samples.add(report.measure(build.getValue()));
+            }
+
+            System.out.printf(Locale.ROOT, "%-8s %14d %14d %10.1f%n", build.getKey(),
+                    median(samples, 0), median(samples, 1), median(samples, 2) / 1024d);
+        }
+    }
+
+    /**
+     * Answers the time to the first successful response and the logged startup time in milliseconds, and the
+     * resident set size in kB; values that cannot be read are {@code -1}.
+     */
+    long[] measure(List<String> command) throws IOException, InterruptedException {
+
+        var log = Files.createTempFile("startup", ".log");
+        var spawned = System.nanoTime();
+        var process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+
+        try {
+            var firstResponseInMilli = awaitFirstResponse(spawned, process);
+            var rssInKb = rssInKb(process.pid());
+
+            return new long[]{firstResponseInMilli, startedInMilli(Files.readString(log)), rssInKb};
+
+        } finally {
+            process.destroy();
+            process.waitFor();
+            Files.deleteIfExists(log);
+        }
+    }
+
+    private long awaitFirstResponse(long spawned, Process process) throws InterruptedException {
+
+        var request = HttpRequest.newBuilder(url).timeout(Duration.ofSeconds(5)).GET().build();
+
+        while (System.nanoTime() - spawned < TIMEOUT_IN_MILLI * 1_000_000) {
+
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Process exited with " + process.exitValue() + " before answering");
+            }
+
+            try {
+                if (client.send(request, BodyHandlers.discarding()).statusCode() == 200) {
+                    return (System.nanoTime() - spawned) / 1_000_000;
+                }
+            } catch (IOException exception) {
+                // not listening yet
+            }
+
+            Thread.sleep(5);
+        }
+
+        throw new IllegalStateException("No successful response from " + url + " within " + TIMEOUT_IN_MILLI + " ms");
+    }
+
+    static long startedInMilli(String log) {
+
+        var matcher = STARTED_IN.matcher(log);
+
+        return matcher.find() ? Math.round(Double.parseDouble(matcher.group(1)) * 1000) : -1;
+    }
+
+    static long rssInKb(String status) {
+
+        var matcher = VM_RSS.matcher(status);
+
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : -1;
+    }
+
+    private static long rssInKb(long pid) {
+        try {
+            return rssInKb(Files.readString(Path.of("/proc", String.valueOf(pid), "status"), StandardCharsets.UTF_8));
+        } catch (IOException exception) {
+            return -1;
+        }
+    }
+
+    static long median(List<long[]> samples, int index) {
+
+        var values = new long[samples.size()];
+
+        for (var sample = 0; sample < values.length; sample++) {
+            values[sample] = samples.get(sample)[index];
+        }
+
+        Arrays.sort(values);
+
+        return values.length == 0 ? -1 : values[values.length / 2];
+    }
+}
@@ -0,0 +1,39 @@
+package loadtest;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+class StartupReportTest {
+
+    @Test
+    void WHEN_ReadingLogAndProcStatus_MUST_ExtractStartupTimeAndRss() {
+
+        // given
+        var log = "2026-10-19 10:00:00,021 INFO  [io.quarkus] (main) kanbanboard 1.0.0-SNAPSHOT native " +
+                "(powered by Quarkus 1.7.0.Final) started in 0.021s. Listening on: http://0.0.0.0:8080";
+        var status = "Name:\tkanbanboard\nVmPeak:\t  120000 kB\nVmRSS:\t   48312 kB\nThreads:\t12\n";
+
+        // then
+        assertThat(StartupReport.startedInMilli(log)).isEqualTo(21);
+        assertThat(StartupReport.rssInKb(status)).isEqualTo(48312);
+        assertThat(StartupReport.startedInMilli("starting")).isEqualTo(-1);
+        assertThat(StartupReport.rssInKb("")).isEqualTo(-1);
+    }
+
+    @Test
+    void WHEN_SummarizingRuns_MUST_AnswerMedianOfEachColumn() {
+
+        // given
+        var samples = List.of(new long[]{900, 20, 50_000}, new long[]{300, 10, 40_000}, new long[]{500, 30, 45_000});
+
+        // then
+        assertThat(StartupReport.median(samples, 0)).isEqualTo(500);
+        assertThat(StartupReport.median(samples, 1)).isEqualTo(20);
+        assertThat(StartupReport.median(samples, 2)).isEqualTo(45_000);
+    }
+}
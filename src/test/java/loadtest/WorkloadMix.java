@@ -0,0 +1,90 @@
+package loadtest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Weighted choice of the next {@link Operation}, parsed from a mix such as {@code list=80,move=15,create=5}.
+ */
+public class WorkloadMix {
+
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    private WorkloadMix(Map<Operation, Integer> weights) {
+
+        List<Operation> operations = new ArrayList<>();
+        var cumulativeWeights = new int[weights.size()];
+        var total = 0;
+
+        for (var weight : weights.entrySet()) {
+            total += weight.getValue();
+            cumulativeWeights[operations.size()] = total;
+            operations.add(weight.getKey());
+        }
+
+        this.operations = operations.toArray(new Operation[0]);
+        this.cumulativeWeights = cumulativeWeights;
+        this.totalWeight = total;
+    }
+
+    public static WorkloadMix parse(String mix) {
+
+        Map<Operation, Integer> weights = new LinkedHashMap<>();
+
+        for (var entry : mix.split(",")) {
+
+            var parts = entry.trim().split("=");
+
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Mix entry must be operation=weight: " + entry);
+            }
+
+            var weight = Integer.parseInt(parts[1].trim());
+
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight for " + parts[0]);
+            }
+
+            if (weight > 0) {
+                weights.merge(Operation.of(parts[0]), weight, Integer::sum);
+            }
+        }
+
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Mix has no operation with a positive weight: " + mix);
+        }
+
+        return new WorkloadMix(weights);
+    }
+
+    public Operation next(Random random) {
+
+        var pick = random.nextInt(totalWeight);
+
+        for (var index = 0; index < cumulativeWeights.length; index++) {
+            if (pick < cumulativeWeights[index]) {
+                return operations[index];
+            }
+        }
+
+        throw new IllegalStateException("Weight " + pick + " outside of " + totalWeight);
+    }
+
+    public Map<Operation, Double> shares() {
+
+        Map<Operation, Double> shares = new LinkedHashMap<>();
+        var previous = 0;
+
+        for (var index = 0; index < operations.length; index++) {
+            shares.put(operations[index], (cumulativeWeights[index] - previous) / (double) totalWeight);
+            previous = cumulativeWeights[index];
+        }
+
+        return shares;
+    }
+}
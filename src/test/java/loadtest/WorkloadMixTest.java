@@ -0,0 +1,45 @@
+package loadtest;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@Tag("unit")
+class WorkloadMixTest {
+
+    @Test
+    void GIVEN_WeightedMix_MUST_DrawOperationsInProportion() {
+
+        // given
+        var mix = WorkloadMix.parse("list=80, move=15, create=5, update=0");
+        var random = new Random(42);
+        Map<Operation, Integer> draws = new EnumMap<>(Operation.class);
+
+        // when
+        for (var index = 0; index < 100_000; index++) {
+            draws.merge(mix.next(random), 1, Integer::sum);
+        }
+
+        // then
+        assertThat(mix.shares()).containsOnlyKeys(Operation.LIST, Operation.MOVE, Operation.CREATE);
+        assertThat(draws).doesNotContainKey(Operation.UPDATE);
+        assertThat(draws.get(Operation.LIST) / 100_000d).isCloseTo(0.80, within(0.01));
+        assertThat(draws.get(Operation.MOVE) / 100_000d).isCloseTo(0.15, within(0.01));
+        assertThat(draws.get(Operation.CREATE) / 100_000d).isCloseTo(0.05, within(0.01));
+    }
+
+    @Test
+    void GIVEN_InvalidMix_MUST_ThrowException() {
+        assertThatThrownBy(() -> WorkloadMix.parse("list")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> WorkloadMix.parse("list=-1")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> WorkloadMix.parse("list=0")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> WorkloadMix.parse("delete=1")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,83 @@
+package org.seariver.kanbanboard.commom.cache;
+
+import helper.IntegrationHelper;
+import helper.QueryCacheProfile;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import org.junit.jupiter.api.Test;
+import org.seariver.kanbanboard.write.adapter.out.WriteBucketRepositoryImpl;
+import org.seariver.kanbanboard.write.application.domain.Bucket;
+
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static io.restassured.http.ContentType.JSON;
+import static javax.ws.rs.core.Response.Status.CREATED;
+import static javax.ws.rs.core.Response.Status.OK;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.not;
+import static org.seariver.kanbanboard.commom.datasource.ReadConsistencyFilter.PRIMARY;
+import static org.seariver.kanbanboard.commom.datasource.ReadConsistencyFilter.READ_CONSISTENCY_HEADER;
+
+@QuarkusTest
+@TestProfile(QueryCacheProfile.class)
+class QueryCacheIT extends IntegrationHelper {
+
+    public static final String RESOURCE_PATH = "/v1/buckets";
+
+    @Test
+    void GIVEN_CachedListing_MUST_ServeItUntilACommandChangesBuckets() {
+
+        // setup
+        var bypassedId = UUID.randomUUID();
+        var createdId = UUID.randomUUID().toString();
+
+        given().when().get(RESOURCE_PATH).then().statusCode(OK.getStatusCode());
+
+        new WriteBucketRepositoryImpl(dataSource).create(new Bucket()
+                .setBucketExternalId(bypassedId)
+                .setPosition(faker.number().randomDouble(3, 40000, 41000))
+                .setName(faker.pokemon().name()));
+
+        // verify
+        given()
+                .when()
+                .get(RESOURCE_PATH)
+                .then()
+                .statusCode(OK.getStatusCode())
+                .body("id", not(hasItem(bypassedId.toString())));
+
+        given()
+                .header(READ_CONSISTENCY_HEADER, PRIMARY)
+                .when()
+                .get(RESOURCE_PATH)
+                .then()
+                .statusCode(OK.getStatusCode())
+                .body("id", hasItem(bypassedId.toString()));
+
+        given()
+                .contentType(JSON)
+                .body(String.format("{\"bucketId\": \"%s\", \"position\": %s, \"name\": \"%s\"}",
+                        createdId, faker.number().randomDouble(3, 41000, 42000), faker.pokemon().name()))
+                .when()
+                .post(RESOURCE_PATH)
+                .then()
+                .statusCode(CREATED.getStatusCode());
+
+        given()
+                .when()
+                .get(RESOURCE_PATH)
+                .then()
+                .statusCode(OK.getStatusCode())
+                .body("id", hasItems(bypassedId.toString(), createdId));
+
+        given()
+                .when()
+                .get("/v1/metrics")
+                .then()
+                .statusCode(OK.getStatusCode())
+                .body(containsString("kanbanboard_query_cache_requests_total{result=\"hit\"}"));
+    }
+}
@@ -0,0 +1,276 @@
+package org.seariver.kanbanboard.commom.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.seariver.kanbanboard.commom.datasource.ReadConsistency;
+import org.seariver.kanbanboard.commom.notification.BoardChangedEvent;
+import org.seariver.kanbanboard.read.application.domain.BucketDto;
+import org.seariver.kanbanboard.read.application.service.CacheableQuery;
+import org.seariver.kanbanboard.read.application.service.ListAllBucketQuery;
+import org.seariver.kanbanboard.read.application.service.ListArchivedCardQuery;
+import org.seariver.kanbanboard.write.application.service.DeleteCardCommand;
+import org.seariver.kanbanboard.write.application.service.MoveCardCommand;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+class QueryCacheTest {
+
+    private final AtomicInteger resolutions = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        ReadConsistency.clear();
+    }
+
+    @Test
+    void GIVEN_CachedQuery_MUST_ResolveOnceAndServeTheSameResult() {
+
+        // given
+        var cache = new QueryCache(true, 10);
+        var first = new ListAllBucketQuery();
+        var second = new ListAllBucketQuery();
+
+        // when
+        cache.resolve(first, () -> resolveBuckets(first));
+        cache.resolve(second, () -> resolveBuckets(second));
+
+        // then
+        assertThat(resolutions).hasValue(1);
+        assertThat(second.getResult()).isSameAs(first.getResult());
+        assertThat(cache.scrape())
+                .contains("kanbanboard_query_cache_requests_total{result=\"hit\"} 1")
+                .contains("kanbanboard_query_cache_requests_total{result=\"miss\"} 1");
+    }
+
+    @Test
+    void GIVEN_DisabledOrUncachedQuery_MUST_AlwaysResolve() {
+
+        // given
+        var disabled = new QueryCache(false, 10);
+        var enabled = new QueryCache(true, 10);
+        var archived = new ListArchivedCardQuery(UUID.randomUUID().toString(), null, 10);
+
+        // when
+        disabled.resolve(new ListAllBucketQuery(), resolutions::incrementAndGet);
+        disabled.resolve(new ListAllBucketQuery(), resolutions::incrementAndGet);
+        enabled.resolve(archived, resolutions::incrementAndGet);
+        enabled.resolve(archived, resolutions::incrementAndGet);
+
+        // then
+        assertThat(resolutions).hasValue(4);
+        assertThat(enabled.size()).isZero();
+        assertThat(disabled.scrape()).isEmpty();
+    }
+
+    @Test
+    void GIVEN_PrimaryOrMinimumLsnRequired_MUST_BypassCachedResult() {
+
+        // given
+        var cache = new QueryCache(true, 10);
+        var cached = new ListAllBucketQuery();
+        var primary = new ListAllBucketQuery();
+        var minimumLsn = new ListAllBucketQuery();
+        cache.resolve(cached, () -> resolveBuckets(cached));
+
+        // when
+        ReadConsistency.requirePrimary();
+        var primaryHit = cache.resolve(primary, () -> resolveBuckets(primary));
+        ReadConsistency.requireLsn("0/16B3748");
+        var minimumLsnHit = cache.resolve(minimumLsn, () -> resolveBuckets(minimumLsn));
+
+        // then
+        assertThat(primaryHit).isFalse();
+        assertThat(minimumLsnHit).isFalse();
+        assertThat(resolutions).hasValue(3);
+        assertThat(cache.scrape()).contains("kanbanboard_query_cache_requests_total{result=\"bypass\"} 2");
+    }
+
+    @Test
+    void GIVEN_ReplicaConfigured_MUST_ResolveMissesAtThePrimaryLsnReadAfterTheLatestInvalidation() {
+
+        // given
+        var lookups = new AtomicInteger();
+        var cache = new QueryCache(true, 10, () -> Optional.of("0/" + lookups.incrementAndGet()));
+        List<Optional<String>> minimumLsns = new ArrayList<>();
+        var first = new ListAllBucketQuery();
+        var second = new ListAllBucketQuery();
+        var afterInvalidation = new ListAllBucketQuery();
+
+        // when
+        cache.resolve(first, () -> {
+            minimumLsns.add(ReadConsistency.current().getMinimumLsn());
+            resolveBuckets(first);
+        });
+        var hit = cache.resolve(second, () -> resolveBuckets(second));
+        cache.resolve(new TaggedQuery("a"), () -> minimumLsns.add(ReadConsistency.current().getMinimumLsn()));
+        cache.invalidate(new DeleteCardCommand(UUID.randomUUID().toString(), false));
+        cache.resolve(afterInvalidation, () -> {
+            minimumLsns.add(ReadConsistency.current().getMinimumLsn());
+            resolveBuckets(afterInvalidation);
+        });
+
+        // then
+        assertThat(hit).isTrue();
+        assertThat(minimumLsns).containsExactly(Optional.of("0/1"), Optional.of("0/1"), Optional.of("0/2"));
+        assertThat(lookups).hasValue(2);
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(ReadConsistency.current().isEventual()).isTrue();
+    }
+
+    @Test
+    void GIVEN_ReplicaConfiguredAndPrimaryLsnUnknown_MUST_NotStoreReplicaReads() {
+
+        // given
+        var cache = new QueryCache(true, 10, Optional::empty);
+        var eventual = new ListAllBucketQuery();
+        var minimumLsn = new ListAllBucketQuery();
+        var primary = new ListAllBucketQuery();
+
+        // when
+        cache.resolve(eventual, () -> resolveBuckets(eventual));
+        ReadConsistency.requireLsn("0/16B3748");
+        cache.resolve(minimumLsn, () -> resolveBuckets(minimumLsn));
+        var sizeAfterReplicaReads = cache.size();
+        ReadConsistency.requirePrimary();
+        cache.resolve(primary, () -> resolveBuckets(primary));
+
+        // then
+        assertThat(sizeAfterReplicaReads).isZero();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void WHEN_CommandWithMatchingTagCommits_MUST_DropCachedResult() {
+
+        // given
+        var cache = new QueryCache(true, 10);
+        var bucketId = UUID.randomUUID().toString();
+        var cardId = UUID.randomUUID().toString();
+        cache.resolve(new TaggedQuery("bucket-only"), resolutions::incrementAndGet);
+        cache.resolve(new ListAllBucketQuery(), resolutions::incrementAndGet);
+
+        // when
+        cache.invalidate(new MoveCardCommand(bucketId, cardId, 1));
+
+        // then
+        assertThat(cache.size()).isEqualTo(1);
+        cache.resolve(new TaggedQuery("bucket-only"), resolutions::incrementAndGet);
+        cache.resolve(new ListAllBucketQuery(), resolutions::incrementAndGet);
+        assertThat(resolutions).hasValue(3);
+    }
+
+    @Test
+    void GIVEN_CommandCommittedWhileResolving_MUST_NotStoreStaleResult() {
+
+        // given
+        var cache = new QueryCache(true, 10);
+        var command = new DeleteCardCommand(UUID.randomUUID().toString(), false);
+
+        // when
+        cache.resolve(new ListAllBucketQuery(), () -> {
+            resolutions.incrementAndGet();
+            cache.invalidate(command);
+        });
+
+        // then
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void GIVEN_UnannotatedCommandOrEverythingEvent_MUST_DropEveryResult() {
+
+        // given
+        var cache = new QueryCache(true, 10);
+        cache.resolve(new TaggedQuery("a"), resolutions::incrementAndGet);
+        cache.resolve(new ListAllBucketQuery(), resolutions::incrementAndGet);
+
+        // when
+        cache.invalidate(new Object());
+
+        // then
+        assertThat(cache.size()).isZero();
+
+        // when
+        cache.resolve(new TaggedQuery("a"), resolutions::incrementAndGet);
+        cache.onBoardChanged(BoardChangedEvent.everything());
+
+        // then
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void GIVEN_BoardChangedOnAnotherNode_MUST_DropResultsTaggedByItsCommand() {
+
+        // given
+        var cache = new QueryCache(true, 10);
+        cache.resolve(new TaggedQuery("a"), resolutions::incrementAndGet);
+        cache.resolve(new ListAllBucketQuery(), resolutions::incrementAndGet);
+
+        // when
+        cache.onBoardChanged(new BoardChangedEvent(7, DeleteCardCommand.class.getName(), Set.of("id")));
+
+        // then
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void GIVEN_MoreKeysThanCapacity_MUST_EvictLeastRecentlyUsed() {
+
+        // given
+        var cache = new QueryCache(true, 2);
+        cache.resolve(new TaggedQuery("a"), resolutions::incrementAndGet);
+        cache.resolve(new TaggedQuery("b"), resolutions::incrementAndGet);
+        cache.resolve(new TaggedQuery("a"), resolutions::incrementAndGet);
+
+        // when
+        cache.resolve(new TaggedQuery("c"), resolutions::incrementAndGet);
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        cache.resolve(new TaggedQuery("a"), resolutions::incrementAndGet);
+        assertThat(resolutions).hasValue(3);
+        cache.resolve(new TaggedQuery("b"), resolutions::incrementAndGet);
+        assertThat(resolutions).hasValue(4);
+        assertThat(cache.scrape()).contains("kanbanboard_query_cache_evictions_total 2");
+    }
+
+    private void resolveBuckets(ListAllBucketQuery query) {
+        resolutions.incrementAndGet();
+        query.setResult(List.of(new BucketDto(UUID.randomUUID(), 1, "TODO")));
+    }
+
+    @Cached(tags = CacheTag.BUCKET)
+    static class TaggedQuery implements CacheableQuery<String> {
+
+        private final String key;
+        private String result;
+
+        TaggedQuery(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public String cacheKey() {
+            return key;
+        }
+
+        @Override
+        public String getResult() {
+            return result;
+        }
+
+        @Override
+        public void setResult(String result) {
+            this.result = result;
+        }
+    }
+}
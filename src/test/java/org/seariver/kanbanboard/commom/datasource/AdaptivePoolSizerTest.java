@@ -0,0 +1,101 @@
+package org.seariver.kanbanboard.commom.datasource;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+class AdaptivePoolSizerTest {
+
+    private static final long MILLI = 1_000_000L;
+
+    private final AdaptivePoolSizer sizer = new AdaptivePoolSizer(4, 32, 1.5, 5 * MILLI);
+
+    @Test
+    void GIVEN_DemandAboveSize_MUST_GrowToDemandWithHeadroom() {
+
+        // given 12 busy connections on average, nobody waiting
+        var window = new AdaptivePoolSizer.Window(12, 0, 1200, 0, 10);
+
+        // when
+        var next = sizer.next(16, window);
+
+        // then
+        assertThat(next).isEqualTo(18);
+    }
+
+    @Test
+    void GIVEN_CallersQueueingLongerThanTarget_MUST_GrowByAtLeastAQuarter() {
+
+        // given a saturated pool of 16 with 1 caller waiting 20 ms on average
+        var window = new AdaptivePoolSizer.Window(16, 1, 1000, 1000 * 20 * MILLI, 10);
+
+        // when
+        var next = sizer.next(16, window);
+
+        // then
+        assertThat(next).isEqualTo(26);
+    }
+
+    @Test
+    void GIVEN_LeaseTimeRisingAfterGrowth_MUST_StopGrowing() {
+
+        // given a first growth at 10 ms lease time
+        assertThat(sizer.next(16, new AdaptivePoolSizer.Window(16, 2, 16000, 16000 * 20 * MILLI, 10))).isEqualTo(27);
+
+        // when the database answers four times slower with the same traffic
+        var next = sizer.next(27, new AdaptivePoolSizer.Window(27, 8, 6750, 6750 * 50 * MILLI, 10));
+
+        // then
+        assertThat(next).isEqualTo(27);
+    }
+
+    @Test
+    void GIVEN_GrowthHeldBack_MUST_JudgeTheNextWindowAfresh() {
+
+        // given a growth at 10 ms lease time held back once the lease time quadrupled
+        sizer.next(16, new AdaptivePoolSizer.Window(16, 2, 16000, 16000 * 20 * MILLI, 10));
+        sizer.next(27, new AdaptivePoolSizer.Window(27, 8, 6750, 6750 * 50 * MILLI, 10));
+
+        // when the lease time holds at its new level
+        var next = sizer.next(27, new AdaptivePoolSizer.Window(27, 8, 6750, 6750 * 50 * MILLI, 10));
+
+        // then
+        assertThat(next).isEqualTo(32);
+    }
+
+    @Test
+    void GIVEN_WindowWithoutGrowthSinceTheLastOne_MUST_NotCompareWithItsLeaseTime() {
+
+        // given a growth at 10 ms lease time followed by a quiet window
+        sizer.next(16, new AdaptivePoolSizer.Window(16, 2, 16000, 16000 * 20 * MILLI, 10));
+        sizer.next(27, new AdaptivePoolSizer.Window(12, 0, 12000, 0, 10));
+
+        // when load comes back with a 40 ms lease time
+        var next = sizer.next(26, new AdaptivePoolSizer.Window(26, 4, 6500, 6500 * 20 * MILLI, 10));
+
+        // then
+        assertThat(next).isEqualTo(32);
+    }
+
+    @Test
+    void GIVEN_IdlePool_MUST_ShrinkOneAtATimeDownToMinimum() {
+
+        // given
+        var idle = new AdaptivePoolSizer.Window(0.5, 0, 100, 0, 10);
+
+        // when
+        var shrunk = sizer.next(16, idle);
+        var bounded = sizer.next(4, idle);
+
+        // then
+        assertThat(shrunk).isEqualTo(15);
+        assertThat(bounded).isEqualTo(4);
+    }
+
+    @Test
+    void GIVEN_DemandAboveMaximum_MUST_ClampToMaximum() {
+        assertThat(sizer.next(30, new AdaptivePoolSizer.Window(40, 5, 5000, 5000 * 50 * MILLI, 10))).isEqualTo(32);
+    }
+}
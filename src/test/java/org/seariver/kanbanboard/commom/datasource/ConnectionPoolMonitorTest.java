@@ -0,0 +1,46 @@
+package org.seariver.kanbanboard.commom.datasource;
+
+import io.agroal.api.configuration.AgroalConnectionPoolConfiguration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@Tag("unit")
+class ConnectionPoolMonitorTest {
+
+    @Test
+    void GIVEN_ShrinkBelowConfiguredMinimum_MUST_LowerMinimumBeforeMaximum() {
+
+        // given
+        var configuration = mock(AgroalConnectionPoolConfiguration.class);
+        when(configuration.maxSize()).thenReturn(8);
+
+        // when
+        ConnectionPoolMonitor.applySize(configuration, 6, 4);
+
+        // then
+        InOrder order = inOrder(configuration);
+        order.verify(configuration).setMinSize(4);
+        order.verify(configuration).setMaxSize(4);
+    }
+
+    @Test
+    void GIVEN_GrowthPastConfiguredMinimum_MUST_RestoreItAfterRaisingMaximum() {
+
+        // given
+        var configuration = mock(AgroalConnectionPoolConfiguration.class);
+        when(configuration.maxSize()).thenReturn(4);
+
+        // when
+        ConnectionPoolMonitor.applySize(configuration, 6, 10);
+
+        // then
+        InOrder order = inOrder(configuration);
+        order.verify(configuration).setMaxSize(10);
+        order.verify(configuration).setMinSize(6);
+    }
+}
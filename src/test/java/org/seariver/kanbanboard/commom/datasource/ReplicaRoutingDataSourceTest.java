@@ -0,0 +1,110 @@
+package org.seariver.kanbanboard.commom.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Tag("unit")
+class ReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private ReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setup() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        dataSource = new ReplicaRoutingDataSource(primary, replica);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadConsistency.clear();
+    }
+
+    @Test
+    void GIVEN_NoRequirement_MUST_ReadFromReplica() throws SQLException {
+        assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    void GIVEN_PrimaryRequired_MUST_ReadFromPrimary() throws SQLException {
+
+        // given
+        ReadConsistency.requirePrimary();
+
+        // then
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void GIVEN_ReplicaBehindRequestedLsn_MUST_FallBackToPrimary() throws SQLException {
+
+        // given
+        replicaReplayed(false);
+        ReadConsistency.requireLsn("0/16B3748");
+
+        // when
+        var connection = dataSource.getConnection();
+
+        // then
+        assertThat(connection).isSameAs(primaryConnection);
+        verify(replicaConnection).close();
+    }
+
+    @Test
+    void GIVEN_ReplicaCaughtUp_MUST_KeepReplicaConnection() throws SQLException {
+
+        // given
+        replicaReplayed(true);
+        ReadConsistency.requireLsn("0/16B3748");
+
+        // then
+        assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+        verify(replicaConnection, never()).close();
+    }
+
+    @Test
+    void GIVEN_Credentials_MUST_RouteThemToTheChosenTarget() throws SQLException {
+
+        // given
+        var credentialedPrimary = mock(Connection.class);
+        var credentialedReplica = mock(Connection.class);
+        when(primary.getConnection("reporting", "secret")).thenReturn(credentialedPrimary);
+        when(replica.getConnection("reporting", "secret")).thenReturn(credentialedReplica);
+
+        // then
+        assertThat(dataSource.getConnection("reporting", "secret")).isSameAs(credentialedReplica);
+
+        ReadConsistency.requirePrimary();
+        assertThat(dataSource.getConnection("reporting", "secret")).isSameAs(credentialedPrimary);
+    }
+
+    private void replicaReplayed(boolean replayed) throws SQLException {
+        var statement = mock(PreparedStatement.class);
+        var resultSet = mock(ResultSet.class);
+        when(replicaConnection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getBoolean(1)).thenReturn(replayed);
+    }
+}
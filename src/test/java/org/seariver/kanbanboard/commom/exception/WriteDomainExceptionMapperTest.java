@@ -0,0 +1,70 @@
+package org.seariver.kanbanboard.commom.exception;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.seariver.kanbanboard.write.application.exception.BucketNotExistentException;
+import org.seariver.kanbanboard.write.application.exception.CardNotExistentException;
+import org.seariver.kanbanboard.write.application.exception.InvalidOrderException;
+
+import static javax.ws.rs.core.Response.Status.BAD_REQUEST;
+import static javax.ws.rs.core.Response.Status.NOT_FOUND;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.seariver.kanbanboard.write.application.exception.WriteException.Error.BUCKET_NOT_EXIST;
+import static org.seariver.kanbanboard.write.application.exception.WriteException.Error.CARD_NOT_EXIST;
+import static org.seariver.kanbanboard.write.application.exception.WriteException.Error.INVALID_ORDER;
+
+@Tag("unit")
+class WriteDomainExceptionMapperTest {
+
+    private final WriteDomainExceptionMapper mapper = new WriteDomainExceptionMapper();
+
+    @Test
+    void GIVEN_SameError_MUST_ShareOnePreallocatedBody() {
+
+        // when
+        var first = mapper.toResponse(new BucketNotExistentException(BUCKET_NOT_EXIST));
+        var second = mapper.toResponse(new BucketNotExistentException(BUCKET_NOT_EXIST));
+
+        // then
+        assertThat(first.getStatus()).isEqualTo(NOT_FOUND.getStatusCode());
+        assertThat(second.getEntity()).isSameAs(first.getEntity());
+
+        var body = (ResponseError) first.getEntity();
+        assertThat(body.getMessage()).isEqualTo(NOT_FOUND.getReasonPhrase());
+        assertThat(body.getErrors()).extracting(ResponseError.ErrorField::getDetail).containsExactly("1001");
+    }
+
+    @Test
+    void GIVEN_DistinctErrors_MUST_AnswerTheirOwnStatusAndCode() {
+
+        // when
+        var notFound = mapper.toResponse(new CardNotExistentException(CARD_NOT_EXIST));
+        var badRequest = mapper.toResponse(new InvalidOrderException(INVALID_ORDER));
+
+        // then
+        assertThat(notFound.getStatus()).isEqualTo(NOT_FOUND.getStatusCode());
+        assertThat(badRequest.getStatus()).isEqualTo(BAD_REQUEST.getStatusCode());
+        assertThat(((ResponseError) badRequest.getEntity()).getMessage())
+                .isEqualTo(WriteDomainExceptionMapper.INVALID_PARAMETER_MESSAGE);
+        assertThat(((ResponseError) badRequest.getEntity()).getErrors().get(0).getDetail()).isEqualTo("1002");
+    }
+
+    @Test
+    void GIVEN_InvalidOrderWithDetails_MUST_AnswerThemWithTheCode() {
+
+        // given
+        var exception = new InvalidOrderException(INVALID_ORDER);
+        exception.addError("ids", "must list every bucket exactly once");
+
+        // when
+        var response = mapper.toResponse(exception);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(BAD_REQUEST.getStatusCode());
+        var body = (ResponseError) response.getEntity();
+        assertThat(body.getErrors()).extracting(ResponseError.ErrorField::getField).containsExactly("code", "ids");
+        assertThat(body.getErrors()).extracting(ResponseError.ErrorField::getDetail)
+                .containsExactly("1002", "must list every bucket exactly once");
+        assertThat(mapper.toResponse(new InvalidOrderException(INVALID_ORDER)).getEntity()).isNotSameAs(body);
+    }
+}
@@ -0,0 +1,83 @@
+package org.seariver.kanbanboard.commom.idempotency;
+
+import helper.IntegrationHelper;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static io.restassured.http.ContentType.JSON;
+import static javax.ws.rs.core.Response.Status.BAD_REQUEST;
+import static javax.ws.rs.core.Response.Status.CREATED;
+import static org.hamcrest.Matchers.is;
+
+@QuarkusTest
+class IdempotencyIT extends IntegrationHelper {
+
+    public static final String RESOURCE_PATH = "/v1/cards";
+
+    @Test
+    void GIVEN_RetriedCreation_MUST_ReplayCreatedWithoutDuplicateError() {
+
+        // setup
+        var key = UUID.randomUUID().toString();
+        var payload = payload(UUID.randomUUID().toString());
+
+        // verify
+        for (var attempt = 0; attempt < 2; attempt++) {
+            given()
+                    .contentType(JSON)
+                    .header(IdempotencyKey.HEADER, key)
+                    .body(payload)
+                    .when()
+                    .post(RESOURCE_PATH)
+                    .then()
+                    .statusCode(CREATED.getStatusCode());
+        }
+
+        given()
+                .contentType(JSON)
+                .body(payload)
+                .when()
+                .post(RESOURCE_PATH)
+                .then()
+                .statusCode(BAD_REQUEST.getStatusCode());
+    }
+
+    @Test
+    void GIVEN_KeyReusedForAnotherCard_MUST_ReturnUnprocessableEntity() {
+
+        // setup
+        var key = UUID.randomUUID().toString();
+
+        given()
+                .contentType(JSON)
+                .header(IdempotencyKey.HEADER, key)
+                .body(payload(UUID.randomUUID().toString()))
+                .when()
+                .post(RESOURCE_PATH)
+                .then()
+                .statusCode(CREATED.getStatusCode());
+
+        // verify
+        given()
+                .contentType(JSON)
+                .header(IdempotencyKey.HEADER, key)
+                .body(payload(UUID.randomUUID().toString()))
+                .when()
+                .post(RESOURCE_PATH)
+                .then()
+                .statusCode(422)
+                .body("errors[0].field", is(IdempotencyKey.HEADER));
+    }
+
+    private String payload(String cardExternalId) {
+        return String.format("{" +
+                "\"bucketId\": \"3731c747-ea27-42e5-a52b-1dfbfa9617db\"," +
+                "\"cardId\": \"%s\"," +
+                "\"position\": %s," +
+                "\"name\": \"%s\"" +
+                "}", cardExternalId, faker.number().randomDouble(3, 30000, 31000), faker.pokemon().name());
+    }
+}
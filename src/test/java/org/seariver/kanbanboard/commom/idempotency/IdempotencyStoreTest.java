@@ -0,0 +1,136 @@
+package org.seariver.kanbanboard.commom.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import helper.DataSourceMock;
+import helper.TestHelper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.seariver.kanbanboard.commom.exception.IdempotencyException;
+import org.seariver.kanbanboard.write.application.service.DeleteCardCommand;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.seariver.kanbanboard.commom.idempotency.IdempotencyStore.Outcome.PROCEED;
+import static org.seariver.kanbanboard.commom.idempotency.IdempotencyStore.Outcome.REPLAY;
+
+@Tag("unit")
+class IdempotencyStoreTest extends TestHelper {
+
+    private static final String EVENT_TYPE = DeleteCardCommand.class.getCanonicalName();
+
+    @Test
+    void GIVEN_CompletedKey_MUST_ReplaySameCommand() {
+
+        // given
+        var repository = mock(IdempotencyRepository.class);
+        var store = new IdempotencyStore(repository, new ObjectMapper(), 60, 30, 10, false);
+        var key = UUID.randomUUID().toString();
+        var fingerprint = store.fingerprint(EVENT_TYPE, new DeleteCardCommand(key, false));
+
+        // when
+        var first = store.begin(key, fingerprint);
+        store.complete(key, fingerprint);
+        var retry = store.begin(key, fingerprint);
+
+        // then
+        assertThat(first).isEqualTo(PROCEED);
+        assertThat(retry).isEqualTo(REPLAY);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void GIVEN_KeyInProgressOrReused_MUST_Refuse() {
+
+        // given
+        var store = new IdempotencyStore(mock(IdempotencyRepository.class), new ObjectMapper(), 60, 30, 10, false);
+        var key = UUID.randomUUID().toString();
+        var fingerprint = store.fingerprint(EVENT_TYPE, new DeleteCardCommand(UUID.randomUUID().toString(), false));
+        var otherFingerprint = store.fingerprint(EVENT_TYPE, new DeleteCardCommand(UUID.randomUUID().toString(), true));
+        store.begin(key, fingerprint);
+
+        // when
+        var inFlight = assertThrows(IdempotencyException.class, () -> store.begin(key, fingerprint));
+        store.complete(key, fingerprint);
+        var reused = assertThrows(IdempotencyException.class, () -> store.begin(key, otherFingerprint));
+
+        // then
+        assertThat(inFlight.isInFlight()).isTrue();
+        assertThat(reused.isInFlight()).isFalse();
+    }
+
+    @Test
+    void GIVEN_AbandonedKey_MUST_AllowRetry() {
+
+        // given
+        var store = new IdempotencyStore(mock(IdempotencyRepository.class), new ObjectMapper(), 60, 30, 10, false);
+        var key = UUID.randomUUID().toString();
+        store.begin(key, "fingerprint");
+
+        // when
+        store.abandon(key);
+
+        // then
+        assertThat(store.begin(key, "fingerprint")).isEqualTo(PROCEED);
+    }
+
+    @Test
+    void GIVEN_InProgressKeyPastLease_MUST_AllowRetry() {
+
+        // given
+        var store = new IdempotencyStore(mock(IdempotencyRepository.class), new ObjectMapper(), 60, 0, 10, false);
+        var key = UUID.randomUUID().toString();
+        store.begin(key, "fingerprint");
+
+        // when
+        var retry = store.begin(key, "fingerprint");
+
+        // then
+        assertThat(retry).isEqualTo(PROCEED);
+    }
+
+    @Test
+    void GIVEN_LookupFails_MUST_ReleaseKey() {
+
+        // given
+        var repository = mock(IdempotencyRepository.class);
+        var store = new IdempotencyStore(repository, new ObjectMapper(), 60, 30, 10, true);
+        var key = UUID.randomUUID().toString();
+        when(repository.findFingerprint(key))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"))
+                .thenReturn(Optional.empty());
+
+        // when
+        assertThrows(DataAccessResourceFailureException.class, () -> store.begin(key, "fingerprint"));
+
+        // then
+        assertThat(store.begin(key, "fingerprint")).isEqualTo(PROCEED);
+    }
+
+    @Test
+    void GIVEN_PersistentKeyFromAnotherNode_MUST_Replay() {
+
+        // given
+        var repository = new IdempotencyRepository(new DataSourceMock());
+        var key = UUID.randomUUID().toString();
+        var otherNode = new IdempotencyStore(repository, new ObjectMapper(), 60, 30, 10, true);
+        var thisNode = new IdempotencyStore(repository, new ObjectMapper(), 60, 30, 10, true);
+        otherNode.begin(key, "fingerprint");
+        otherNode.persist(key, "fingerprint");
+        otherNode.complete(key, "fingerprint");
+
+        // when
+        var outcome = thisNode.begin(key, "fingerprint");
+        var duplicate = assertThrows(IdempotencyException.class, () -> thisNode.persist(key, "fingerprint"));
+
+        // then
+        assertThat(outcome).isEqualTo(REPLAY);
+        assertThat(duplicate.isInFlight()).isTrue();
+    }
+}
@@ -0,0 +1,97 @@
+package org.seariver.kanbanboard.commom.jdbc;
+
+import helper.DataSourceMock;
+import helper.TestHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.seariver.kanbanboard.commom.observable.SqlStatistics;
+import org.seariver.kanbanboard.write.adapter.out.WriteCardRepositoryImpl;
+import org.seariver.kanbanboard.write.application.domain.Card;
+import org.seariver.kanbanboard.write.application.exception.DuplicatedDataException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Tag("unit")
+class InstrumentedJdbcTemplateTest extends TestHelper {
+
+    @AfterEach
+    void tearDown() {
+        SqlStatistics.end();
+    }
+
+    @Test
+    void GIVEN_CurrentEvent_MUST_CountStatementsRowsAndTime() {
+
+        // given
+        var jdbcTemplate = new NamedParameterJdbcTemplate(new InstrumentedJdbcTemplate(new DataSourceMock()));
+        var statistics = SqlStatistics.begin(1);
+
+        // when
+        var buckets = jdbcTemplate.queryForList("SELECT id FROM bucket WHERE id IN (1, 2)",
+                new MapSqlParameterSource(), Long.class);
+        jdbcTemplate.update("UPDATE bucket SET name = name WHERE id IN (1, 2)", new MapSqlParameterSource());
+
+        // then
+        assertThat(buckets).hasSize(2);
+        assertThat(statistics.getStatements()).isEqualTo(2);
+        assertThat(statistics.getRows()).isEqualTo(4);
+        assertThat(statistics.getDatabaseTimeInNano()).isPositive();
+        assertThat(statistics.isOverBudget()).isTrue();
+    }
+
+    @Test
+    void GIVEN_CustomExtractor_MUST_CountRowsItMovesOnto() {
+
+        // given
+        var jdbcTemplate = new NamedParameterJdbcTemplate(new InstrumentedJdbcTemplate(new DataSourceMock()));
+        var statistics = SqlStatistics.begin(1);
+
+        // when
+        var first = jdbcTemplate.query("SELECT id FROM bucket WHERE id IN (1, 2) ORDER BY id",
+                new MapSqlParameterSource(), resultSet -> resultSet.next() ? resultSet.getLong("id") : null);
+
+        // then
+        assertThat(first).isEqualTo(1L);
+        assertThat(statistics.getRows()).isEqualTo(1);
+    }
+
+    @Test
+    void GIVEN_DuplicatedCard_MUST_ExposeExtraLookupStatement() {
+
+        // given
+        var repository = new WriteCardRepositoryImpl(new DataSourceMock());
+        var duplicated = new Card()
+                .setBucketId(1L)
+                .setCardExternalId(UUID.fromString("021944cd-f516-4432-ba8d-44a312267c7d"))
+                .setPosition(faker.number().randomDouble(3, 20000, 21000))
+                .setName(faker.pokemon().name());
+        var statistics = SqlStatistics.begin(0);
+
+        // when
+        assertThrows(DuplicatedDataException.class, () -> repository.create(duplicated));
+
+        // then
+        assertThat(statistics.getStatements()).isEqualTo(2);
+        assertThat(statistics.isOverBudget()).isFalse();
+    }
+
+    @Test
+    void GIVEN_NoCurrentEvent_MUST_RunWithoutCollecting() {
+
+        // given
+        var jdbcTemplate = new NamedParameterJdbcTemplate(new InstrumentedJdbcTemplate(new DataSourceMock()));
+
+        // when
+        var count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bucket", new MapSqlParameterSource(), Integer.class);
+
+        // then
+        assertThat(count).isPositive();
+        assertThat(SqlStatistics.current()).isNull();
+    }
+}
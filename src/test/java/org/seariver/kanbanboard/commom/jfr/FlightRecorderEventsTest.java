@@ -0,0 +1,111 @@
+package org.seariver.kanbanboard.commom.jfr;
+
+import helper.DataSourceMock;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.seariver.kanbanboard.commom.jdbc.InstrumentedNamedParameterJdbcTemplate;
+import org.seariver.kanbanboard.write.application.service.DeleteCardCommand;
+import org.seariver.kanbanboard.write.observable.CommandEvent;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+class FlightRecorderEventsTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void WHEN_RepositoryRunsStatement_MUST_RecordSqlExecution() throws IOException {
+
+        // given
+        var jdbcTemplate = new InstrumentedNamedParameterJdbcTemplate(new DataSourceMock(), FlightRecorderEventsTest.class);
+        var sql = "UPDATE bucket SET name = name WHERE id IN (:ids)";
+
+        // when
+        var events = record(SqlExecutionEvent.class, () ->
+                jdbcTemplate.update(sql, new MapSqlParameterSource("ids", List.of(1L, 2L))));
+
+        // then
+        assertThat(events).hasSize(1);
+        var event = events.get(0);
+        assertThat(event.getString("repository")).isEqualTo("FlightRecorderEventsTest");
+        assertThat(event.getString("sql")).isEqualTo("UPDATE bucket SET name = name WHERE id IN (?, ?)");
+        assertThat(event.getLong("rows")).isEqualTo(2);
+    }
+
+    @Test
+    void WHEN_CommandCompletes_MUST_RecordDispatchWithAggregateId() throws IOException {
+
+        // given
+        var cardExternalId = UUID.randomUUID().toString();
+        var commandEvent = new CommandEvent(new DeleteCardCommand(cardExternalId, false));
+
+        // when
+        var events = record(CommandDispatchEvent.class, () -> {
+            var dispatchEvent = DispatchEvents.begin(commandEvent);
+            commandEvent.stopTimer();
+            DispatchEvents.complete(dispatchEvent, commandEvent);
+        });
+
+        // then
+        assertThat(events).hasSize(1);
+        var event = events.get(0);
+        assertThat(event.getString("command")).isEqualTo(DeleteCardCommand.class.getCanonicalName());
+        assertThat(event.getString("aggregateId")).isEqualTo(cardExternalId);
+        assertThat(event.getBoolean("succeeded")).isTrue();
+    }
+
+    @Test
+    void GIVEN_DisabledEvent_MUST_NotRecordIt() throws IOException {
+
+        // given
+        var commandEvent = new CommandEvent(new DeleteCardCommand(UUID.randomUUID().toString(), false));
+
+        // when
+        List<RecordedEvent> events;
+        try (var recording = new Recording()) {
+            recording.disable(CommandDispatchEvent.class);
+            recording.start();
+            DispatchEvents.complete(DispatchEvents.begin(commandEvent), commandEvent);
+            recording.stop();
+            events = read(recording, CommandDispatchEvent.class);
+        }
+
+        // then
+        assertThat(events).isEmpty();
+    }
+
+    private List<RecordedEvent> record(Class<? extends jdk.jfr.Event> type, Runnable action) throws IOException {
+
+        try (var recording = new Recording()) {
+            recording.enable(type).withoutThreshold();
+            recording.start();
+            action.run();
+            recording.stop();
+            return read(recording, type);
+        }
+    }
+
+    private List<RecordedEvent> read(Recording recording, Class<? extends jdk.jfr.Event> type) throws IOException {
+
+        var file = directory.resolve(UUID.randomUUID() + ".jfr");
+        recording.dump(file);
+        var name = type.getAnnotation(jdk.jfr.Name.class).value();
+
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+    }
+}
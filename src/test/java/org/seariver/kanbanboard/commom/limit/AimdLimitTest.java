@@ -0,0 +1,133 @@
+package org.seariver.kanbanboard.commom.limit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+class AimdLimitTest {
+
+    private static final long MILLI = 1_000_000L;
+
+    @Test
+    void GIVEN_LimitReached_MUST_RejectAndCount() {
+
+        // given
+        var limit = new AimdLimit(2, 1, 10, 2.0);
+
+        // when
+        var first = limit.tryAcquire();
+        var second = limit.tryAcquire();
+        var third = limit.tryAcquire();
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(limit.getInFlight()).isEqualTo(2);
+        assertThat(limit.getRejected()).isEqualTo(1);
+    }
+
+    @Test
+    void GIVEN_SaturatedAndFastWindow_MUST_IncreaseByOneWhenItCloses() {
+
+        // given
+        var limit = new AimdLimit(2, 1, 10, 2.0);
+
+        // when
+        calls(limit, AimdLimit.DECISION_WINDOW - 1, 10 * MILLI);
+        var beforeWindowCloses = limit.getLimit();
+        calls(limit, 1, 10 * MILLI);
+
+        // then
+        assertThat(beforeWindowCloses).isEqualTo(2);
+        assertThat(limit.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    void GIVEN_WindowP90AboveTolerance_MUST_BackOffOnceButIgnoreASingleSlowCall() {
+
+        // given a first window setting a 10 ms baseline
+        var limit = new AimdLimit(10, 2, 20, 2.0);
+        calls(limit, AimdLimit.DECISION_WINDOW, 10 * MILLI);
+
+        // when a tenth of the next window is five times slower
+        calls(limit, AimdLimit.DECISION_WINDOW - 4, 10 * MILLI);
+        calls(limit, 4, 50 * MILLI);
+        var afterSlowWindow = limit.getLimit();
+        calls(limit, AimdLimit.DECISION_WINDOW - 1, 10 * MILLI);
+        calls(limit, 1, 50 * MILLI);
+
+        // then
+        assertThat(afterSlowWindow).isEqualTo(9);
+        assertThat(limit.getLimit()).isEqualTo(9);
+    }
+
+    @Test
+    void GIVEN_Failures_MUST_BackOffRightAwayDownToMinimum() {
+
+        // given
+        var limit = new AimdLimit(10, 8, 20, 2.0);
+
+        // when
+        limit.tryAcquire();
+        limit.release(10 * MILLI, true);
+        var afterFailure = limit.getLimit();
+        for (var call = 0; call < 10; call++) {
+            limit.tryAcquire();
+            limit.release(10 * MILLI, true);
+        }
+
+        // then
+        assertThat(afterFailure).isEqualTo(9);
+        assertThat(limit.getLimit()).isEqualTo(8);
+    }
+
+    @Test
+    void GIVEN_FastDomainErrorsAndCacheHits_MUST_KeepBaselineAtNormalLatency() {
+
+        // given
+        var limit = new AimdLimit(10, 2, 20, 2.0);
+
+        // when
+        for (var call = 0; call < 300; call++) {
+            limit.tryAcquire();
+            var shortcut = call % 3 != 0;
+            limit.release(shortcut ? MILLI : 10 * MILLI, false, !shortcut);
+        }
+
+        // then
+        assertThat(limit.getBaselineInNano()).isEqualTo(10 * MILLI);
+        assertThat(limit.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void GIVEN_SteadyLongTailedLatency_MUST_FollowItsP90WithoutBackingOff() {
+
+        // given
+        var limit = new AimdLimit(10, 2, 20, 2.0);
+        long[] pattern = {MILLI, 10 * MILLI, 10 * MILLI, 12 * MILLI, 40 * MILLI};
+
+        // when
+        for (var call = 0; call < AimdLimit.BASELINE_WINDOW * 2; call++) {
+            limit.tryAcquire();
+            limit.release(pattern[call % pattern.length], false);
+        }
+        var settled = limit.getBaselineInNano();
+        var settledLimit = limit.getLimit();
+        calls(limit, AimdLimit.BASELINE_WINDOW, 30 * MILLI);
+
+        // then
+        assertThat(settled).isEqualTo(40 * MILLI);
+        assertThat(settledLimit).isEqualTo(10);
+        assertThat(limit.getBaselineInNano()).isEqualTo(30 * MILLI);
+    }
+
+    private static void calls(AimdLimit limit, int count, long latencyInNano) {
+        for (var call = 0; call < count; call++) {
+            limit.tryAcquire();
+            limit.release(latencyInNano, false);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package org.seariver.kanbanboard.commom.limit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.seariver.kanbanboard.commom.exception.ServiceOverloadedException;
+import org.seariver.kanbanboard.commom.exception.ServiceOverloadedExceptionMapper;
+import org.seariver.kanbanboard.read.application.service.ListAllBucketQuery;
+import org.seariver.kanbanboard.read.observable.QueryEvent;
+import org.seariver.kanbanboard.write.application.service.DeleteCardCommand;
+import org.seariver.kanbanboard.write.observable.CommandEvent;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Tag("unit")
+class ConcurrencyLimitsTest {
+
+    @Test
+    void GIVEN_Disabled_MUST_NeverReject() {
+
+        // given
+        var limits = new ConcurrencyLimits(false, 1, 1, 1, 2.0, 1);
+        var query = new QueryEvent(new ListAllBucketQuery());
+
+        // when
+        var first = limits.acquire(query);
+        var second = limits.acquire(query);
+
+        // then
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+        assertThat(limits.scrape()).isEmpty();
+    }
+
+    @Test
+    void GIVEN_QueryTypeAtLimit_MUST_RejectItButStillAdmitCommands() {
+
+        // given
+        var limits = new ConcurrencyLimits(true, 1, 1, 10, 2.0, 3);
+        limits.acquire(new QueryEvent(new ListAllBucketQuery()));
+
+        // when
+        var exception = assertThrows(ServiceOverloadedException.class,
+                () -> limits.acquire(new QueryEvent(new ListAllBucketQuery())));
+        var command = limits.acquire(new CommandEvent(new DeleteCardCommand(UUID.randomUUID().toString(), false)));
+
+        // then
+        assertThat(exception.getEventType()).isEqualTo("ListAllBucketQuery");
+        assertThat(exception.getStackTrace()).isEmpty();
+        assertThat(command).isNotNull();
+        assertThat(limits.scrape())
+                .contains("kanbanboard_concurrency_rejected_total{event=\"ListAllBucketQuery\"} 1")
+                .contains("kanbanboard_concurrency_limit{event=\"DeleteCardCommand\",state=\"in_flight\"} 1");
+    }
+
+    @Test
+    void GIVEN_CacheHit_MUST_ReleaseWithoutMovingBaseline() {
+
+        // given
+        var limits = new ConcurrencyLimits(true, 10, 1, 10, 2.0, 1);
+        var event = new QueryEvent(new ListAllBucketQuery());
+        var limit = limits.acquire(event);
+        event.setCached(true);
+        event.stopTimer();
+
+        // when
+        limits.release(limit, event);
+
+        // then
+        assertThat(limit.getInFlight()).isZero();
+        assertThat(limit.getBaselineInNano()).isZero();
+    }
+
+    @Test
+    void GIVEN_IdempotentReplays_MUST_NotCountAsSamples() {
+
+        // given
+        var limits = new ConcurrencyLimits(true, 2, 1, 10, 2.0, 1);
+        AimdLimit limit = null;
+
+        // when
+        for (var call = 0; call < AimdLimit.DECISION_WINDOW; call++) {
+            var event = new CommandEvent(new DeleteCardCommand(UUID.randomUUID().toString(), false));
+            limit = limits.acquire(event);
+            event.setReplayed(true);
+            event.stopTimer();
+            limits.release(limit, event);
+        }
+
+        // then
+        assertThat(limit.getInFlight()).isZero();
+        assertThat(limit.getLimit()).isEqualTo(2);
+        assertThat(limit.getBaselineInNano()).isZero();
+    }
+
+    @Test
+    void WHEN_Mapping_MUST_AnswerServiceUnavailableWithRetryAfter() {
+
+        // given
+        var exception = new ServiceOverloadedException("ListAllBucketQuery", 4, 3);
+
+        // when
+        var response = new ServiceOverloadedExceptionMapper().toResponse(exception);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeaderString("Retry-After")).isEqualTo("3");
+    }
+}
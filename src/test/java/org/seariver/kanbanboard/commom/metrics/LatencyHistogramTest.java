@@ -0,0 +1,45 @@
+package org.seariver.kanbanboard.commom.metrics;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@Tag("unit")
+class LatencyHistogramTest {
+
+    @Test
+    void WHEN_RecordingUniformValues_MUST_ReportPercentilesWithinBucketPrecision() {
+
+        // given
+        var histogram = new LatencyHistogram();
+
+        // when
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1_000);
+        }
+
+        // then
+        assertThat(histogram.getCount()).isEqualTo(100_000);
+        assertThat(histogram.getMaxInNano()).isEqualTo(100_000_000);
+        assertThat((double) histogram.valueAtPercentile(50)).isCloseTo(50_000_000, within(50_000_000 * 0.04));
+        assertThat((double) histogram.valueAtPercentile(99)).isCloseTo(99_000_000, within(99_000_000 * 0.04));
+        assertThat(histogram.valueAtPercentile(100)).isEqualTo(100_000_000);
+    }
+
+    @Test
+    void GIVEN_NothingRecorded_MUST_ReportZero() {
+        assertThat(new LatencyHistogram().valueAtPercentile(99)).isZero();
+    }
+
+    @Test
+    void WHEN_MappingValues_MUST_KeepBucketBoundsContiguous() {
+
+        for (var index = 1; index < LatencyHistogram.BUCKETS; index++) {
+            var previousUpper = LatencyHistogram.highestEquivalentValue(index - 1);
+            assertThat(LatencyHistogram.indexOf(previousUpper)).isEqualTo(index - 1);
+            assertThat(LatencyHistogram.indexOf(previousUpper + 1)).isEqualTo(index);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package org.seariver.kanbanboard.commom.metrics;
+
+import helper.IntegrationHelper;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static javax.ws.rs.core.Response.Status.OK;
+import static org.hamcrest.Matchers.containsString;
+
+@QuarkusTest
+class MetricsIT extends IntegrationHelper {
+
+    @Test
+    void GIVEN_ServedQuery_MUST_ExposeItsLatency() {
+
+        given().when().get("/v1/buckets").then().statusCode(OK.getStatusCode());
+
+        given()
+                .when()
+                .get("/v1/metrics")
+                .then()
+                .statusCode(OK.getStatusCode())
+                .contentType(containsString("text/plain"))
+                .body(containsString("kanbanboard_event_duration_seconds_count{event=\"ListAllBucketQuery\",outcome=\"success\"}"))
+                .body(containsString("kanbanboard_event_allocated_bytes_count{event=\"ListAllBucketQuery\"}"))
+                .body(containsString("kanbanboard_connection_acquire_seconds_count"));
+    }
+}
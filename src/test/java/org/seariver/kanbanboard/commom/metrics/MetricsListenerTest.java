@@ -0,0 +1,110 @@
+package org.seariver.kanbanboard.commom.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.seariver.kanbanboard.commom.observable.AllocationMeter;
+import org.seariver.kanbanboard.commom.observable.InternalEvent;
+import org.seariver.kanbanboard.read.application.service.ListAllBucketQuery;
+import org.seariver.kanbanboard.read.observable.QueryEvent;
+import org.seariver.kanbanboard.write.application.exception.BucketNotExistentException;
+import org.seariver.kanbanboard.write.application.service.DeleteCardCommand;
+import org.seariver.kanbanboard.write.observable.CommandEvent;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.seariver.kanbanboard.commom.metrics.MetricsListener.Outcome.DOMAIN_ERROR;
+import static org.seariver.kanbanboard.commom.metrics.MetricsListener.Outcome.FAILURE;
+import static org.seariver.kanbanboard.commom.metrics.MetricsListener.Outcome.SUCCESS;
+import static org.seariver.kanbanboard.write.application.exception.WriteException.Error.BUCKET_NOT_EXIST;
+
+@Tag("unit")
+class MetricsListenerTest {
+
+    @AfterEach
+    void tearDown() {
+        AllocationMeter.setEnabled(true);
+    }
+
+    @Test
+    void WHEN_EventsOccur_MUST_RecordThemPerOriginAndOutcome() {
+
+        // given
+        var listener = new MetricsListener();
+        var command = new DeleteCardCommand(UUID.randomUUID().toString(), false);
+        var success = new CommandEvent(command);
+        var domainError = new CommandEvent(command);
+        domainError.setException(new BucketNotExistentException(BUCKET_NOT_EXIST));
+        var failure = new QueryEvent(new ListAllBucketQuery());
+        failure.setException(new IllegalStateException("boom"));
+
+        // when
+        for (var event : new InternalEvent[]{success, domainError, failure}) {
+            event.stopTimer();
+            listener.onEventOccur(event);
+        }
+
+        // then
+        var commandOrigin = DeleteCardCommand.class.getCanonicalName();
+        assertThat(listener.histogram(commandOrigin, SUCCESS).getCount()).isEqualTo(1);
+        assertThat(listener.histogram(commandOrigin, DOMAIN_ERROR).getCount()).isEqualTo(1);
+        assertThat(listener.histogram(ListAllBucketQuery.class.getCanonicalName(), FAILURE).getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void WHEN_Scraping_MUST_RenderPrometheusSummary() {
+
+        // given
+        var listener = new MetricsListener();
+        var event = new QueryEvent(new ListAllBucketQuery());
+        event.stopTimer();
+        listener.onEventOccur(event);
+
+        // when
+        var output = listener.scrape();
+
+        // then
+        assertThat(output)
+                .contains("# TYPE kanbanboard_event_duration_seconds summary")
+                .contains("kanbanboard_event_duration_seconds{event=\"ListAllBucketQuery\",outcome=\"success\",quantile=\"0.99\"} ")
+                .contains("kanbanboard_event_duration_seconds_count{event=\"ListAllBucketQuery\",outcome=\"success\"} 1")
+                .doesNotContain("outcome=\"failure\"");
+    }
+
+    @Test
+    void WHEN_EventAllocates_MUST_RecordBytesPerOrigin() {
+
+        // given
+        var listener = new MetricsListener();
+        var event = new QueryEvent(new ListAllBucketQuery());
+        var garbage = new byte[64 * 1024];
+        event.stopTimer();
+
+        // when
+        listener.onEventOccur(event);
+
+        // then
+        assertThat(garbage).hasSize(64 * 1024);
+        assertThat(event.getAllocatedBytes()).isGreaterThanOrEqualTo(64 * 1024);
+        assertThat(listener.allocation(ListAllBucketQuery.class.getCanonicalName()).getCount()).isEqualTo(1);
+        assertThat(listener.scrape()).contains("kanbanboard_event_allocated_bytes_count{event=\"ListAllBucketQuery\"} 1");
+    }
+
+    @Test
+    void GIVEN_AllocationSwitchedOff_MUST_NotMeasureBytes() {
+
+        // given
+        AllocationMeter.setEnabled(false);
+        var listener = new MetricsListener();
+        var event = new QueryEvent(new ListAllBucketQuery());
+        event.stopTimer();
+
+        // when
+        listener.onEventOccur(event);
+
+        // then
+        assertThat(event.getAllocatedBytes()).isEqualTo(-1);
+        assertThat(listener.scrape()).doesNotContain("kanbanboard_event_allocated_bytes");
+    }
+}
@@ -0,0 +1,83 @@
+package org.seariver.kanbanboard.commom.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import helper.DataSourceMock;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.seariver.kanbanboard.write.application.service.MoveCardCommand;
+import org.seariver.kanbanboard.write.application.service.ReorderBucketCommand;
+
+import javax.enterprise.event.Event;
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@Tag("unit")
+class BoardChangeNotifierTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void WHEN_BuildingPayload_MUST_CarryVersionAndChangedIds() throws Exception {
+
+        // given
+        var bucketExternalId = UUID.randomUUID().toString();
+        var cardExternalId = UUID.randomUUID().toString();
+        var command = new MoveCardCommand(bucketExternalId, cardExternalId, 1.5);
+        var notifier = new BoardChangeNotifier(new DataSourceMock(), mapper, true, "board_changed");
+
+        // when
+        var payload = notifier.payload(42, "MoveCardCommand", command);
+
+        // then
+        var event = listener().parse(payload);
+        assertThat(event.getVersion()).isEqualTo(42);
+        assertThat(event.getEventType()).isEqualTo("MoveCardCommand");
+        assertThat(event.getIds()).containsExactlyInAnyOrder(bucketExternalId, cardExternalId);
+    }
+
+    @Test
+    void GIVEN_TooManyIds_MUST_FallBackToFullInvalidation() {
+
+        // given
+        List<String> bucketExternalIds = new ArrayList<>();
+        for (var index = 0; index < 300; index++) {
+            bucketExternalIds.add(UUID.randomUUID().toString());
+        }
+        var command = new ReorderBucketCommand(bucketExternalIds);
+        var notifier = new BoardChangeNotifier(new DataSourceMock(), mapper, true, "board_changed");
+
+        // when
+        var payload = notifier.payload(7, "ReorderBucketCommand", command);
+
+        // then
+        assertThat(payload.length()).isLessThanOrEqualTo(BoardChangeNotifier.MAX_PAYLOAD_LENGTH);
+        assertThat(listener().parse(payload).isEverything()).isTrue();
+    }
+
+    @Test
+    void GIVEN_Disabled_MUST_NotTouchDatabase() {
+
+        // given
+        var dataSource = mock(DataSource.class);
+        var notifier = new BoardChangeNotifier(dataSource, mapper, false, "board_changed");
+
+        // when
+        notifier.notifyChange(1, "MoveCardCommand", new Object());
+
+        // then
+        verifyNoInteractions(dataSource);
+    }
+
+    @SuppressWarnings("unchecked")
+    private BoardChangeListener listener() {
+        return new BoardChangeListener(mock(Event.class), mapper, false, "board_changed", 500,
+                Optional.empty(), Optional.empty(), Optional.empty());
+    }
+}
@@ -0,0 +1,62 @@
+package org.seariver.kanbanboard.commom.observable;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+class AsyncLogWriterTest {
+
+    @Test
+    void WHEN_Closing_MUST_WriteEverythingQueued() {
+
+        // given
+        List<Integer> written = new CopyOnWriteArrayList<>();
+        var writer = new AsyncLogWriter<Integer>("test-writer", 100, written::add);
+
+        // when
+        for (var record = 0; record < 50; record++) {
+            writer.offer(record);
+        }
+        writer.close();
+
+        // then
+        assertThat(written).hasSize(50);
+        assertThat(writer.getDropped()).isZero();
+    }
+
+    @Test
+    void GIVEN_FullQueue_MUST_DropAndCountInsteadOfBlocking() throws InterruptedException {
+
+        // given
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var writer = new AsyncLogWriter<Integer>("test-writer", 1, record -> {
+            started.countDown();
+            try {
+                release.await(5, SECONDS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        writer.offer(0);
+        assertThat(started.await(5, SECONDS)).isTrue();
+
+        // when
+        var queued = writer.offer(1);
+        var dropped = writer.offer(2);
+
+        // then
+        assertThat(queued).isTrue();
+        assertThat(dropped).isFalse();
+        assertThat(writer.getDropped()).isEqualTo(1);
+        release.countDown();
+        writer.close();
+    }
+}
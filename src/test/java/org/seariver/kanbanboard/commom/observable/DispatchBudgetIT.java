@@ -0,0 +1,89 @@
+package org.seariver.kanbanboard.commom.observable;
+
+import helper.IntegrationHelper;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+import org.seariver.kanbanboard.read.application.service.ListAllBucketQuery;
+import org.seariver.kanbanboard.write.application.service.CreateBucketCommand;
+import org.seariver.kanbanboard.write.application.service.CreateCardCommand;
+import org.seariver.kanbanboard.write.application.service.MoveCardCommand;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.inject.Inject;
+import java.util.Map;
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static io.restassured.http.ContentType.JSON;
+import static javax.ws.rs.core.Response.Status.NO_CONTENT;
+import static javax.ws.rs.core.Response.Status.OK;
+
+/**
+ * Fails when a change makes a hot path issue more SQL or allocate noticeably more than it does today. Allocation
+ * budgets leave about twice the measured cost as headroom; statement budgets are exact.
+ */
+@QuarkusTest
+class DispatchBudgetIT extends IntegrationHelper {
+
+    private static final int MOVE_CARD_STATEMENTS = 4;
+    private static final long MOVE_CARD_BYTES = 96 * 1024;
+    private static final int LIST_BUCKETS_STATEMENTS = 1;
+    private static final long LIST_BUCKETS_BYTES = 64 * 1024;
+    private static final long LIST_BUCKETS_BYTES_PER_CARD = 12 * 1024;
+
+    @Inject
+    ServiceBus serviceBus;
+
+    @Test
+    void WHEN_MovingCard_MUST_StayWithinBudget() {
+
+        // setup
+        var bucketId = UUID.randomUUID().toString();
+        var cardId = UUID.randomUUID().toString();
+        serviceBus.execute(new CreateBucketCommand(bucketId, position(), faker.pokemon().name()));
+        serviceBus.execute(new CreateCardCommand(bucketId, cardId, position(), faker.pokemon().name()));
+        serviceBus.execute(new MoveCardCommand(bucketId, cardId, position()));
+
+        // verify
+        budget.measure(MoveCardCommand.class, () -> serviceBus.execute(new MoveCardCommand(bucketId, cardId, position())))
+                .statementsAtMost(MOVE_CARD_STATEMENTS)
+                .allocatedBytesAtMost(MOVE_CARD_BYTES);
+
+        budget.measure(MoveCardCommand.class, () -> given()
+                .contentType(JSON)
+                .body(Map.of("bucketId", bucketId, "position", position()))
+                .when()
+                .patch("/v1/cards/{cardExternalId}/move", cardId)
+                .then()
+                .statusCode(NO_CONTENT.getStatusCode()))
+                .statementsAtMost(MOVE_CARD_STATEMENTS)
+                .allocatedBytesAtMost(MOVE_CARD_BYTES);
+    }
+
+    @Test
+    void WHEN_ListingBuckets_MUST_StayWithinBudgetPerCard() {
+
+        // setup
+        var bucketId = UUID.randomUUID().toString();
+        serviceBus.execute(new CreateBucketCommand(bucketId, position(), faker.pokemon().name()));
+
+        for (var index = 0; index < 200; index++) {
+            serviceBus.execute(new CreateCardCommand(
+                    bucketId, UUID.randomUUID().toString(), position(), faker.pokemon().name()));
+        }
+
+        Runnable listBuckets = () -> given().when().get("/v1/buckets").then().statusCode(OK.getStatusCode());
+        listBuckets.run();
+
+        // verify
+        var usage = budget.measure(ListAllBucketQuery.class, listBuckets);
+        var cards = new JdbcTemplate(dataSource).queryForObject("SELECT COUNT(*) FROM card", Long.class);
+
+        usage.statementsAtMost(LIST_BUCKETS_STATEMENTS)
+                .allocatedBytesAtMost(LIST_BUCKETS_BYTES + cards * LIST_BUCKETS_BYTES_PER_CARD);
+    }
+
+    private static double position() {
+        return faker.number().randomDouble(3, 300_000, 400_000);
+    }
+}
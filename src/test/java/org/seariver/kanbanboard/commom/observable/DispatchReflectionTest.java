@@ -0,0 +1,61 @@
+package org.seariver.kanbanboard.commom.observable;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.seariver.kanbanboard.read.application.service.Query;
+import org.seariver.kanbanboard.read.application.service.Resolver;
+import org.seariver.kanbanboard.write.application.service.Command;
+import org.seariver.kanbanboard.write.application.service.Handler;
+
+import java.io.File;
+import java.lang.reflect.Modifier;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+class DispatchReflectionTest {
+
+    @Test
+    void GIVEN_DispatchablesOnClasspath_MUST_AllBeRegisteredForNativeImage() throws Exception {
+
+        // given
+        var dispatchables = new ArrayList<Class<?>>();
+        dispatchables.addAll(concreteSubtypes(Command.class, Handler.class));
+        dispatchables.addAll(concreteSubtypes(Query.class, Resolver.class));
+
+        // when
+        var registered = DispatchReflection.class.getAnnotation(RegisterForReflection.class).targets();
+
+        // then
+        assertThat(dispatchables).hasSizeGreaterThanOrEqualTo(24);
+        assertThat(registered).containsExactlyInAnyOrderElementsOf(dispatchables);
+    }
+
+    private static List<Class<?>> concreteSubtypes(Class<?>... types) throws URISyntaxException, ClassNotFoundException {
+
+        var packageName = types[0].getPackageName();
+        var directory = new File(types[0].getResource(types[0].getSimpleName() + ".class").toURI()).getParentFile();
+        var classes = new ArrayList<Class<?>>();
+
+        for (var file : directory.listFiles((dir, name) -> name.endsWith(".class") && !name.contains("$"))) {
+
+            var type = Class.forName(packageName + '.' + file.getName().replace(".class", ""));
+
+            if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+                continue;
+            }
+
+            for (var candidate : types) {
+                if (candidate.isAssignableFrom(type)) {
+                    classes.add(type);
+                }
+            }
+        }
+
+        return classes;
+    }
+}
@@ -0,0 +1,59 @@
+package org.seariver.kanbanboard.commom.observable;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.seariver.kanbanboard.commom.exception.ServiceBusInvalidObjectException;
+import org.seariver.kanbanboard.read.application.service.ListAllBucketQuery;
+import org.seariver.kanbanboard.read.application.service.ListAllBucketResolver;
+import org.seariver.kanbanboard.read.observable.QueryEvent;
+import org.seariver.kanbanboard.write.application.service.Command;
+import org.seariver.kanbanboard.write.application.service.DeleteCardCommand;
+import org.seariver.kanbanboard.write.application.service.DeleteCardHandler;
+import org.seariver.kanbanboard.write.observable.CommandEvent;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+@Tag("unit")
+class DispatchRegistryTest {
+
+    private final AtomicInteger lookups = new AtomicInteger();
+    private final DispatchRegistry registry = new DispatchRegistry(type -> {
+        lookups.incrementAndGet();
+        return mock(type);
+    });
+
+    @Test
+    void GIVEN_CommandOrQuery_MUST_FindTargetByNameOncePerType() {
+
+        // given
+        var command = new CommandEvent(new DeleteCardCommand(UUID.randomUUID().toString(), false));
+        var query = new QueryEvent(new ListAllBucketQuery());
+
+        // when
+        var handler = registry.handlerOf(command);
+        var sameHandler = registry.handlerOf(command);
+        var resolver = registry.resolverOf(query);
+
+        // then
+        assertThat(handler).isInstanceOf(DeleteCardHandler.class).isSameAs(sameHandler);
+        assertThat(resolver).isInstanceOf(ListAllBucketResolver.class);
+        assertThat(lookups).hasValue(2);
+    }
+
+    @Test
+    void GIVEN_CommandWithoutHandler_MUST_ThrowInvalidObject() {
+
+        // given
+        var event = new CommandEvent(new Command() {
+        });
+
+        // then
+        assertThrows(ServiceBusInvalidObjectException.class, () -> registry.handlerOf(event));
+        assertThat(lookups).hasValue(0);
+    }
+}
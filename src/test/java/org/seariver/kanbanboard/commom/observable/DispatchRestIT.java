@@ -0,0 +1,151 @@
+package org.seariver.kanbanboard.commom.observable;
+
+import helper.IntegrationHelper;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static io.restassured.http.ContentType.JSON;
+import static javax.ws.rs.core.Response.Status.BAD_REQUEST;
+import static javax.ws.rs.core.Response.Status.CREATED;
+import static javax.ws.rs.core.Response.Status.NOT_FOUND;
+import static javax.ws.rs.core.Response.Status.NO_CONTENT;
+import static javax.ws.rs.core.Response.Status.OK;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+/**
+ * Sends every command and query through the REST API only, creating its own data, so the same scenario also runs
+ * against the native executable in {@link NativeDispatchRestIT}, where nothing can be injected into the test.
+ */
+@QuarkusTest
+class DispatchRestIT extends IntegrationHelper {
+
+    private static final String BUCKETS_PATH = "/v1/buckets";
+    private static final String BUCKET_PATH = "/v1/buckets/{bucketExternalId}";
+    private static final String CARDS_PATH = "/v1/cards";
+    private static final String CARD_PATH = "/v1/cards/{cardExternalId}";
+
+    @Test
+    void WHEN_RunningEveryCommandAndQuery_MUST_DispatchEachToItsHandler() {
+
+        // setup
+        var todo = UUID.randomUUID().toString();
+        var done = UUID.randomUUID().toString();
+        var kept = UUID.randomUUID().toString();
+        var archived = UUID.randomUUID().toString();
+        var cardName = faker.pokemon().name();
+
+        post(BUCKETS_PATH, Map.of("bucketId", todo, "position", position(), "name", faker.pokemon().name()));
+        post(BUCKETS_PATH, Map.of("bucketId", done, "position", position(), "name", faker.pokemon().name()));
+        post(CARDS_PATH, Map.of("bucketId", todo, "cardId", kept, "position", position(), "name", cardName));
+        post(CARDS_PATH, Map.of("bucketId", todo, "cardId", archived, "position", position(), "name", cardName));
+
+        // verify
+        send("PATCH", CARD_PATH, kept, Map.of("name", cardName, "description", faker.lorem().sentence()));
+        send("PATCH", CARD_PATH + "/move", kept, Map.of("bucketId", done, "position", position()));
+        send("PATCH", BUCKET_PATH, todo, Map.of("name", faker.pokemon().name()));
+        send("PATCH", BUCKET_PATH + "/move", todo, Map.of("position", position()));
+        send("PUT", BUCKET_PATH + "/order", done, List.of(kept));
+        send("PUT", BUCKETS_PATH + "/order", null, bucketIds());
+
+        given()
+                .when()
+                .get(BUCKETS_PATH)
+                .then()
+                .statusCode(OK.getStatusCode())
+                .contentType(JSON)
+                .body("find { it.id == '" + done + "' }.cards.id", hasItem(kept));
+
+        given()
+                .queryParam("archive", true)
+                .when()
+                .delete(CARD_PATH, archived)
+                .then()
+                .statusCode(NO_CONTENT.getStatusCode());
+
+        given()
+                .when()
+                .get(BUCKET_PATH + "/archived-cards", todo)
+                .then()
+                .statusCode(OK.getStatusCode())
+                .contentType(JSON)
+                .body("id", hasItem(archived));
+
+        given().when().delete(BUCKET_PATH, todo).then().statusCode(NO_CONTENT.getStatusCode());
+        given().queryParam("archive", true).when().delete(BUCKET_PATH, done)
+                .then().statusCode(NO_CONTENT.getStatusCode());
+
+        given()
+                .when()
+                .get(BUCKETS_PATH)
+                .then()
+                .statusCode(OK.getStatusCode())
+                .body("id", not(hasItem(done)));
+    }
+
+    @Test
+    void WHEN_CommandFails_MUST_AnswerResponseError() {
+
+        // setup
+        var bucketId = UUID.randomUUID().toString();
+        var payload = Map.of("bucketId", bucketId, "position", position(), "name", faker.pokemon().name());
+        post(BUCKETS_PATH, payload);
+
+        // verify
+        given()
+                .contentType(JSON)
+                .body(payload)
+                .when()
+                .post(BUCKETS_PATH)
+                .then()
+                .statusCode(BAD_REQUEST.getStatusCode())
+                .contentType(JSON)
+                .body("errors[0].field", is("code"));
+
+        given()
+                .when()
+                .delete(CARD_PATH, UUID.randomUUID().toString())
+                .then()
+                .statusCode(NOT_FOUND.getStatusCode())
+                .body("errors[0].field", is("code"));
+    }
+
+    private static void post(String path, Object payload) {
+        given()
+                .contentType(JSON)
+                .body(payload)
+                .when()
+                .post(path)
+                .then()
+                .statusCode(CREATED.getStatusCode());
+    }
+
+    private static void send(String method, String path, String externalId, Object payload) {
+        given()
+                .contentType(JSON)
+                .body(payload)
+                .when()
+                .request(method, path, externalId == null ? new Object[0] : new Object[]{externalId})
+                .then()
+                .statusCode(NO_CONTENT.getStatusCode());
+    }
+
+    private static List<String> bucketIds() {
+
+        List<String> ids = given().when().get(BUCKETS_PATH).then().statusCode(OK.getStatusCode())
+                .extract().path("id");
+
+        return ids == null ? Collections.emptyList() : ids;
+    }
+
+    private static double position() {
+        return faker.number().randomDouble(3, 500_000, 600_000);
+    }
+}
@@ -0,0 +1,93 @@
+package org.seariver.kanbanboard.commom.observable;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.seariver.kanbanboard.read.application.service.ListAllBucketQuery;
+import org.seariver.kanbanboard.read.observable.QueryEvent;
+import org.seariver.kanbanboard.write.application.exception.CardNotExistentException;
+import org.seariver.kanbanboard.write.application.service.DeleteCardCommand;
+import org.seariver.kanbanboard.write.observable.CommandEvent;
+
+import java.io.StringWriter;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.seariver.kanbanboard.write.application.exception.WriteException.Error.CARD_NOT_EXIST;
+
+@Tag("unit")
+class LogListenerTest {
+
+    private LogListener listener;
+
+    @AfterEach
+    void tearDown() {
+        if (listener != null) {
+            listener.onStop(null);
+        }
+    }
+
+    @Test
+    void WHEN_Formatting_MUST_WriteOneJsonLineWithContentAndSqlStatistics() {
+
+        // given
+        listener = new LogListener(1.0, Optional.empty(), 16);
+        var cardExternalId = UUID.randomUUID().toString();
+        var event = new CommandEvent(new DeleteCardCommand(cardExternalId, true));
+        var statistics = SqlStatistics.begin(1);
+        statistics.recordStatement(1_000_000);
+        statistics.recordStatement(1_000_000);
+        statistics.recordRows(3);
+        SqlStatistics.end();
+        event.stopTimer();
+        event.setSqlStatistics(statistics);
+
+        // when
+        var line = listener.format(event, new StringWriter());
+
+        // then
+        assertThat(line)
+                .startsWith("{\"event\":\"" + DeleteCardCommand.class.getCanonicalName() + "\"")
+                .contains("\"cardExternalId\":\"" + cardExternalId + "\"")
+                .contains("\"statements\":2,\"rows\":3,\"databaseTimeInMilli\":2,\"statementBudget\":1")
+                .doesNotContain("\n");
+    }
+
+    @Test
+    void GIVEN_DomainError_MUST_WriteMessageAndErrors() {
+
+        // given
+        listener = new LogListener(1.0, Optional.empty(), 16);
+        var event = new CommandEvent(new DeleteCardCommand(UUID.randomUUID().toString(), false));
+        event.setException(new CardNotExistentException(CARD_NOT_EXIST));
+        event.stopTimer();
+
+        // when
+        var line = listener.format(event, new StringWriter());
+
+        // then
+        assertThat(line).contains("\"message\":").contains("\"errors\":");
+    }
+
+    @Test
+    void GIVEN_TypeSampledOut_MUST_SkipSuccessButKeepErrors() {
+
+        // given
+        listener = new LogListener(1.0, Optional.of("ListAllBucketQuery=0, DeleteCardCommand=0.5"), 16);
+        var success = new QueryEvent(new ListAllBucketQuery());
+        var failure = new QueryEvent(new ListAllBucketQuery());
+        failure.setException(new IllegalStateException("boom"));
+
+        // when
+        var successLogged = listener.shouldLog(success);
+        var failureLogged = listener.shouldLog(failure);
+
+        // then
+        assertThat(successLogged).isFalse();
+        assertThat(failureLogged).isTrue();
+        assertThat(LogListener.parseSampleRates("ListAllBucketQuery=0, DeleteCardCommand=0.5"))
+                .containsEntry("DeleteCardCommand", 0.5)
+                .containsEntry("ListAllBucketQuery", 0.0);
+    }
+}
@@ -0,0 +1,9 @@
+package org.seariver.kanbanboard.commom.observable;
+
+import io.quarkus.test.junit.NativeImageTest;
+
+@NativeImageTest
+class NativeDispatchRestIT extends DispatchRestIT {
+
+    // runs the same scenario against the native executable
+}
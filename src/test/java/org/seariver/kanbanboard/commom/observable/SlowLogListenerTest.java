@@ -0,0 +1,107 @@
+package org.seariver.kanbanboard.commom.observable;
+
+import helper.DataSourceMock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.seariver.kanbanboard.commom.jdbc.InstrumentedNamedParameterJdbcTemplate;
+import org.seariver.kanbanboard.write.application.service.DeleteCardCommand;
+import org.seariver.kanbanboard.write.observable.CommandEvent;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+class SlowLogListenerTest {
+
+    @AfterEach
+    void tearDown() {
+        SqlStatistics.end();
+    }
+
+    @Test
+    void GIVEN_Disabled_MUST_NotCaptureStatements() {
+
+        // given
+        var listener = new SlowLogListener(false, 500, 1.0, 50, 10);
+
+        // when
+        var statistics = SqlStatistics.begin(0, listener.getCaptureLimit());
+
+        // then
+        assertThat(listener.getCaptureLimit()).isZero();
+        assertThat(statistics.isCapturing()).isFalse();
+    }
+
+    @Test
+    void GIVEN_CaptureLimit_MUST_KeepOnlyFirstStatementsWithParameters() {
+
+        // given
+        var jdbcTemplate = new InstrumentedNamedParameterJdbcTemplate(new DataSourceMock());
+        var statistics = SqlStatistics.begin(0, 2);
+
+        // when
+        for (var id = 1L; id <= 3; id++) {
+            jdbcTemplate.queryForList("SELECT name FROM bucket WHERE id = :id",
+                    new MapSqlParameterSource("id", id), String.class);
+        }
+
+        // then
+        assertThat(statistics.getStatements()).isEqualTo(3);
+        assertThat(statistics.getCapturedStatements()).hasSize(2);
+        var first = statistics.getCapturedStatements().get(0);
+        assertThat(first.getSql()).isEqualTo("SELECT name FROM bucket WHERE id = :id");
+        assertThat(first.getElapsedInNano()).isPositive();
+    }
+
+    @Test
+    void WHEN_EventEnds_MUST_KeepCapturedStatementsOnlyWhenRetained() {
+
+        // given
+        var jdbcTemplate = new InstrumentedNamedParameterJdbcTemplate(new DataSourceMock());
+        var fast = SqlStatistics.begin(0, 10);
+        jdbcTemplate.queryForList("SELECT name FROM bucket WHERE id = :id", new MapSqlParameterSource("id", 1L),
+                String.class);
+        SqlStatistics.end();
+        var slow = SqlStatistics.begin(0, 10);
+        jdbcTemplate.queryForList("SELECT name FROM bucket WHERE id = :id", new MapSqlParameterSource("id", 2L),
+                String.class);
+
+        // when
+        slow.retainCaptured();
+        SqlStatistics.end();
+
+        // then
+        assertThat(fast.getCapturedStatements()).isEmpty();
+        assertThat(slow.getCapturedStatements()).hasSize(1);
+        assertThat(slow.getCapturedStatements().get(0).getParameters())
+                .isInstanceOfSatisfying(MapSqlParameterSource.class,
+                        parameters -> assertThat(parameters.getValue("id")).isEqualTo(2L));
+    }
+
+    @Test
+    void WHEN_Formatting_MUST_IncludeCommandSqlParametersAndPoolWait() {
+
+        // given
+        var cardExternalId = UUID.randomUUID().toString();
+        var event = new CommandEvent(new DeleteCardCommand(cardExternalId, false));
+        var jdbcTemplate = new InstrumentedNamedParameterJdbcTemplate(new DataSourceMock());
+        var statistics = SqlStatistics.begin(0, 10);
+        jdbcTemplate.update("UPDATE bucket SET name = name WHERE id = :id", new MapSqlParameterSource("id", 2L));
+        event.stopTimer();
+        event.setSqlStatistics(statistics);
+
+        // when
+        var line = SlowLogListener.format(event);
+
+        // then
+        assertThat(line)
+                .contains(cardExternalId)
+                .contains("UPDATE bucket SET name = name WHERE id = :id")
+                .contains("\"id\":\"2\"")
+                .contains("\"connectionWaitInMilli\"")
+                .contains("\"statements\":1");
+    }
+}
@@ -0,0 +1,46 @@
+package org.seariver.kanbanboard.commom.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import helper.IntegrationHelper;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+import org.seariver.kanbanboard.write.application.service.CreateBucketCommand;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static io.restassured.http.ContentType.JSON;
+import static javax.ws.rs.core.Response.Status.BAD_REQUEST;
+import static javax.ws.rs.core.Response.Status.CREATED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@QuarkusTest
+class OutboxIT extends IntegrationHelper {
+
+    private static final String RESOURCE_PATH = "/v1/buckets";
+
+    @Test
+    void WHEN_CommandSucceeds_MUST_WriteOneOutboxRow_AND_WhenItFails_MUST_WriteNone() {
+
+        // setup
+        var repository = new OutboxRepository(dataSource, new ObjectMapper());
+        var bucketExternalId = UUID.randomUUID().toString();
+        var payload = Map.of(
+                "bucketId", bucketExternalId,
+                "position", faker.number().randomDouble(3, 7000, 8000),
+                "name", faker.pokemon().name());
+
+        // verify
+        given().contentType(JSON).body(payload).when().post(RESOURCE_PATH)
+                .then().statusCode(CREATED.getStatusCode());
+
+        given().contentType(JSON).body(payload).when().post(RESOURCE_PATH)
+                .then().statusCode(BAD_REQUEST.getStatusCode());
+
+        assertThat(repository.findUndelivered("outbox-it-" + UUID.randomUUID(), Integer.MAX_VALUE))
+                .filteredOn(message -> message.getPayload().contains(bucketExternalId))
+                .extracting(OutboxMessage::getEventType)
+                .containsExactly(CreateBucketCommand.class.getCanonicalName());
+    }
+}
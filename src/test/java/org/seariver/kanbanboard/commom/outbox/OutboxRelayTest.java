@@ -0,0 +1,86 @@
+package org.seariver.kanbanboard.commom.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import helper.DataSourceMock;
+import helper.TestHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import javax.enterprise.event.Event;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.atLeastOnce;
+
+@Tag("unit")
+class OutboxRelayTest extends TestHelper {
+
+    private final ArgumentCaptor<OutboxMessage> captor = ArgumentCaptor.forClass(OutboxMessage.class);
+
+    private DataSourceMock dataSource;
+    private OutboxRepository repository;
+    private String relayName;
+
+    @BeforeEach
+    void setup() {
+        dataSource = new DataSourceMock();
+        repository = new OutboxRepository(dataSource, new ObjectMapper());
+        relayName = "relay-" + UUID.randomUUID();
+        repository.createCursorIfAbsent(relayName);
+    }
+
+    @Test
+    void WHEN_Polling_MUST_DeliverMessagesAndRecordThem() {
+
+        // given
+        var eventType = "relay-test-" + UUID.randomUUID();
+        repository.append(eventType, "first");
+        repository.append(eventType, "second");
+        @SuppressWarnings("unchecked")
+        Event<OutboxMessage> publisher = mock(Event.class);
+        var relay = relay(publisher);
+
+        // when
+        var delivered = relay.poll();
+
+        // then
+        assertThat(delivered).isGreaterThanOrEqualTo(2);
+        verify(publisher, atLeastOnce()).fire(captor.capture());
+        assertThat(captor.getAllValues())
+                .filteredOn(message -> message.getEventType().equals(eventType))
+                .extracting(OutboxMessage::getPayload)
+                .containsExactly("\"first\"", "\"second\"");
+        assertThat(repository.findUndelivered(relayName, Integer.MAX_VALUE)).isEmpty();
+        assertThat(relay.poll()).isZero();
+    }
+
+    @Test
+    void WHEN_ObserverFails_MUST_KeepMessageForRedelivery() {
+
+        // given
+        var id = repository.append("relay-failure-" + UUID.randomUUID(), "payload");
+        @SuppressWarnings("unchecked")
+        Event<OutboxMessage> publisher = mock(Event.class);
+        doThrow(new IllegalStateException("consumer down")).when(publisher).fire(any());
+        var relay = relay(publisher);
+
+        // when
+        var delivered = relay.poll();
+
+        // then
+        assertThat(delivered).isZero();
+        assertThat(repository.findUndelivered(relayName, Integer.MAX_VALUE))
+                .extracting(OutboxMessage::getId)
+                .contains(id);
+    }
+
+    private OutboxRelay relay(Event<OutboxMessage> publisher) {
+        return new OutboxRelay(repository, publisher, dataSource, true, relayName, 1000, 10_000, 24);
+    }
+}
@@ -0,0 +1,87 @@
+package org.seariver.kanbanboard.commom.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import helper.DataSourceMock;
+import helper.TestHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.seariver.kanbanboard.write.application.service.CreateBucketCommand;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+class OutboxRepositoryTest extends TestHelper {
+
+    private OutboxRepository repository;
+
+    @BeforeEach
+    void setup() {
+        repository = new OutboxRepository(new DataSourceMock(), new ObjectMapper());
+    }
+
+    @Test
+    void WHEN_AppendingCommand_MUST_StoreSerializedPayload() {
+
+        // given
+        var bucketExternalId = UUID.randomUUID().toString();
+        var command = new CreateBucketCommand(bucketExternalId, 1.5, faker.pokemon().name());
+        var eventType = command.getClass().getCanonicalName() + "#" + bucketExternalId;
+
+        // when
+        var id = repository.append(eventType, command);
+
+        // then
+        var messages = repository.findUndelivered("relay-" + UUID.randomUUID(), Integer.MAX_VALUE);
+        assertThat(messages)
+                .filteredOn(message -> message.getEventType().equals(eventType))
+                .hasSize(1)
+                .allSatisfy(message -> {
+                    assertThat(message.getId()).isEqualTo(id);
+                    assertThat(message.getPayload()).contains(bucketExternalId, "\"position\":1.5");
+                });
+    }
+
+    @Test
+    void WHEN_LowerIdBecomesVisibleAfterHigherOneWasDelivered_MUST_StillReturnIt() {
+
+        // given
+        var relay = "relay-" + UUID.randomUUID();
+        repository.createCursorIfAbsent(relay);
+        repository.createCursorIfAbsent(relay);
+        var lateCommit = repository.append("late-" + UUID.randomUUID(), "{}");
+        var delivered = repository.append("delivered-" + UUID.randomUUID(), "{}");
+
+        // when
+        repository.markDelivered(relay, List.of(delivered));
+
+        // then
+        assertThat(repository.findUndelivered(relay, Integer.MAX_VALUE))
+                .extracting(OutboxMessage::getId)
+                .contains(lateCommit)
+                .doesNotContain(delivered);
+    }
+
+    @Test
+    void WHEN_Purging_MUST_KeepMessagesAnyRelayHasNotDelivered() {
+
+        // given
+        var delivering = "relay-" + UUID.randomUUID();
+        var lagging = "relay-" + UUID.randomUUID();
+        repository.createCursorIfAbsent(delivering);
+        repository.createCursorIfAbsent(lagging);
+        var id = repository.append("purge-" + UUID.randomUUID(), "{}");
+        repository.markDelivered(delivering, List.of(id));
+
+        // when
+        repository.purgeDelivered(0);
+
+        // then
+        assertThat(repository.findUndelivered(lagging, Integer.MAX_VALUE))
+                .extracting(OutboxMessage::getId)
+                .contains(id);
+    }
+}
@@ -0,0 +1,113 @@
+package org.seariver.kanbanboard.commom.tracing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+class TracerTest {
+
+    @AfterEach
+    void tearDown() {
+        Tracer.clear();
+    }
+
+    @Test
+    void GIVEN_NoTrace_MUST_HandOutNoopSpan() {
+
+        // when
+        var span = Tracer.span("sql").attribute("rows", 1);
+        span.close();
+
+        // then
+        assertThat(span.isRecording()).isFalse();
+        assertThat(Tracer.current().isRecording()).isFalse();
+    }
+
+    @Test
+    void WHEN_SpansNest_MUST_BuildTreeAndRestoreParent() {
+
+        // given
+        var trace = Tracer.begin("PUT /cards/1/position", 100);
+
+        // when
+        try (var dispatch = Tracer.span("dispatch")) {
+            try (var sql = Tracer.span("sql")) {
+                sql.attribute("rows", 1);
+            }
+            assertThat(Tracer.current()).isSameAs(dispatch);
+        }
+        try (var listeners = Tracer.span("listeners")) {
+            assertThat(listeners.isRecording()).isTrue();
+        }
+        trace.getRoot().close();
+
+        // then
+        var root = trace.getRoot();
+        assertThat(root.getChildren()).extracting(Span::getName).containsExactly("dispatch", "listeners");
+        assertThat(root.getChildren().get(0).getChildren().get(0).getAttributes()).containsEntry("rows", 1);
+        assertThat(trace.getTraceId()).hasSize(32);
+        assertThat(trace.getDurationInMilli()).isPositive();
+        assertThat(Tracer.current().isRecording()).isFalse();
+    }
+
+    @Test
+    void GIVEN_SpanLimit_MUST_DropAndCountExtraSpans() {
+
+        // given
+        var trace = Tracer.begin("GET /buckets", 3);
+
+        // when
+        for (var index = 0; index < 5; index++) {
+            Tracer.span("sql").close();
+        }
+        trace.getRoot().close();
+
+        // then
+        assertThat(trace.getRoot().getChildren()).hasSize(2);
+        assertThat(trace.getDroppedSpans()).isEqualTo(3);
+    }
+
+    @Test
+    void GIVEN_FullRing_MUST_KeepLatestTracesSlowestFirst() throws InterruptedException {
+
+        // given
+        var recorder = new TraceRecorder(true, 2, 100, Optional.empty(), "kanbanboard");
+
+        // when
+        for (var sleep : new long[]{0, 5, 1}) {
+            var trace = Tracer.begin("GET /buckets", 100);
+            Thread.sleep(sleep);
+            trace.getRoot().close();
+            recorder.record(trace);
+        }
+
+        // then
+        assertThat(recorder.find(0, 10)).hasSize(2);
+        assertThat(recorder.find(0, 10).get(0).getDurationInMilli()).isGreaterThanOrEqualTo(5);
+        assertThat(recorder.find(4, 10)).hasSize(1);
+        assertThat(recorder.find(0, 1)).hasSize(1);
+    }
+
+    @Test
+    void WHEN_Exporting_MUST_EncodeOtlpSpansWithParents() throws Exception {
+
+        // given
+        var trace = Tracer.begin("GET /buckets", 100);
+        Tracer.span("dispatch").close();
+        trace.getRoot().close();
+
+        // when
+        var json = new OtlpExporter("http://localhost:4318/v1/traces", "kanbanboard").toJson(trace);
+
+        // then
+        assertThat(json)
+                .contains("\"traceId\":\"" + trace.getTraceId() + "\"")
+                .contains("\"parentSpanId\":\"" + trace.getRoot().getSpanId() + "\"")
+                .contains("\"stringValue\":\"kanbanboard\"");
+    }
+}
@@ -0,0 +1,29 @@
+package org.seariver.kanbanboard.commom.tracing;
+
+import helper.IntegrationHelper;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static javax.ws.rs.core.Response.Status.NOT_FOUND;
+import static org.hamcrest.Matchers.nullValue;
+
+@QuarkusTest
+class TracingDisabledIT extends IntegrationHelper {
+
+    @Test
+    void GIVEN_TracingDisabled_MUST_NotExposeTraces() {
+
+        given()
+                .when()
+                .get("/v1/buckets")
+                .then()
+                .header(TracingFilter.TRACE_ID_HEADER, nullValue());
+
+        given()
+                .when()
+                .get("/v1/debug/traces")
+                .then()
+                .statusCode(NOT_FOUND.getStatusCode());
+    }
+}
@@ -0,0 +1,40 @@
+package org.seariver.kanbanboard.commom.tracing;
+
+import helper.IntegrationHelper;
+import helper.TracingProfile;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static javax.ws.rs.core.Response.Status.OK;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.notNullValue;
+
+@QuarkusTest
+@TestProfile(TracingProfile.class)
+class TracingIT extends IntegrationHelper {
+
+    @Test
+    void GIVEN_TracedRequest_MUST_ExposeSpanTreeWithDispatchAndSql() {
+
+        var traceId = given()
+                .when()
+                .get("/v1/buckets")
+                .then()
+                .statusCode(OK.getStatusCode())
+                .header(TracingFilter.TRACE_ID_HEADER, notNullValue())
+                .extract().header(TracingFilter.TRACE_ID_HEADER);
+
+        var trace = String.format("find { it.traceId == '%s' }", traceId);
+
+        given()
+                .when()
+                .get("/v1/debug/traces?minDurationMs=0")
+                .then()
+                .statusCode(OK.getStatusCode())
+                .body(trace + ".name", notNullValue())
+                .body(trace + ".root.children.name", hasItem("dispatch"))
+                .body(trace + ".root.children.find { it.name == 'dispatch' }.children.name", hasItem("sql"));
+    }
+}
@@ -0,0 +1,9 @@
+package org.seariver.kanbanboard.read.adapter.in;
+
+import io.quarkus.test.junit.NativeImageTest;
+
+@NativeImageTest
+class NativeReadBucketRestIT extends ReadBucketRestIT {
+
+    // runs the same scenarios against the native executable
+}
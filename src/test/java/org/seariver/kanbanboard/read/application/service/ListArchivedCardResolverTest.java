@@ -0,0 +1,52 @@
+package org.seariver.kanbanboard.read.application.service;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.seariver.kanbanboard.read.application.domain.ArchivedCardDto;
+import org.seariver.kanbanboard.read.application.domain.ReadArchivedCardRepository;
+
+import javax.validation.ConstraintViolationException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Tag("unit")
+public class ListArchivedCardResolverTest {
+
+    @Test
+    void WHEN_QueryForArchivedCards_MUST_RetrieveRequestedPage() {
+
+        // given
+        var bucketExternalId = UUID.randomUUID();
+        var after = UUID.randomUUID();
+        var queryResult = List.of(new ArchivedCardDto(UUID.randomUUID(), 1.5, "Old task", null, LocalDateTime.now()));
+        var repository = mock(ReadArchivedCardRepository.class);
+        when(repository.findByBucketExternalId(bucketExternalId, after, 10)).thenReturn(queryResult);
+        var query = new ListArchivedCardQuery(bucketExternalId.toString(), after.toString(), 10);
+
+        // when
+        var resolver = new ListArchivedCardResolver(repository);
+        resolver.resolve(query);
+
+        // then
+        verify(repository).findByBucketExternalId(bucketExternalId, after, 10);
+        assertThat(query.getResult()).isEqualTo(queryResult);
+    }
+
+    @Test
+    void GIVEN_PageSizeAboveLimit_MUST_RejectQuery() {
+
+        // given
+        var bucketExternalId = UUID.randomUUID().toString();
+        var size = ListArchivedCardQuery.MAX_PAGE_SIZE + 1;
+
+        // then
+        assertThrows(ConstraintViolationException.class, () -> new ListArchivedCardQuery(bucketExternalId, null, size));
+    }
+}
@@ -0,0 +1,126 @@
+package org.seariver.kanbanboard.write.adapter.in;
+
+import helper.IntegrationHelper;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+import org.seariver.kanbanboard.write.adapter.out.WriteBucketRepositoryImpl;
+import org.seariver.kanbanboard.write.adapter.out.WriteCardRepositoryImpl;
+import org.seariver.kanbanboard.write.application.domain.Bucket;
+import org.seariver.kanbanboard.write.application.domain.Card;
+
+import java.util.List;
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static javax.ws.rs.core.Response.Status.NOT_FOUND;
+import static javax.ws.rs.core.Response.Status.NO_CONTENT;
+import static javax.ws.rs.core.Response.Status.OK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+
+@QuarkusTest
+class BucketDeleteIT extends IntegrationHelper {
+
+    public static final String BUCKET_PATH = "/v1/buckets/{bucketExternalId}";
+    public static final String ARCHIVED_CARDS_PATH = "/v1/buckets/{bucketExternalId}/archived-cards";
+
+    @Test
+    void GIVEN_ArchiveMode_MUST_ArchiveEveryCardAndDeleteBucket() {
+
+        // setup
+        var bucketRepository = new WriteBucketRepositoryImpl(dataSource);
+        var cardRepository = new WriteCardRepositoryImpl(dataSource);
+        var bucket = createBucketWithCards(bucketRepository, cardRepository, 3, 16000);
+
+        // verify
+        given()
+                .queryParam("archive", true)
+                .when()
+                .delete(BUCKET_PATH, bucket.getBucketExternalId())
+                .then()
+                .statusCode(NO_CONTENT.getStatusCode());
+
+        assertThat(bucketRepository.findByExternalId(bucket.getBucketExternalId())).isEmpty();
+        assertThat(cardRepository.findByBucketId(bucket.getId())).isEmpty();
+
+        List<String> firstPage = given()
+                .queryParam("size", 2)
+                .when()
+                .get(ARCHIVED_CARDS_PATH, bucket.getBucketExternalId())
+                .then()
+                .statusCode(OK.getStatusCode())
+                .body("$", hasSize(2))
+                .extract().path("id");
+
+        List<String> secondPage = given()
+                .queryParam("after", firstPage.get(1))
+                .queryParam("size", 2)
+                .when()
+                .get(ARCHIVED_CARDS_PATH, bucket.getBucketExternalId())
+                .then()
+                .statusCode(OK.getStatusCode())
+                .body("$", hasSize(1))
+                .extract().path("id");
+
+        assertThat(secondPage).doesNotContainAnyElementsOf(firstPage);
+    }
+
+    @Test
+    void GIVEN_DeleteMode_MUST_DeleteCardsAndBucket() {
+
+        // setup
+        var bucketRepository = new WriteBucketRepositoryImpl(dataSource);
+        var cardRepository = new WriteCardRepositoryImpl(dataSource);
+        var bucket = createBucketWithCards(bucketRepository, cardRepository, 2, 18000);
+
+        // verify
+        given()
+                .when()
+                .delete(BUCKET_PATH, bucket.getBucketExternalId())
+                .then()
+                .statusCode(NO_CONTENT.getStatusCode());
+
+        assertThat(bucketRepository.findByExternalId(bucket.getBucketExternalId())).isEmpty();
+        assertThat(cardRepository.findByBucketId(bucket.getId())).isEmpty();
+
+        given()
+                .when()
+                .get(ARCHIVED_CARDS_PATH, bucket.getBucketExternalId())
+                .then()
+                .statusCode(OK.getStatusCode())
+                .body("$", hasSize(0));
+    }
+
+    @Test
+    void GIVEN_NotExistentBucket_MUST_ReturnNotFound() {
+
+        given()
+                .when()
+                .delete(BUCKET_PATH, UUID.randomUUID().toString())
+                .then()
+                .statusCode(NOT_FOUND.getStatusCode());
+    }
+
+    private Bucket createBucketWithCards(WriteBucketRepositoryImpl bucketRepository,
+                                         WriteCardRepositoryImpl cardRepository,
+                                         int cards,
+                                         int basePosition) {
+
+        var bucketExternalId = UUID.randomUUID();
+        bucketRepository.create(new Bucket()
+                .setBucketExternalId(bucketExternalId)
+                .setPosition(faker.number().randomDouble(3, basePosition, basePosition + 1000))
+                .setName(faker.pokemon().name()));
+        var bucket = bucketRepository.findByExternalId(bucketExternalId).get();
+
+        for (var index = 0; index < cards; index++) {
+            cardRepository.create(new Card()
+                    .setBucketId(bucket.getId())
+                    .setCardExternalId(UUID.randomUUID())
+                    .setPosition(faker.number().randomDouble(3, basePosition + 1000, basePosition + 2000))
+                    .setName(faker.pokemon().name()));
+        }
+
+        return bucket;
+    }
+}
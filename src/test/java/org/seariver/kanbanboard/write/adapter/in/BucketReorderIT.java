@@ -0,0 +1,186 @@
+package org.seariver.kanbanboard.write.adapter.in;
+
+import helper.IntegrationHelper;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+import org.seariver.kanbanboard.write.adapter.out.WriteBucketRepositoryImpl;
+import org.seariver.kanbanboard.write.adapter.out.WriteCardRepositoryImpl;
+import org.seariver.kanbanboard.write.application.domain.Bucket;
+import org.seariver.kanbanboard.write.application.domain.Card;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static io.restassured.RestAssured.given;
+import static io.restassured.http.ContentType.JSON;
+import static javax.ws.rs.core.Response.Status.BAD_REQUEST;
+import static javax.ws.rs.core.Response.Status.NOT_FOUND;
+import static javax.ws.rs.core.Response.Status.NO_CONTENT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+@QuarkusTest
+class BucketReorderIT extends IntegrationHelper {
+
+    public static final String BUCKETS_ORDER_PATH = "/v1/buckets/order";
+    public static final String CARDS_ORDER_PATH = "/v1/buckets/{bucketExternalId}/order";
+
+    @Test
+    void GIVEN_CompleteBucketList_MUST_ApplyNewOrder() {
+
+        // setup
+        var repository = new WriteBucketRepositoryImpl(dataSource);
+        List<String> newOrder = repository.findAll().stream()
+                .map(bucket -> bucket.getBucketExternalId().toString())
+                .collect(Collectors.toCollection(ArrayList::new));
+        Collections.reverse(newOrder);
+
+        // verify
+        given()
+                .contentType(JSON)
+                .body(newOrder).log().body()
+                .when()
+                .put(BUCKETS_ORDER_PATH)
+                .then()
+                .statusCode(NO_CONTENT.getStatusCode());
+
+        assertThat(repository.findAll())
+                .extracting(bucket -> bucket.getBucketExternalId().toString())
+                .containsExactlyElementsOf(newOrder);
+    }
+
+    @Test
+    void GIVEN_CompleteCardList_MUST_ApplyNewOrder() {
+
+        // setup
+        var bucketExternalId = UUID.fromString("3731c747-ea27-42e5-a52b-1dfbfa9617db");
+        Bucket bucket = new WriteBucketRepositoryImpl(dataSource).findByExternalId(bucketExternalId).get();
+        var cardRepository = new WriteCardRepositoryImpl(dataSource);
+        for (var index = 0; index < 3; index++) {
+            cardRepository.create(new Card()
+                    .setBucketId(bucket.getId())
+                    .setCardExternalId(UUID.randomUUID())
+                    .setPosition(faker.number().randomDouble(3, 5000, 6000))
+                    .setName(faker.pokemon().name()));
+        }
+        List<String> newOrder = cardRepository.findByBucketId(bucket.getId()).stream()
+                .map(card -> card.getCardExternalId().toString())
+                .collect(Collectors.toCollection(ArrayList::new));
+        Collections.reverse(newOrder);
+
+        // verify
+        given()
+                .contentType(JSON)
+                .body(newOrder).log().body()
+                .when()
+                .put(CARDS_ORDER_PATH, bucketExternalId)
+                .then()
+                .statusCode(NO_CONTENT.getStatusCode());
+
+        assertThat(cardRepository.findByBucketId(bucket.getId()))
+                .extracting(card -> card.getCardExternalId().toString())
+                .containsExactlyElementsOf(newOrder);
+    }
+
+    @Test
+    void GIVEN_CardsInterleavedWithAnotherBucket_MUST_ApplyNewOrderAroundTheirPositions() {
+
+        // setup
+        var bucketRepository = new WriteBucketRepositoryImpl(dataSource);
+        var cardRepository = new WriteCardRepositoryImpl(dataSource);
+        var reordered = createBucket(bucketRepository, 8100);
+        var other = createBucket(bucketRepository, 8200);
+        var x = createCard(cardRepository, reordered, 8001);
+        var w = createCard(cardRepository, other, 8002);
+        var y = createCard(cardRepository, reordered, 8003);
+        var z = createCard(cardRepository, reordered, 8004);
+        var newOrder = List.of(x.toString(), z.toString(), y.toString());
+
+        // verify
+        given()
+                .contentType(JSON)
+                .body(newOrder).log().body()
+                .when()
+                .put(CARDS_ORDER_PATH, reordered.getBucketExternalId())
+                .then()
+                .statusCode(NO_CONTENT.getStatusCode());
+
+        assertThat(cardRepository.findByBucketId(reordered.getId()))
+                .extracting(card -> card.getCardExternalId().toString())
+                .containsExactlyElementsOf(newOrder);
+        assertThat(cardRepository.findByExternalId(w).get().getPosition()).isEqualTo(8002);
+    }
+
+    @Test
+    void GIVEN_IncompleteCardList_MUST_ReturnBadRequest() {
+
+        given()
+                .contentType(JSON)
+                .body(List.of(UUID.randomUUID().toString())).log().body()
+                .when()
+                .put(CARDS_ORDER_PATH, "3731c747-ea27-42e5-a52b-1dfbfa9617db")
+                .then()
+                .statusCode(BAD_REQUEST.getStatusCode())
+                .contentType(JSON)
+                .assertThat()
+                .body("message", is("Invalid parameter"),
+                        "errors.field", contains("code", "ids"),
+                        "errors.detail", contains("1002", "must list every card of the bucket exactly once"));
+    }
+
+    @Test
+    void GIVEN_InvalidCardId_MUST_ReturnBadRequest() {
+
+        given()
+                .contentType(JSON)
+                .body(List.of("not-an-uuid")).log().body()
+                .when()
+                .put(CARDS_ORDER_PATH, "3731c747-ea27-42e5-a52b-1dfbfa9617db")
+                .then()
+                .statusCode(BAD_REQUEST.getStatusCode())
+                .contentType(JSON)
+                .assertThat()
+                .body("message", is("Invalid parameter"),
+                        "errors.field", contains("cardIds"),
+                        "errors.detail", contains("invalid UUID format"));
+    }
+
+    @Test
+    void GIVEN_NotExistentBucket_MUST_ReturnNotFound() {
+
+        given()
+                .contentType(JSON)
+                .body(List.of()).log().body()
+                .when()
+                .put(CARDS_ORDER_PATH, UUID.randomUUID().toString())
+                .then()
+                .statusCode(NOT_FOUND.getStatusCode());
+    }
+
+    private static Bucket createBucket(WriteBucketRepositoryImpl repository, double position) {
+
+        var bucketExternalId = UUID.randomUUID();
+        repository.create(new Bucket()
+                .setBucketExternalId(bucketExternalId)
+                .setPosition(position)
+                .setName(faker.pokemon().name()));
+
+        return repository.findByExternalId(bucketExternalId).get();
+    }
+
+    private static UUID createCard(WriteCardRepositoryImpl repository, Bucket bucket, double position) {
+
+        var cardExternalId = UUID.randomUUID();
+        repository.create(new Card()
+                .setBucketId(bucket.getId())
+                .setCardExternalId(cardExternalId)
+                .setPosition(position)
+                .setName(faker.pokemon().name()));
+
+        return cardExternalId;
+    }
+}
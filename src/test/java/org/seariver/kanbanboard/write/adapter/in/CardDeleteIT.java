@@ -0,0 +1,123 @@
+package org.seariver.kanbanboard.write.adapter.in;
+
+import helper.IntegrationHelper;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+import org.seariver.kanbanboard.write.adapter.out.WriteCardRepositoryImpl;
+import org.seariver.kanbanboard.write.application.domain.Card;
+
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static io.restassured.http.ContentType.JSON;
+import static javax.ws.rs.core.Response.Status.BAD_REQUEST;
+import static javax.ws.rs.core.Response.Status.NOT_FOUND;
+import static javax.ws.rs.core.Response.Status.NO_CONTENT;
+import static javax.ws.rs.core.Response.Status.OK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+@QuarkusTest
+class CardDeleteIT extends IntegrationHelper {
+
+    public static final String CARD_PATH = "/v1/cards/{cardExternalId}";
+    public static final String ARCHIVED_CARDS_PATH = "/v1/buckets/{bucketExternalId}/archived-cards";
+    public static final String BUCKET_EXTERNAL_ID = "3731c747-ea27-42e5-a52b-1dfbfa9617db";
+
+    @Test
+    void GIVEN_ExistentCard_MUST_DeleteIt() {
+
+        // setup
+        var repository = new WriteCardRepositoryImpl(dataSource);
+        var card = createCard(repository, 14000, 15000);
+
+        // verify
+        given()
+                .when()
+                .delete(CARD_PATH, card.getCardExternalId())
+                .then()
+                .statusCode(NO_CONTENT.getStatusCode());
+
+        assertThat(repository.findByExternalId(card.getCardExternalId())).isEmpty();
+
+        given()
+                .when()
+                .get(ARCHIVED_CARDS_PATH, BUCKET_EXTERNAL_ID)
+                .then()
+                .statusCode(OK.getStatusCode())
+                .body("id", not(hasItem(card.getCardExternalId().toString())));
+    }
+
+    @Test
+    void GIVEN_ArchiveMode_MUST_HideCardFromBoardAndListItAsArchived() {
+
+        // setup
+        var repository = new WriteCardRepositoryImpl(dataSource);
+        var card = createCard(repository, 15000, 16000);
+
+        // verify
+        given()
+                .queryParam("archive", true)
+                .when()
+                .delete(CARD_PATH, card.getCardExternalId())
+                .then()
+                .statusCode(NO_CONTENT.getStatusCode());
+
+        given()
+                .when()
+                .get("/v1/buckets")
+                .then()
+                .statusCode(OK.getStatusCode())
+                .body("cards.flatten().id", not(hasItem(card.getCardExternalId().toString())));
+
+        given()
+                .queryParam("size", 200)
+                .when()
+                .get(ARCHIVED_CARDS_PATH, BUCKET_EXTERNAL_ID)
+                .then()
+                .statusCode(OK.getStatusCode())
+                .contentType(JSON)
+                .body("id", hasItem(card.getCardExternalId().toString()),
+                        "name", hasItem(card.getName()));
+    }
+
+    @Test
+    void GIVEN_NotExistentCard_MUST_ReturnNotFound() {
+
+        given()
+                .when()
+                .delete(CARD_PATH, UUID.randomUUID().toString())
+                .then()
+                .statusCode(NOT_FOUND.getStatusCode())
+                .contentType(JSON)
+                .body("errors.detail", contains("1003"));
+    }
+
+    @Test
+    void GIVEN_InvalidPageSize_MUST_ReturnBadRequest() {
+
+        given()
+                .queryParam("size", 0)
+                .when()
+                .get(ARCHIVED_CARDS_PATH, BUCKET_EXTERNAL_ID)
+                .then()
+                .statusCode(BAD_REQUEST.getStatusCode())
+                .body("message", is("Invalid parameter"),
+                        "errors.field", contains("size"));
+    }
+
+    private Card createCard(WriteCardRepositoryImpl repository, int minPosition, int maxPosition) {
+
+        var card = new Card()
+                .setBucketId(1L)
+                .setCardExternalId(UUID.randomUUID())
+                .setPosition(faker.number().randomDouble(3, minPosition, maxPosition))
+                .setName(faker.pokemon().name());
+        repository.create(card);
+
+        return card;
+    }
+}
@@ -5,6 +5,7 @@ import helper.BlankStringValueProducer;
 import helper.IntegrationHelper;
 import helper.UuidStringValueProducer;
 import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -16,6 +17,7 @@ import java.util.stream.Stream;
 import static io.restassured.RestAssured.given;
 import static io.restassured.http.ContentType.JSON;
 import static javax.ws.rs.core.Response.Status.BAD_REQUEST;
+import static javax.ws.rs.core.Response.Status.NOT_FOUND;
 import static javax.ws.rs.core.Response.Status.NO_CONTENT;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
@@ -78,6 +80,18 @@ public class CardUpdateIT extends IntegrationHelper {
                         "errors.detail", containsInAnyOrder(errorsDetails));
     }
 
+    @Test
+    void GIVEN_NotExistentCard_MUST_ReturnNotFound() {
+
+        given()
+                .contentType(JSON)
+                .body("{\"name\": \"Backlog\"}")
+                .when()
+                .patch(RESOURCE_PATH, UUID.randomUUID().toString())
+                .then()
+                .statusCode(NOT_FOUND.getStatusCode());
+    }
+
     private static Stream<Arguments> provideValidData() {
         return Stream.of(
                 arguments("{name:@s}"),
@@ -0,0 +1,9 @@
+package org.seariver.kanbanboard.write.adapter.in;
+
+import io.quarkus.test.junit.NativeImageTest;
+
+@NativeImageTest
+class NativeCardDeleteIT extends CardDeleteIT {
+
+    // runs the same scenarios against the native executable
+}
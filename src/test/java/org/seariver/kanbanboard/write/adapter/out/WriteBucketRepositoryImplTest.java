@@ -13,6 +13,7 @@ import org.seariver.kanbanboard.write.application.domain.WriteBucketRepository;
 import org.seariver.kanbanboard.write.application.exception.DuplicatedDataException;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -105,6 +106,24 @@ class WriteBucketRepositoryImplTest extends TestHelper {
         assertThat(expectedBucket.getUpdatedAt()).isNotNull();
     }
 
+    @Test
+    void WHEN_DeletingBucket_MUST_RemoveRow() {
+
+        // given
+        var bucket = new Bucket()
+                .setBucketExternalId(UUID.randomUUID())
+                .setPosition(faker.number().randomDouble(3, 13000, 14000))
+                .setName(faker.pokemon().name());
+        repository.create(bucket);
+        var bucketId = repository.findByExternalId(bucket.getBucketExternalId()).get().getId();
+
+        // when
+        repository.delete(bucketId);
+
+        // then
+        assertThat(repository.findByExternalId(bucket.getBucketExternalId())).isEmpty();
+    }
+
     @Test
     void WHEN_UpdatingBucket_GIVEN_AlreadyExistentKey_MUST_ThrowException() {
 
@@ -125,6 +144,30 @@ class WriteBucketRepositoryImplTest extends TestHelper {
         assertThat(exception.getErrors()).containsExactlyInAnyOrderEntriesOf(Map.of("position", alreadyExistentPosition));
     }
 
+    @Test
+    void WHEN_UpdatingPositions_MUST_MoveEveryBucket() {
+
+        // given
+        var firstPosition = faker.number().randomDouble(3, 1000, 2000);
+        var secondPosition = faker.number().randomDouble(3, 3000, 4000);
+        var first = new Bucket().setBucketExternalId(UUID.randomUUID())
+                .setPosition(firstPosition).setName(faker.pokemon().name());
+        var second = new Bucket().setBucketExternalId(UUID.randomUUID())
+                .setPosition(secondPosition).setName(faker.pokemon().name());
+        repository.create(first);
+        repository.create(second);
+
+        // when
+        repository.updatePositions(List.of(first.setPosition(secondPosition + 1), second.setPosition(firstPosition / 2)));
+
+        // then
+        assertThat(repository.findAll())
+                .extracting(Bucket::getBucketExternalId)
+                .containsSubsequence(second.getBucketExternalId(), first.getBucketExternalId());
+        assertThat(repository.findByExternalId(first.getBucketExternalId()).get().getPosition())
+                .isEqualTo(secondPosition + 1);
+    }
+
     private static Stream<Arguments> validDataProvider() {
 
         var positionAsInteger = faker.number().randomDigitNotZero();
@@ -8,11 +8,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.seariver.kanbanboard.write.application.domain.Bucket;
 import org.seariver.kanbanboard.write.application.domain.Card;
 import org.seariver.kanbanboard.write.application.domain.WriteCardRepository;
 import org.seariver.kanbanboard.write.application.exception.DuplicatedDataException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -24,11 +29,13 @@ import static org.junit.jupiter.params.provider.Arguments.arguments;
 @Tag("unit")
 class WriteCardRepositoryImplTest extends TestHelper {
 
+    private DataSourceMock dataSource;
     private WriteCardRepositoryImpl repository;
 
     @BeforeEach
     void setup() {
-        repository = new WriteCardRepositoryImpl(new DataSourceMock());
+        dataSource = new DataSourceMock();
+        repository = new WriteCardRepositoryImpl(dataSource);
     }
 
     @Test
@@ -116,6 +123,152 @@ class WriteCardRepositoryImplTest extends TestHelper {
         assertThat(actualCard.getPosition()).isEqualTo(newPosition);
     }
 
+    @Test
+    void WHEN_UpdatingContentInBatch_MUST_OnlyChangeNameAndDescription() {
+
+        // given
+        var cardExternalId = UUID.fromString("df5cf5b1-c2c7-4c02-b4d4-341d6772f193");
+        var original = repository.findByExternalId(cardExternalId).get();
+        var newName = faker.pokemon().name();
+        var newDescription = faker.lorem().paragraph();
+        var edit = new Card()
+                .setCardExternalId(cardExternalId)
+                .setName(newName)
+                .setDescription(newDescription);
+
+        // when
+        repository.updateContent(List.of(edit));
+
+        // then
+        var actualCard = repository.findByExternalId(cardExternalId).get();
+        assertThat(actualCard.getName()).isEqualTo(newName);
+        assertThat(actualCard.getDescription()).isEqualTo(newDescription);
+        assertThat(actualCard.getBucketId()).isEqualTo(original.getBucketId());
+        assertThat(actualCard.getPosition()).isEqualTo(original.getPosition());
+    }
+
+    @Test
+    void WHEN_UpdatingPositions_MUST_MoveCardsToFreePositionsAndReportHeldOnes() {
+
+        // given
+        var bucketId = 1L;
+        var firstPosition = faker.number().randomDouble(3, 1000, 2000);
+        var secondPosition = faker.number().randomDouble(3, 3000, 4000);
+        var first = new Card().setBucketId(bucketId).setCardExternalId(UUID.randomUUID())
+                .setPosition(firstPosition).setName(faker.pokemon().name());
+        var second = new Card().setBucketId(bucketId).setCardExternalId(UUID.randomUUID())
+                .setPosition(secondPosition).setName(faker.pokemon().name());
+        repository.create(first);
+        repository.create(second);
+        var heldPosition = 200.01;
+
+        // when
+        var held = repository.updatePositions(List.of(
+                first.setPosition(secondPosition + 1), second.setPosition(heldPosition)));
+
+        // then
+        assertThat(held).containsExactly(second);
+        assertThat(repository.findByExternalId(first.getCardExternalId()).get().getPosition())
+                .isEqualTo(secondPosition + 1);
+        assertThat(repository.findByExternalId(second.getCardExternalId()).get().getPosition())
+                .isEqualTo(secondPosition);
+    }
+
+    @Test
+    void WHEN_DeletingCard_MUST_RemoveRowAndReportWhetherItExisted() {
+
+        // given
+        var card = new Card().setBucketId(1L).setCardExternalId(UUID.randomUUID())
+                .setPosition(faker.number().randomDouble(3, 7000, 8000)).setName(faker.pokemon().name());
+        repository.create(card);
+
+        // when
+        var deleted = repository.delete(card.getCardExternalId());
+
+        // then
+        assertThat(deleted).isTrue();
+        assertThat(repository.findByExternalId(card.getCardExternalId())).isEmpty();
+        assertThat(repository.delete(card.getCardExternalId())).isFalse();
+    }
+
+    @Test
+    void WHEN_ArchivingCard_MUST_MoveRowToArchivedCard() {
+
+        // given
+        var card = new Card().setBucketId(1L).setCardExternalId(UUID.randomUUID())
+                .setPosition(faker.number().randomDouble(3, 8000, 9000)).setName(faker.pokemon().name());
+        repository.create(card);
+
+        // when
+        var archived = repository.archive(card.getCardExternalId());
+
+        // then
+        assertThat(archived).isTrue();
+        assertThat(repository.findByExternalId(card.getCardExternalId())).isEmpty();
+        var archivedRow = new NamedParameterJdbcTemplate(dataSource).queryForMap(
+                "SELECT bucket_external_id, name, archived_at FROM archived_card WHERE external_id = :external_id",
+                new MapSqlParameterSource("external_id", card.getCardExternalId()));
+        assertThat(archivedRow.get("bucket_external_id").toString()).isEqualTo("3731c747-ea27-42e5-a52b-1dfbfa9617db");
+        assertThat(archivedRow.get("name")).isEqualTo(card.getName());
+        assertThat(archivedRow.get("archived_at")).isNotNull();
+        assertThat(repository.archive(card.getCardExternalId())).isFalse();
+    }
+
+    @Test
+    void WHEN_ArchivingByBucket_MUST_MoveAtMostLimitCardsPerCall() {
+
+        // given
+        var bucketRepository = new WriteBucketRepositoryImpl(dataSource);
+        var bucket = new Bucket().setBucketExternalId(UUID.randomUUID())
+                .setPosition(faker.number().randomDouble(3, 9000, 10000)).setName(faker.pokemon().name());
+        bucketRepository.create(bucket);
+        var bucketId = bucketRepository.findByExternalId(bucket.getBucketExternalId()).get().getId();
+        var cardIds = new ArrayList<UUID>();
+        for (var index = 0; index < 3; index++) {
+            cardIds.add(UUID.randomUUID());
+            repository.create(new Card().setBucketId(bucketId).setCardExternalId(cardIds.get(index))
+                    .setPosition(faker.number().randomDouble(3, 10000, 11000)).setName(faker.pokemon().name()));
+        }
+        var settled = new ArrayList<UUID>();
+
+        // when
+        var firstBatch = repository.archiveByBucketId(bucketId, 2, settled::addAll);
+        var secondBatch = repository.archiveByBucketId(bucketId, 2, settled::addAll);
+        var thirdBatch = repository.archiveByBucketId(bucketId, 2, settled::addAll);
+
+        // then
+        assertThat(List.of(firstBatch, secondBatch, thirdBatch)).containsExactly(2, 1, 0);
+        assertThat(settled).containsExactlyElementsOf(cardIds);
+        assertThat(repository.findByBucketId(bucketId)).isEmpty();
+        var archivedCount = new NamedParameterJdbcTemplate(dataSource).queryForObject(
+                "SELECT COUNT(*) FROM archived_card WHERE bucket_external_id = :bucket_external_id",
+                new MapSqlParameterSource("bucket_external_id", bucket.getBucketExternalId()), Integer.class);
+        assertThat(archivedCount).isEqualTo(3);
+    }
+
+    @Test
+    void WHEN_DeletingByBucket_MUST_RemoveAtMostLimitCardsPerCall() {
+
+        // given
+        var bucketRepository = new WriteBucketRepositoryImpl(dataSource);
+        var bucket = new Bucket().setBucketExternalId(UUID.randomUUID())
+                .setPosition(faker.number().randomDouble(3, 11000, 12000)).setName(faker.pokemon().name());
+        bucketRepository.create(bucket);
+        var bucketId = bucketRepository.findByExternalId(bucket.getBucketExternalId()).get().getId();
+        for (var index = 0; index < 3; index++) {
+            repository.create(new Card().setBucketId(bucketId).setCardExternalId(UUID.randomUUID())
+                    .setPosition(faker.number().randomDouble(3, 12000, 13000)).setName(faker.pokemon().name()));
+        }
+
+        // when
+        var firstBatch = repository.deleteByBucketId(bucketId, 2, cardIds -> {});
+        var secondBatch = repository.deleteByBucketId(bucketId, 2, cardIds -> {});
+
+        // then
+        assertThat(List.of(firstBatch, secondBatch)).containsExactly(2, 1);
+        assertThat(repository.findByBucketId(bucketId)).isEmpty();
+    }
+
     private static Stream<Arguments> creatingWithDuplicatedDataProvider() {
 
         var existentCardExternalId = UUID.fromString("021944cd-f516-4432-ba8d-44a312267c7d");
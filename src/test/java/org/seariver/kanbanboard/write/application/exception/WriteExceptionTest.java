@@ -1,8 +1,10 @@
 package org.seariver.kanbanboard.write.application.exception;
 
 import helper.TestHelper;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.seariver.kanbanboard.commom.exception.DomainException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.seariver.kanbanboard.write.application.exception.WriteException.Error.BUCKET_NOT_EXIST;
@@ -11,6 +13,11 @@ import static org.seariver.kanbanboard.write.application.exception.WriteExceptio
 @Tag("unit")
 class WriteExceptionTest extends TestHelper {
 
+    @AfterEach
+    void tearDown() {
+        DomainException.setStackTraces(false);
+    }
+
     @Test
     void ALL_UseCaseException_MUST_ImplementsDomainException() {
 
@@ -22,4 +29,33 @@ class WriteExceptionTest extends TestHelper {
         assertThat(duplicatedDataException).isInstanceOf(WriteException.class);
         assertThat(bucketNotExistentException).isInstanceOf(WriteException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    void GIVEN_DefaultSettings_MUST_NotFillStackTraceButKeepCause() {
+
+        // given
+        var cause = new RuntimeException();
+
+        // when
+        var exception = new DuplicatedDataException(INVALID_DUPLICATED_DATA, cause);
+
+        // then
+        assertThat(exception.getStackTrace()).isEmpty();
+        assertThat(exception.getCause()).isSameAs(cause);
+        assertThat(exception.getErrors()).isEmpty();
+        assertThat(exception.hasError()).isFalse();
+    }
+
+    @Test
+    void GIVEN_StackTracesEnabled_MUST_FillStackTrace() {
+
+        // given
+        DomainException.setStackTraces(true);
+
+        // when
+        var exception = new BucketNotExistentException(BUCKET_NOT_EXIST);
+
+        // then
+        assertThat(exception.getStackTrace()).isNotEmpty();
+    }
+}
@@ -0,0 +1,224 @@
+package org.seariver.kanbanboard.write.application.service;
+
+import helper.DataSourceMock;
+import helper.TestHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.seariver.kanbanboard.commom.notification.BoardChangeNotifier;
+import org.seariver.kanbanboard.commom.outbox.DeferredPublication;
+import org.seariver.kanbanboard.commom.outbox.OutboxRepository;
+import org.seariver.kanbanboard.write.application.domain.Card;
+import org.seariver.kanbanboard.write.application.domain.WriteCardRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@Tag("unit")
+public class CardWriteBehindBufferTest extends TestHelper {
+
+    private static final long NEVER_FLUSH_BY_DELAY = 60_000L;
+    private static final String EVENT_TYPE = UpdateCardCommand.class.getCanonicalName();
+
+    @SuppressWarnings("unchecked")
+    private final ArgumentCaptor<List<Card>> captor = ArgumentCaptor.forClass(List.class);
+    private final WriteCardRepository repository = mock(WriteCardRepository.class);
+    private final OutboxRepository outboxRepository = mock(OutboxRepository.class);
+    private final BoardChangeNotifier notifier = mock(BoardChangeNotifier.class);
+
+    @AfterEach
+    void tearDown() {
+        DeferredPublication.take();
+    }
+
+    @Test
+    void GIVEN_SuccessiveEdits_MUST_CoalesceIntoLatestValueAndPublishItWithTheFlush() {
+
+        // given
+        var buffer = buffer(NEVER_FLUSH_BY_DELAY, 100, 5);
+        var cardExternalId = UUID.randomUUID();
+        var latest = command(cardExternalId, "latest");
+        when(outboxRepository.append(EVENT_TYPE, latest)).thenReturn(42L);
+
+        // when
+        buffer.enqueue(command(cardExternalId, "first"));
+        buffer.enqueue(command(cardExternalId, "second"));
+        buffer.enqueue(latest);
+
+        // then
+        verifyNoInteractions(repository, outboxRepository, notifier);
+        assertThat(buffer.size()).isEqualTo(1);
+        assertThat(buffer.findPending(cardExternalId).get().getName()).isEqualTo("latest");
+
+        buffer.flush();
+
+        verify(repository).updateContent(captor.capture());
+        assertThat(captor.getValue()).extracting(Card::getName).containsExactly("latest");
+        verify(outboxRepository).append(EVENT_TYPE, latest);
+        verify(notifier).notifyChange(42L, EVENT_TYPE, latest);
+        assertThat(buffer.findPending(cardExternalId)).isEmpty();
+    }
+
+    @Test
+    void WHEN_EnqueuedInTransaction_MUST_BufferOnCommitAndDeferPublication() {
+
+        // given
+        var buffer = buffer(NEVER_FLUSH_BY_DELAY, 100, 5);
+        var committed = UUID.randomUUID();
+        var rolledBack = UUID.randomUUID();
+        var transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(new DataSourceMock()));
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            buffer.enqueue(command(committed, faker.pokemon().name()));
+
+            // then
+            assertThat(DeferredPublication.take()).isTrue();
+            assertThat(buffer.findPending(committed)).isEmpty();
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            buffer.enqueue(command(rolledBack, faker.pokemon().name()));
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(buffer.findPending(committed)).isPresent();
+        assertThat(buffer.findPending(rolledBack)).isEmpty();
+    }
+
+    @Test
+    void WHEN_MaxPendingReached_MUST_RefuseOtherCardsWithoutFlushing() {
+
+        // given
+        var buffer = buffer(NEVER_FLUSH_BY_DELAY, 2, 5);
+        var buffered = UUID.randomUUID();
+        buffer.enqueue(command(buffered, faker.pokemon().name()));
+        buffer.enqueue(command(UUID.randomUUID(), faker.pokemon().name()));
+        DeferredPublication.take();
+
+        // when
+        var refused = buffer.enqueue(command(UUID.randomUUID(), faker.pokemon().name()));
+
+        // then
+        assertThat(refused).isFalse();
+        assertThat(DeferredPublication.take()).isFalse();
+        assertThat(buffer.enqueue(command(buffered, "replaced"))).isTrue();
+        assertThat(buffer.size()).isEqualTo(2);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void GIVEN_OneCardFailing_MUST_FlushTheOthersAndDropItAfterMaxAttempts() {
+
+        // given
+        var buffer = buffer(NEVER_FLUSH_BY_DELAY, 100, 2);
+        var good = UUID.randomUUID();
+        var bad = UUID.randomUUID();
+        buffer.enqueue(command(good, faker.pokemon().name()));
+        buffer.enqueue(command(bad, faker.pokemon().name()));
+        doThrow(new DataIntegrityViolationException("bad card")).when(repository).updateContent(
+                argThat(cards -> cards.stream().anyMatch(card -> card.getCardExternalId().equals(bad))));
+
+        // when
+        buffer.flush();
+
+        // then
+        assertThat(buffer.findPending(good)).isEmpty();
+        assertThat(buffer.findPending(bad)).isPresent();
+        verify(outboxRepository).append(eq(EVENT_TYPE), argThat(command ->
+                ((UpdateCardCommand) command).getCardExternalId().equals(good)));
+
+        // when
+        buffer.flush();
+
+        // then
+        assertThat(buffer.size()).isZero();
+        verify(outboxRepository, times(1)).append(any(), any());
+    }
+
+    @Test
+    void WHEN_FlushDelayElapses_MUST_PersistInBackground() throws InterruptedException {
+
+        // given
+        var buffer = buffer(10, 100, 5);
+
+        // when
+        buffer.enqueue(command(UUID.randomUUID(), faker.pokemon().name()));
+
+        // then
+        for (var attempt = 0; attempt < 100 && buffer.size() > 0; attempt++) {
+            Thread.sleep(10);
+        }
+        verify(repository).updateContent(captor.capture());
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    void WHEN_ShuttingDown_MUST_FlushPendingEdits() {
+
+        // given
+        var buffer = buffer(NEVER_FLUSH_BY_DELAY, 100, 5);
+        buffer.enqueue(command(UUID.randomUUID(), faker.pokemon().name()));
+
+        // when
+        buffer.onShutdown(null);
+
+        // then
+        verify(repository).updateContent(captor.capture());
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    void WHEN_FlushingGivenCardsInTransaction_MUST_DropThemOnCommitAndKeepThemOnRollback() {
+
+        // given
+        var buffer = buffer(NEVER_FLUSH_BY_DELAY, 100, 5);
+        var archived = UUID.randomUUID();
+        var untouched = UUID.randomUUID();
+        buffer.enqueue(command(archived, faker.pokemon().name()));
+        buffer.enqueue(command(untouched, faker.pokemon().name()));
+        var transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(new DataSourceMock()));
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            buffer.flush(List.of(archived));
+            status.setRollbackOnly();
+        });
+
+        // then
+        verify(repository).updateContent(captor.capture());
+        assertThat(captor.getValue()).extracting(Card::getCardExternalId).containsExactly(archived);
+        assertThat(buffer.findPending(archived)).isPresent();
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> buffer.flush(List.of(archived)));
+
+        // then
+        assertThat(buffer.findPending(archived)).isEmpty();
+        assertThat(buffer.findPending(untouched)).isPresent();
+    }
+
+    private CardWriteBehindBuffer buffer(long flushDelayInMilli, int maxPending, int maxAttempts) {
+        return new CardWriteBehindBuffer(repository, outboxRepository, notifier, new DataSourceMock(),
+                true, flushDelayInMilli, maxPending, maxAttempts);
+    }
+
+    private UpdateCardCommand command(UUID cardExternalId, String name) {
+        return new UpdateCardCommand(cardExternalId.toString(), name, faker.lorem().sentence());
+    }
+}
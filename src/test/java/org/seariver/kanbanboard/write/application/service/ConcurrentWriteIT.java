@@ -0,0 +1,305 @@
+package org.seariver.kanbanboard.write.application.service;
+
+import helper.IntegrationHelper;
+import io.quarkus.test.junit.QuarkusTest;
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.Test;
+import org.seariver.kanbanboard.commom.exception.ServiceOverloadedException;
+import org.seariver.kanbanboard.commom.observable.ServiceBus;
+import org.seariver.kanbanboard.write.application.exception.DuplicatedDataException;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Races writers against one board through the {@link ServiceBus} and checks the board is still consistent afterwards.
+ * <p>
+ * Positions are drawn from a range barely larger than the board, so writers collide on the unique positions and retry
+ * with another one, the way a client would after a conflict. Threads and duration can be raised with the
+ * {@code stress.threads} and {@code stress.duration-ms} system properties.
+ */
+@QuarkusTest
+class ConcurrentWriteIT extends IntegrationHelper {
+
+    final static Logger logger = Logger.getLogger(ConcurrentWriteIT.class);
+
+    private static final int THREADS = Integer.getInteger("stress.threads", 8);
+    private static final long DURATION_IN_MILLI = Long.getLong("stress.duration-ms", 3_000);
+    private static final int MAX_ATTEMPTS = 5;
+    private static final int BUCKETS = 4;
+    private static final int CARDS = 40;
+
+    @Inject
+    ServiceBus serviceBus;
+
+    @Test
+    void WHEN_WritersRaceOnOneBoard_MUST_KeepEveryCardOnceInAnExistingBucket() throws Exception {
+
+        // given
+        var board = seed();
+
+        // when
+        var outcomes = stress(board, () -> board.randomCard(board.cards.size()));
+
+        // then
+        verify(board, outcomes);
+    }
+
+    @Test
+    void WHEN_WritersRaceOnTheSameCards_MUST_KeepEveryCardOnceInAnExistingBucket() throws Exception {
+
+        // given
+        var board = seed();
+
+        // when
+        var outcomes = stress(board, () -> board.randomCard(2));
+
+        // then
+        verify(board, outcomes);
+    }
+
+    private Board seed() {
+
+        var board = new Board(ThreadLocalRandom.current().nextLong(100_000_000, 900_000_000));
+
+        for (var index = 0; index < BUCKETS; index++) {
+            var bucketId = UUID.randomUUID().toString();
+            serviceBus.execute(new CreateBucketCommand(bucketId, board.bucketPosition(index), faker.pokemon().name()));
+            board.buckets.add(bucketId);
+        }
+
+        for (var index = 0; index < CARDS; index++) {
+            var cardId = UUID.randomUUID().toString();
+            serviceBus.execute(new CreateCardCommand(
+                    board.buckets.get(index % BUCKETS), cardId, board.cardPosition(index), faker.pokemon().name()));
+            board.cards.add(cardId);
+        }
+
+        return board;
+    }
+
+    private Outcomes stress(Board board, Supplier<String> cards) throws InterruptedException {
+
+        var outcomes = new Outcomes();
+        var executor = Executors.newFixedThreadPool(THREADS);
+        var start = new CountDownLatch(1);
+        var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_IN_MILLI);
+
+        for (var thread = 0; thread < THREADS; thread++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    while (System.nanoTime() - deadline < 0) {
+                        write(board, cards, outcomes);
+                    }
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        var started = System.nanoTime();
+        start.countDown();
+        shutdown(executor);
+        outcomes.elapsedInNano = System.nanoTime() - started;
+
+        logger.info(outcomes.report());
+
+        return outcomes;
+    }
+
+    private void write(Board board, Supplier<String> cards, Outcomes outcomes) throws InterruptedException {
+
+        var random = ThreadLocalRandom.current();
+        var pick = random.nextInt(100);
+        var createdCardId = pick < 20 ? UUID.randomUUID().toString() : null;
+        Counters counters = null;
+
+        for (var attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+
+            Command command;
+
+            if (createdCardId != null) {
+                command = new CreateCardCommand(board.randomBucket(), createdCardId, board.randomCardPosition(),
+                        faker.pokemon().name());
+            } else if (pick < 90) {
+                command = new MoveCardCommand(board.randomBucket(), cards.get(), board.randomCardPosition());
+            } else {
+                command = new MoveBucketCommand(board.randomBucket(), board.randomBucketPosition());
+            }
+
+            counters = outcomes.of(command);
+            counters.attempts.increment();
+
+            try {
+                serviceBus.execute(command);
+                counters.successes.increment();
+
+                if (createdCardId != null) {
+                    board.cards.add(createdCardId);
+                }
+
+                return;
+
+            } catch (DuplicatedDataException | DuplicateKeyException | ConcurrencyFailureException exception) {
+                counters.conflicts.increment();
+            } catch (ServiceOverloadedException exception) {
+                counters.shed.increment();
+                Thread.sleep(1);
+            } catch (RuntimeException exception) {
+                counters.failures.increment();
+                outcomes.failures.add(command.getClass().getSimpleName() + ": " + exception);
+                return;
+            }
+        }
+
+        counters.abandoned.increment();
+    }
+
+    private void verify(Board board, Outcomes outcomes) {
+
+        var jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        var cardIds = new ArrayList<UUID>();
+        board.cards.forEach(id -> cardIds.add(UUID.fromString(id)));
+        var bucketIds = new HashSet<String>(board.buckets);
+
+        var rows = jdbcTemplate.queryForList(
+                "SELECT c.external_id AS card, c.position AS position, b.external_id AS bucket " +
+                        "FROM card c LEFT JOIN bucket b ON b.id = c.bucket_id " +
+                        "WHERE c.external_id IN (:ids)",
+                new MapSqlParameterSource("ids", cardIds));
+
+        Map<String, Object> bucketOfCard = new HashMap<>();
+        Set<Double> positions = new HashSet<>();
+
+        for (var row : rows) {
+            bucketOfCard.put(row.get("card").toString(), row.get("bucket"));
+            positions.add(((Number) row.get("position")).doubleValue());
+        }
+
+        var bucketCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM bucket WHERE external_id IN (:ids)",
+                new MapSqlParameterSource("ids", board.bucketUuids()), Integer.class);
+
+        assertThat(outcomes.failures).isEmpty();
+        assertThat(outcomes.successes()).isPositive();
+        assertThat(bucketCount).isEqualTo(BUCKETS);
+        assertThat(rows).hasSize(board.cards.size());
+        assertThat(bucketOfCard.keySet()).containsExactlyInAnyOrderElementsOf(board.cards);
+        assertThat(positions).hasSameSizeAs(rows);
+        assertThat(bucketOfCard.values())
+                .allSatisfy(bucket -> assertThat(bucket).isNotNull().extracting(Object::toString).isIn(bucketIds));
+    }
+
+    private void shutdown(ExecutorService executor) throws InterruptedException {
+        executor.shutdown();
+        assertThat(executor.awaitTermination(DURATION_IN_MILLI + 30_000, TimeUnit.MILLISECONDS)).isTrue();
+    }
+
+    private static class Board {
+
+        private final long firstPosition;
+        private final List<String> buckets = new ArrayList<>();
+        private final List<String> cards = Collections.synchronizedList(new ArrayList<>());
+
+        Board(long firstPosition) {
+            this.firstPosition = firstPosition;
+        }
+
+        double bucketPosition(int index) {
+            return firstPosition + index + 1;
+        }
+
+        double cardPosition(int index) {
+            return firstPosition + index + 1;
+        }
+
+        // twice the seeded board, so roughly every other draw hits a taken position
+        double randomBucketPosition() {
+            return bucketPosition(ThreadLocalRandom.current().nextInt(BUCKETS * 2));
+        }
+
+        double randomCardPosition() {
+            return cardPosition(ThreadLocalRandom.current().nextInt(cards.size() * 2));
+        }
+
+        String randomBucket() {
+            return buckets.get(ThreadLocalRandom.current().nextInt(buckets.size()));
+        }
+
+        String randomCard(int among) {
+            return cards.get(ThreadLocalRandom.current().nextInt(Math.min(among, cards.size())));
+        }
+
+        List<UUID> bucketUuids() {
+            var ids = new ArrayList<UUID>();
+            buckets.forEach(id -> ids.add(UUID.fromString(id)));
+            return ids;
+        }
+    }
+
+    private static class Outcomes {
+
+        private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+        private final List<String> failures = Collections.synchronizedList(new ArrayList<>());
+        private long elapsedInNano;
+
+        Counters of(Command command) {
+            return counters.computeIfAbsent(command.getClass().getSimpleName(), key -> new Counters());
+        }
+
+        long successes() {
+            return counters.values().stream().mapToLong(counter -> counter.successes.sum()).sum();
+        }
+
+        String report() {
+
+            var seconds = elapsedInNano / 1_000_000_000d;
+            var output = new StringBuilder(String.format("%d writers for %.1f s, %.0f commands/s%n",
+                    THREADS, seconds, successes() / seconds));
+
+            new TreeMap<>(counters).forEach((command, counter) -> {
+                var attempts = counter.attempts.sum();
+                output.append(String.format("%-20s attempts %7d  ok %7d  conflicts %6d (%5.1f%%)  shed %5d  " +
+                                "abandoned %4d  failures %d%n",
+                        command, attempts, counter.successes.sum(), counter.conflicts.sum(),
+                        attempts == 0 ? 0 : counter.conflicts.sum() * 100d / attempts,
+                        counter.shed.sum(), counter.abandoned.sum(), counter.failures.sum()));
+            });
+
+            return output.toString();
+        }
+    }
+
+    private static class Counters {
+
+        private final LongAdder attempts = new LongAdder();
+        private final LongAdder successes = new LongAdder();
+        private final LongAdder conflicts = new LongAdder();
+        private final LongAdder shed = new LongAdder();
+        private final LongAdder abandoned = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+    }
+}
@@ -0,0 +1,154 @@
+package org.seariver.kanbanboard.write.application.service;
+
+import helper.TestHelper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.seariver.kanbanboard.write.application.domain.Bucket;
+import org.seariver.kanbanboard.write.application.domain.WriteBucketRepository;
+import org.seariver.kanbanboard.write.application.domain.WriteCardRepository;
+import org.seariver.kanbanboard.write.application.exception.BucketNotExistentException;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@Tag("unit")
+public class DeleteBucketHandlerTest extends TestHelper {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Test
+    void GIVEN_ArchiveMode_MUST_ArchiveCardsInBatchesUntilEmptyThenDeleteBucket() {
+
+        // given
+        var bucketExternalId = UUID.randomUUID();
+        var bucketId = faker.number().randomNumber();
+        var command = new DeleteBucketCommand(bucketExternalId.toString(), true);
+        var bucketRepository = mock(WriteBucketRepository.class);
+        var cardRepository = mock(WriteCardRepository.class);
+        when(bucketRepository.findByExternalId(bucketExternalId)).thenReturn(Optional.of(new Bucket().setId(bucketId)));
+        when(cardRepository.archiveByBucketId(eq(bucketId), eq(BATCH_SIZE), any())).thenReturn(2, 2, 1, 0, 0);
+
+        // when
+        var handler = new DeleteBucketHandler(bucketRepository, cardRepository, mock(CardWriteBehindBuffer.class), BATCH_SIZE);
+        handler.prepare(command);
+        handler.handle(command);
+
+        // then
+        var inOrder = inOrder(cardRepository, bucketRepository);
+        inOrder.verify(cardRepository, times(5)).archiveByBucketId(eq(bucketId), eq(BATCH_SIZE), any());
+        inOrder.verify(bucketRepository).delete(bucketId);
+        verify(cardRepository, never()).deleteByBucketId(anyLong(), anyInt(), any());
+    }
+
+    @Test
+    void GIVEN_DeleteMode_MUST_DeleteCardsInBatchesThenDeleteBucket() {
+
+        // given
+        var bucketExternalId = UUID.randomUUID();
+        var bucketId = faker.number().randomNumber();
+        var command = new DeleteBucketCommand(bucketExternalId.toString(), false);
+        var bucketRepository = mock(WriteBucketRepository.class);
+        var cardRepository = mock(WriteCardRepository.class);
+        when(bucketRepository.findByExternalId(bucketExternalId)).thenReturn(Optional.of(new Bucket().setId(bucketId)));
+        when(cardRepository.deleteByBucketId(eq(bucketId), eq(BATCH_SIZE), any())).thenReturn(1, 0, 0);
+
+        // when
+        var handler = new DeleteBucketHandler(bucketRepository, cardRepository, mock(CardWriteBehindBuffer.class), BATCH_SIZE);
+        handler.prepare(command);
+        handler.handle(command);
+
+        // then
+        verify(cardRepository, times(3)).deleteByBucketId(eq(bucketId), eq(BATCH_SIZE), any());
+        verify(cardRepository, never()).archiveByBucketId(anyLong(), anyInt(), any());
+        verify(bucketRepository).delete(bucketId);
+    }
+
+    @Test
+    void GIVEN_WriteBehindEnabled_MUST_SettlePendingEditsOfEachBatchInsideIt() {
+
+        // given
+        var bucketExternalId = UUID.randomUUID();
+        var bucketId = faker.number().randomNumber();
+        var batch = List.of(UUID.randomUUID(), UUID.randomUUID());
+        var bucketRepository = mock(WriteBucketRepository.class);
+        var cardRepository = mock(WriteCardRepository.class);
+        var writeBehind = mock(CardWriteBehindBuffer.class);
+        when(writeBehind.isEnabled()).thenReturn(true);
+        when(bucketRepository.findByExternalId(bucketExternalId)).thenReturn(Optional.of(new Bucket().setId(bucketId)));
+        when(cardRepository.archiveByBucketId(eq(bucketId), eq(BATCH_SIZE), any())).thenAnswer(removeBatch(batch));
+        when(cardRepository.deleteByBucketId(eq(bucketId), eq(BATCH_SIZE), any())).thenAnswer(removeBatch(batch));
+        var handler = new DeleteBucketHandler(bucketRepository, cardRepository, writeBehind, BATCH_SIZE);
+
+        // when
+        handler.prepare(new DeleteBucketCommand(bucketExternalId.toString(), true));
+        handler.prepare(new DeleteBucketCommand(bucketExternalId.toString(), false));
+
+        // then
+        var inOrder = inOrder(writeBehind);
+        inOrder.verify(writeBehind).flush(batch);
+        inOrder.verify(writeBehind).discard(batch);
+        verify(writeBehind, never()).flush();
+    }
+
+    @Test
+    void GIVEN_NotExistentBucket_MUST_PrepareNothing() {
+
+        // given
+        var command = new DeleteBucketCommand(UUID.randomUUID().toString(), true);
+        var cardRepository = mock(WriteCardRepository.class);
+        var handler = new DeleteBucketHandler(
+                mock(WriteBucketRepository.class), cardRepository, mock(CardWriteBehindBuffer.class), BATCH_SIZE);
+
+        // when
+        handler.prepare(command);
+
+        // then
+        verifyNoInteractions(cardRepository);
+    }
+
+    @Test
+    void GIVEN_NotExistentBucket_MUST_ThrowException() {
+
+        // given
+        var command = new DeleteBucketCommand(UUID.randomUUID().toString(), true);
+        var bucketRepository = mock(WriteBucketRepository.class);
+        var cardRepository = mock(WriteCardRepository.class);
+
+        // when
+        var handler = new DeleteBucketHandler(bucketRepository, cardRepository, mock(CardWriteBehindBuffer.class), BATCH_SIZE);
+
+        // then
+        assertThrows(BucketNotExistentException.class, () -> handler.handle(command));
+        verifyNoInteractions(cardRepository);
+    }
+
+    private static Answer<Integer> removeBatch(List<UUID> batch) {
+
+        var removed = new AtomicBoolean();
+
+        return invocation -> {
+            if (removed.getAndSet(true)) {
+                return 0;
+            }
+            invocation.<Consumer<List<UUID>>>getArgument(2).accept(batch);
+            return batch.size();
+        };
+    }
+}
@@ -0,0 +1,98 @@
+package org.seariver.kanbanboard.write.application.service;
+
+import helper.TestHelper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.seariver.kanbanboard.write.application.domain.WriteCardRepository;
+import org.seariver.kanbanboard.write.application.exception.CardNotExistentException;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Tag("unit")
+public class DeleteCardHandlerTest extends TestHelper {
+
+    @Test
+    void GIVEN_ExistentCard_MUST_DeleteIt() {
+
+        // given
+        var cardExternalId = UUID.randomUUID();
+        var command = new DeleteCardCommand(cardExternalId.toString(), false);
+        var repository = mock(WriteCardRepository.class);
+        when(repository.delete(cardExternalId)).thenReturn(true);
+
+        // when
+        var handler = new DeleteCardHandler(repository, mock(CardWriteBehindBuffer.class));
+        handler.handle(command);
+
+        // then
+        verify(repository).delete(cardExternalId);
+        verify(repository, never()).archive(any());
+    }
+
+    @Test
+    void GIVEN_ArchiveMode_MUST_FlushPendingEditsBeforeArchiving() {
+
+        // given
+        var cardExternalId = UUID.randomUUID();
+        var command = new DeleteCardCommand(cardExternalId.toString(), true);
+        var repository = mock(WriteCardRepository.class);
+        var writeBehind = mock(CardWriteBehindBuffer.class);
+        when(writeBehind.isEnabled()).thenReturn(true);
+        when(repository.archive(cardExternalId)).thenReturn(true);
+
+        // when
+        var handler = new DeleteCardHandler(repository, writeBehind);
+        handler.handle(command);
+
+        // then
+        var inOrder = inOrder(writeBehind, repository);
+        inOrder.verify(writeBehind).flush(List.of(cardExternalId));
+        inOrder.verify(repository).archive(cardExternalId);
+        verify(repository, never()).delete(any());
+    }
+
+    @Test
+    void GIVEN_DeleteMode_MUST_DiscardPendingEditsOfDeletedCardOnly() {
+
+        // given
+        var cardExternalId = UUID.randomUUID();
+        var command = new DeleteCardCommand(cardExternalId.toString(), false);
+        var repository = mock(WriteCardRepository.class);
+        var writeBehind = mock(CardWriteBehindBuffer.class);
+        when(writeBehind.isEnabled()).thenReturn(true);
+        when(repository.delete(cardExternalId)).thenReturn(true);
+
+        // when
+        new DeleteCardHandler(repository, writeBehind).handle(command);
+
+        // then
+        verify(writeBehind).discard(List.of(cardExternalId));
+        verify(writeBehind, never()).flush();
+    }
+
+    @Test
+    void GIVEN_NotExistentCard_MUST_ThrowException() {
+
+        // given
+        var command = new DeleteCardCommand(UUID.randomUUID().toString(), false);
+        var repository = mock(WriteCardRepository.class);
+
+        // when
+        var handler = new DeleteCardHandler(repository, mock(CardWriteBehindBuffer.class));
+        var exception = assertThrows(CardNotExistentException.class, () -> handler.handle(command));
+
+        // then
+        assertThat(exception.getMessage()).isEqualTo("Card not exist");
+        assertThat(exception.getCode()).isEqualTo(1003);
+    }
+}
@@ -0,0 +1,72 @@
+package org.seariver.kanbanboard.write.application.service;
+
+import helper.TestHelper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.seariver.kanbanboard.write.application.domain.Bucket;
+import org.seariver.kanbanboard.write.application.domain.WriteBucketRepository;
+import org.seariver.kanbanboard.write.application.exception.InvalidOrderException;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Tag("unit")
+public class ReorderBucketHandlerTest extends TestHelper {
+
+    @SuppressWarnings("unchecked")
+    private final ArgumentCaptor<List<Bucket>> captor = ArgumentCaptor.forClass(List.class);
+
+    @Test
+    void GIVEN_NewOrder_MUST_UpdateOnlyMovedBuckets() {
+
+        // given
+        var todo = new Bucket().setBucketExternalId(UUID.randomUUID()).setPosition(10.0);
+        var doing = new Bucket().setBucketExternalId(UUID.randomUUID()).setPosition(20.0);
+        var done = new Bucket().setBucketExternalId(UUID.randomUUID()).setPosition(30.0);
+        var repository = mock(WriteBucketRepository.class);
+        when(repository.findAll()).thenReturn(List.of(todo, doing, done));
+        var command = new ReorderBucketCommand(List.of(
+                doing.getBucketExternalId().toString(),
+                done.getBucketExternalId().toString(),
+                todo.getBucketExternalId().toString()));
+
+        // when
+        var handler = new ReorderBucketHandler(repository);
+        handler.handle(command);
+
+        // then
+        verify(repository).updatePositions(captor.capture());
+        assertThat(captor.getValue()).containsExactly(todo);
+        assertThat(todo.getPosition()).isGreaterThan(30.0);
+    }
+
+    @Test
+    void GIVEN_DuplicatedIds_MUST_ThrowException() {
+
+        // given
+        var todo = new Bucket().setBucketExternalId(UUID.randomUUID()).setPosition(10.0);
+        var doing = new Bucket().setBucketExternalId(UUID.randomUUID()).setPosition(20.0);
+        var repository = mock(WriteBucketRepository.class);
+        when(repository.findAll()).thenReturn(List.of(todo, doing));
+        var command = new ReorderBucketCommand(List.of(
+                todo.getBucketExternalId().toString(),
+                todo.getBucketExternalId().toString()));
+
+        // when
+        var handler = new ReorderBucketHandler(repository);
+        var exception = assertThrows(InvalidOrderException.class, () -> handler.handle(command));
+
+        // then
+        assertThat(exception.getMessage()).isEqualTo("Invalid order");
+        verify(repository, never()).updatePositions(any());
+    }
+}
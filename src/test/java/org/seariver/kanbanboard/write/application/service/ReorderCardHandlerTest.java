@@ -0,0 +1,152 @@
+package org.seariver.kanbanboard.write.application.service;
+
+import helper.TestHelper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.seariver.kanbanboard.write.application.domain.Bucket;
+import org.seariver.kanbanboard.write.application.domain.Card;
+import org.seariver.kanbanboard.write.application.domain.WriteBucketRepository;
+import org.seariver.kanbanboard.write.application.domain.WriteCardRepository;
+import org.seariver.kanbanboard.write.application.exception.BucketNotExistentException;
+import org.seariver.kanbanboard.write.application.exception.InvalidOrderException;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Tag("unit")
+public class ReorderCardHandlerTest extends TestHelper {
+
+    @SuppressWarnings("unchecked")
+    private final ArgumentCaptor<List<Card>> captor = ArgumentCaptor.forClass(List.class);
+
+    @Test
+    void GIVEN_NewOrder_MUST_UpdateOnlyMovedCards() {
+
+        // given
+        var bucketId = 10L;
+        var bucketExternalId = UUID.randomUUID();
+        var first = new Card().setCardExternalId(UUID.randomUUID()).setPosition(1.0);
+        var second = new Card().setCardExternalId(UUID.randomUUID()).setPosition(2.0);
+        var third = new Card().setCardExternalId(UUID.randomUUID()).setPosition(3.0);
+        var bucketRepository = mock(WriteBucketRepository.class);
+        var cardRepository = mock(WriteCardRepository.class);
+        when(bucketRepository.findByExternalId(bucketExternalId))
+                .thenReturn(Optional.of(new Bucket().setId(bucketId).setBucketExternalId(bucketExternalId)));
+        when(cardRepository.findByBucketId(bucketId)).thenReturn(List.of(first, second, third));
+        var command = new ReorderCardCommand(bucketExternalId.toString(), List.of(
+                third.getCardExternalId().toString(),
+                first.getCardExternalId().toString(),
+                second.getCardExternalId().toString()));
+
+        // when
+        var handler = new ReorderCardHandler(bucketRepository, cardRepository);
+        handler.handle(command);
+
+        // then
+        verify(cardRepository).updatePositions(captor.capture());
+        assertThat(captor.getValue()).containsExactly(third);
+        assertThat(third.getPosition()).isBetween(0.0, 1.0);
+        assertThat(first.getPosition()).isEqualTo(1.0);
+        assertThat(second.getPosition()).isEqualTo(2.0);
+    }
+
+    @Test
+    void GIVEN_PlannedPositionHeldByAnotherBucket_MUST_ReplanTheCard() {
+
+        // given
+        var bucketExternalId = UUID.randomUUID();
+        var x = new Card().setCardExternalId(UUID.randomUUID()).setPosition(1.0);
+        var y = new Card().setCardExternalId(UUID.randomUUID()).setPosition(3.0);
+        var z = new Card().setCardExternalId(UUID.randomUUID()).setPosition(4.0);
+        var bucketRepository = mock(WriteBucketRepository.class);
+        var cardRepository = mock(WriteCardRepository.class);
+        when(bucketRepository.findByExternalId(bucketExternalId))
+                .thenReturn(Optional.of(new Bucket().setId(1L).setBucketExternalId(bucketExternalId)));
+        when(cardRepository.findByBucketId(1L)).thenReturn(List.of(x, y, z));
+        when(cardRepository.updatePositions(any())).thenReturn(List.of(z), List.of());
+        var command = new ReorderCardCommand(bucketExternalId.toString(), List.of(
+                x.getCardExternalId().toString(),
+                z.getCardExternalId().toString(),
+                y.getCardExternalId().toString()));
+
+        // when
+        new ReorderCardHandler(bucketRepository, cardRepository).handle(command);
+
+        // then
+        verify(cardRepository, times(2)).updatePositions(captor.capture());
+        assertThat(captor.getAllValues()).allSatisfy(cards -> assertThat(cards).containsExactly(z));
+        assertThat(z.getPosition()).isStrictlyBetween(1.0, 3.0).isNotEqualTo(2.0);
+    }
+
+    @Test
+    void GIVEN_SameOrder_MUST_NotTouchDatabase() {
+
+        // given
+        var bucketExternalId = UUID.randomUUID();
+        var card = new Card().setCardExternalId(UUID.randomUUID()).setPosition(1.0);
+        var bucketRepository = mock(WriteBucketRepository.class);
+        var cardRepository = mock(WriteCardRepository.class);
+        when(bucketRepository.findByExternalId(bucketExternalId))
+                .thenReturn(Optional.of(new Bucket().setId(1L).setBucketExternalId(bucketExternalId)));
+        when(cardRepository.findByBucketId(1L)).thenReturn(List.of(card));
+        var command = new ReorderCardCommand(bucketExternalId.toString(), List.of(card.getCardExternalId().toString()));
+
+        // when
+        new ReorderCardHandler(bucketRepository, cardRepository).handle(command);
+
+        // then
+        verify(cardRepository, never()).updatePositions(any());
+    }
+
+    @Test
+    void GIVEN_IncompleteList_MUST_ThrowException() {
+
+        // given
+        var bucketExternalId = UUID.randomUUID();
+        var bucketRepository = mock(WriteBucketRepository.class);
+        var cardRepository = mock(WriteCardRepository.class);
+        when(bucketRepository.findByExternalId(bucketExternalId))
+                .thenReturn(Optional.of(new Bucket().setId(1L).setBucketExternalId(bucketExternalId)));
+        when(cardRepository.findByBucketId(1L)).thenReturn(List.of(
+                new Card().setCardExternalId(UUID.randomUUID()).setPosition(1.0),
+                new Card().setCardExternalId(UUID.randomUUID()).setPosition(2.0)));
+        var command = new ReorderCardCommand(bucketExternalId.toString(), List.of(UUID.randomUUID().toString()));
+
+        // when
+        var handler = new ReorderCardHandler(bucketRepository, cardRepository);
+        var exception = assertThrows(InvalidOrderException.class, () -> handler.handle(command));
+
+        // then
+        assertThat(exception.getCode()).isEqualTo(1002);
+        verify(cardRepository, never()).updatePositions(any());
+    }
+
+    @Test
+    void GIVEN_NotExistentBucket_MUST_ThrowException() {
+
+        // given
+        var bucketExternalId = UUID.randomUUID();
+        var bucketRepository = mock(WriteBucketRepository.class);
+        var cardRepository = mock(WriteCardRepository.class);
+        when(bucketRepository.findByExternalId(bucketExternalId)).thenReturn(Optional.empty());
+        var command = new ReorderCardCommand(bucketExternalId.toString(), List.of());
+
+        // when
+        var handler = new ReorderCardHandler(bucketRepository, cardRepository);
+        var exception = assertThrows(BucketNotExistentException.class, () -> handler.handle(command));
+
+        // then
+        assertThat(exception.getMessage()).isEqualTo("Bucket not exist");
+    }
+}
@@ -0,0 +1,72 @@
+package org.seariver.kanbanboard.write.application.service;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+@Tag("unit")
+class ReorderPlannerTest {
+
+    @ParameterizedTest
+    @MethodSource("provideOrders")
+    void GIVEN_RequestedOrder_MUST_ProduceIncreasingPositionsChangingFewestItems(double[] currentPositions,
+                                                                                int expectedChanges) {
+        // when
+        var planned = ReorderPlanner.plan(currentPositions);
+
+        // then
+        IntStream.range(1, planned.length).forEach(index ->
+                assertThat(planned[index]).isGreaterThan(planned[index - 1]));
+        IntStream.range(0, planned.length).forEach(index ->
+                assertThat(planned[index]).isPositive());
+        var changes = IntStream.range(0, planned.length)
+                .filter(index -> planned[index] != currentPositions[index])
+                .count();
+        assertThat(changes).isEqualTo(expectedChanges);
+        var current = ReorderPlanner.occupied(currentPositions);
+        IntStream.range(0, planned.length)
+                .filter(index -> planned[index] != currentPositions[index])
+                .forEach(index -> assertThat(planned[index]).isNotIn(current));
+    }
+
+    @Test
+    void GIVEN_PlannedPositionHeldOutsideTheReorder_MUST_ReplanItBetweenItsNeighbours() {
+
+        // given
+        var planned = new double[]{1, 2, 3};
+        var occupied = ReorderPlanner.occupied(new double[]{1, 2, 3, 1.5});
+
+        // when
+        var replanned = ReorderPlanner.replan(planned, 1, occupied);
+
+        // then
+        assertThat(replanned).isStrictlyBetween(1.0, 3.0).isNotIn(occupied);
+
+        // and
+        var tail = ReorderPlanner.replan(planned, 2, occupied);
+
+        assertThat(tail).isGreaterThan(2.0).isNotIn(occupied);
+    }
+
+    private static Stream<Arguments> provideOrders() {
+        return Stream.of(
+                arguments(new double[]{}, 0),
+                arguments(new double[]{1.5}, 0),
+                arguments(new double[]{1, 2, 3, 4}, 0),
+                arguments(new double[]{4, 1, 2, 3}, 1),
+                arguments(new double[]{2, 3, 4, 1}, 1),
+                arguments(new double[]{1, 3, 2, 4}, 1),
+                arguments(new double[]{4, 3, 2, 1}, 3),
+                arguments(new double[]{5, 2, 3, 1}, 2),
+                arguments(new double[]{100.01, 300.5, 200.01, 50.2, 400}, 2)
+        );
+    }
+}
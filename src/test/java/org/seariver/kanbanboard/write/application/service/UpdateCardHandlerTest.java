@@ -5,13 +5,18 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.seariver.kanbanboard.write.application.domain.Card;
 import org.seariver.kanbanboard.write.application.domain.WriteCardRepository;
+import org.seariver.kanbanboard.write.application.exception.CardNotExistentException;
 
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @Tag("unit")
@@ -31,7 +36,7 @@ public class UpdateCardHandlerTest extends TestHelper {
         when(repository.findByExternalId(cardExternalId)).thenReturn(Optional.of(card));
 
         // when
-        var handler = new UpdateCardHandler(repository);
+        var handler = new UpdateCardHandler(repository, mock(CardWriteBehindBuffer.class));
         handler.handle(command);
 
         // then
@@ -40,4 +45,90 @@ public class UpdateCardHandlerTest extends TestHelper {
         assertThat(card.getName()).isEqualTo(name);
         assertThat(card.getDescription()).isEqualTo(description);
     }
+
+    @Test
+    void GIVEN_WriteBehindEnabled_MUST_EnqueueCommandWithoutUpdatingCard() {
+
+        // given
+        var cardExternalId = UUID.randomUUID();
+        var command = new UpdateCardCommand(cardExternalId.toString(), faker.pokemon().name(), faker.lorem().paragraph());
+
+        var repository = mock(WriteCardRepository.class);
+        when(repository.findByExternalId(cardExternalId)).thenReturn(Optional.of(new Card()));
+        var writeBehind = mock(CardWriteBehindBuffer.class);
+        when(writeBehind.isEnabled()).thenReturn(true);
+        when(writeBehind.enqueue(command)).thenReturn(true);
+
+        // when
+        var handler = new UpdateCardHandler(repository, writeBehind);
+        handler.handle(command);
+
+        // then
+        verify(writeBehind).enqueue(command);
+        verify(repository, never()).update(any());
+    }
+
+    @Test
+    void GIVEN_WriteBehindFull_MUST_UpdateCardWithTheCommand() {
+
+        // given
+        var cardExternalId = UUID.randomUUID();
+        var name = faker.pokemon().name();
+        var command = new UpdateCardCommand(cardExternalId.toString(), name, null);
+
+        var repository = mock(WriteCardRepository.class);
+        var card = new Card();
+        when(repository.findByExternalId(cardExternalId)).thenReturn(Optional.of(card));
+        var writeBehind = mock(CardWriteBehindBuffer.class);
+        when(writeBehind.isEnabled()).thenReturn(true);
+        when(writeBehind.enqueue(command)).thenReturn(false);
+
+        // when
+        var handler = new UpdateCardHandler(repository, writeBehind);
+        handler.handle(command);
+
+        // then
+        verify(repository).update(card);
+        assertThat(card.getName()).isEqualTo(name);
+    }
+
+    @Test
+    void GIVEN_WriteBehindEnabledAndNotExistentCard_MUST_ThrowExceptionWithoutEnqueueing() {
+
+        // given
+        var command = new UpdateCardCommand(UUID.randomUUID().toString(), faker.pokemon().name(), null);
+        var repository = mock(WriteCardRepository.class);
+        when(repository.findByExternalId(any())).thenReturn(Optional.empty());
+        var writeBehind = mock(CardWriteBehindBuffer.class);
+        when(writeBehind.isEnabled()).thenReturn(true);
+
+        // when
+        var handler = new UpdateCardHandler(repository, writeBehind);
+        var exception = assertThrows(CardNotExistentException.class, () -> handler.handle(command));
+
+        // then
+        assertThat(exception.getCode()).isEqualTo(1003);
+        verify(writeBehind, never()).enqueue(any());
+    }
+
+    @Test
+    void GIVEN_WriteBehindEnabledAndPendingCard_MUST_EnqueueWithoutLookingItUp() {
+
+        // given
+        var cardExternalId = UUID.randomUUID();
+        var command = new UpdateCardCommand(cardExternalId.toString(), faker.pokemon().name(), null);
+        var repository = mock(WriteCardRepository.class);
+        var writeBehind = mock(CardWriteBehindBuffer.class);
+        when(writeBehind.isEnabled()).thenReturn(true);
+        when(writeBehind.findPending(cardExternalId)).thenReturn(Optional.of(new Card()));
+        when(writeBehind.enqueue(command)).thenReturn(true);
+
+        // when
+        var handler = new UpdateCardHandler(repository, writeBehind);
+        handler.handle(command);
+
+        // then
+        verify(writeBehind).enqueue(any());
+        verifyNoInteractions(repository);
+    }
 }